@@ -0,0 +1,68 @@
+package com.amaris.employee_management.benchmark;
+
+import com.amaris.employee_management.client.dto.EmployeeDTO;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic employee datasets shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds employees shaped like the ones returned by the external API.
+     *
+     * @param size Number of employees
+     * @return Employee DTOs with IDs 1..size
+     */
+    static List<EmployeeDTO> employeeDtos(int size) {
+        List<EmployeeDTO> dtos = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            dtos.add(new EmployeeDTO(id, "Employee " + id, 20 + (int) (id % 45),
+                    1000.0 + id * 10, "https://example.com/images/" + id + ".jpg"));
+        }
+        return dtos;
+    }
+
+    /**
+     * Builds employees as they are stored in the cache and returned by the service.
+     *
+     * @param size Number of employees
+     * @return Employee values with IDs 1..size
+     */
+    static List<Employee> employees(int size) {
+        return entities(size).stream()
+                .map(EmployeeEntity::toEmployee)
+                .toList();
+    }
+
+    /**
+     * Builds employees as they are stored in the local database.
+     *
+     * @param size Number of employees
+     * @return Employee entities with IDs 1..size
+     */
+    static List<EmployeeEntity> entities(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmployeeEntity> employees = new ArrayList<>(size);
+        for (EmployeeDTO dto : employeeDtos(size)) {
+            employees.add(EmployeeEntity.builder()
+                    .id(dto.getId())
+                    .name(dto.getName())
+                    .age(dto.getAge())
+                    .salary(dto.getSalary())
+                    .profileImage(dto.getProfileImage())
+                    .annualSalary(dto.getSalary() * 12)
+                    .lastUpdated(now)
+                    .build());
+        }
+        return employees;
+    }
+}
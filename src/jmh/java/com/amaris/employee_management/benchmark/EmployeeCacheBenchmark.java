@@ -0,0 +1,95 @@
+package com.amaris.employee_management.benchmark;
+
+import com.amaris.employee_management.metrics.EmployeeCacheMetrics;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.metrics.InstrumentedCaffeineCache;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cache hits on the "employees" cache, with and without the
+ * per-key-class instrumentation of {@link InstrumentedCaffeineCache}.
+ * Runs with several threads so contention on the hit counters shows up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class EmployeeCacheBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private Cache plainCache;
+    private Cache instrumentedCache;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EmployeeCacheMetrics cacheMetrics = new EmployeeCacheMetrics(meterRegistry,
+                new EmployeeMetrics(meterRegistry, List.of(25L, 100L, 500L)));
+        plainCache = new CaffeineCache(EmployeeCacheWriter.CACHE_NAME,
+                Caffeine.newBuilder().maximumSize(size + 1L).build(), false);
+        instrumentedCache = new InstrumentedCaffeineCache(EmployeeCacheWriter.CACHE_NAME,
+                Caffeine.newBuilder().maximumSize(size + 1L).build(), false, cacheMetrics);
+
+        List<Employee> employees = BenchmarkData.employees(size);
+        ids = new String[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = String.valueOf(employees.get(i).id());
+        }
+        for (Cache cache : List.of(plainCache, instrumentedCache)) {
+            cache.put(EmployeeCacheWriter.ALL_KEY, employees);
+            employees.forEach(employee -> cache.put(String.valueOf(employee.id()), employee));
+        }
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper plainHitById() {
+        return plainCache.get(randomId());
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper instrumentedHitById() {
+        return instrumentedCache.get(randomId());
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper plainHitAll() {
+        return plainCache.get(EmployeeCacheWriter.ALL_KEY);
+    }
+
+    @Benchmark
+    public Cache.ValueWrapper instrumentedHitAll() {
+        return instrumentedCache.get(EmployeeCacheWriter.ALL_KEY);
+    }
+
+    private String randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,112 @@
+package com.amaris.employee_management.benchmark;
+
+import com.amaris.employee_management.EmployeeManagementApplication;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.amaris.employee_management.service.EmployeeExportService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures {@code GET /employees/export}: streaming the whole employee table as CSV,
+ * plain and gzip compressed, into an output that discards the bytes.
+ *
+ * The table lives in an H2 file database under the temp directory, filled once per
+ * row count. The heap is capped at 256 MB, far below the size of 5M employees,
+ * so the export only completes if it really runs in constant memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class EmployeeExportBenchmark {
+    private static final int INSERT_CHUNK = 100_000;
+
+    @Param({"100000", "5000000"})
+    private int size;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeExportService exportService;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        String database = new File(System.getProperty("java.io.tmpdir"), "employee-export-benchmark").getPath();
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.amaris.employee_management=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.web=WARN",
+                        "logging.level.org.springframework.cache=WARN",
+                        "employee.warmup.enabled=false",
+                        "employee.refresh.enabled=false")
+                // An argument, default properties would lose against the datasource of the local profile
+                .run("--spring.datasource.url=jdbc:h2:file:" + database);
+        exportService = context.getBean(EmployeeExportService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class);
+        if (rows == null || rows != size) {
+            jdbcTemplate.execute("TRUNCATE TABLE employees RESTART IDENTITY");
+            // In chunks, a single statement would keep every row in the heap until it commits
+            for (int from = 1; from <= size; from += INSERT_CHUNK) {
+                jdbcTemplate.update("INSERT INTO employees "
+                        + "(name, age, salary, profile_image, annual_salary, last_updated) "
+                        + "SELECT 'Employee ' || X, 20 + MOD(X, 45), 1000 + MOD(X, 9000), '', "
+                        + "12 * (1000 + MOD(X, 9000)), CURRENT_TIMESTAMP FROM SYSTEM_RANGE(?, ?)",
+                        from, Math.min(size, from + INSERT_CHUNK - 1));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        return exportService.writeCsv(EmployeeFields.ALL, () -> gzip ? new GZIPOutputStream(new Discard(), 16 * 1024)
+                : new Discard());
+    }
+
+    /** Output discarding every byte, like a fast client */
+    private static final class Discard extends OutputStream {
+        @Override
+        public void write(int b) {
+            // Discarded
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // Discarded
+        }
+    }
+}
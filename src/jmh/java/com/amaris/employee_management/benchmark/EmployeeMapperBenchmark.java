@@ -0,0 +1,49 @@
+package com.amaris.employee_management.benchmark;
+
+import com.amaris.employee_management.client.dto.EmployeeDTO;
+import com.amaris.employee_management.mapper.EmployeeMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EmployeeMapper#toEmployee(EmployeeDTO)} over a full employee list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private final EmployeeMapper mapper = new EmployeeMapper();
+    private List<EmployeeDTO> dtos;
+
+    @Setup
+    public void setUp() {
+        dtos = BenchmarkData.employeeDtos(size);
+    }
+
+    @Benchmark
+    public void toEmployee(Blackhole blackhole) {
+        for (EmployeeDTO dto : dtos) {
+            blackhole.consume(mapper.toEmployee(dto));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.amaris.employee_management.benchmark;
+
+import com.amaris.employee_management.client.EmployeeFeignClient;
+import com.amaris.employee_management.client.dto.EmployeeDTO;
+import com.amaris.employee_management.client.dto.ResponseDTO;
+import com.amaris.employee_management.config.FeignRateLimitInterceptor;
+import com.amaris.employee_management.mapper.EmployeeMapper;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.repository.EmployeeJdbcWriter;
+import com.amaris.employee_management.repository.EmployeeRepository;
+import com.amaris.employee_management.service.EmployeeBatchLoader;
+import com.amaris.employee_management.service.EmployeeBulkheads;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.amaris.employee_management.service.EmployeeChangeFeed;
+import com.amaris.employee_management.service.EmployeeIdFilter;
+import com.amaris.employee_management.service.EmployeeServiceImpl;
+import com.amaris.employee_management.service.EmployeeSourceRacer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@code findAllEmployees} pipeline of {@link EmployeeServiceImpl}:
+ * mapping, annual salary, timestamp, known ID filter and metrics, without the cache proxy.
+ *
+ * The external API answers instantly from memory and {@code upsertAll} is a no-op,
+ * so only the in-process cost of the read path is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeReadPathBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private EmployeeServiceImpl service;
+
+    @Setup
+    public void setUp() {
+        ResponseDTO<List<EmployeeDTO>> response =
+                new ResponseDTO<>("success", BenchmarkData.employeeDtos(size), null);
+        EmployeeFeignClient feignClient = new EmployeeFeignClient() {
+            @Override
+            public ResponseDTO<List<EmployeeDTO>> getAllEmployees() {
+                return response;
+            }
+
+            @Override
+            public ResponseDTO<EmployeeDTO> getEmployeeById(String id) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        EmployeeRepository repository = (EmployeeRepository) Proxy.newProxyInstance(
+                EmployeeRepository.class.getClassLoader(),
+                new Class<?>[]{EmployeeRepository.class},
+                (proxy, method, args) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        EmployeeJdbcWriter jdbcWriter = new EmployeeJdbcWriter(null) {
+            @Override
+            public int upsertAll(List<Employee> employees) {
+                return employees.size();
+            }
+
+            @Override
+            public List<Long> findLocalOnlyIds() {
+                return List.of();
+            }
+        };
+        EmployeeMetrics metrics = new EmployeeMetrics(new SimpleMeterRegistry(), List.of(25L, 100L, 500L));
+        FeignRateLimitInterceptor rateLimiter = new FeignRateLimitInterceptor(metrics) {
+            @Override
+            public void releasePermit() {
+                // No permit is acquired since no request goes through Feign
+            }
+        };
+        EmployeeChangeFeed changeFeed = new EmployeeChangeFeed(null, metrics) {
+            @Override
+            public void syncedAll(List<Employee> employees, List<Employee> localOnly) {
+                // Changes are compared on the dispatcher thread, off the read path
+            }
+        };
+        EmployeeIdFilter idFilter = new EmployeeIdFilter(
+                new ConcurrentMapCacheManager(EmployeeIdFilter.MISSING_CACHE_NAME), metrics);
+        ReflectionTestUtils.setField(idFilter, "enabled", true);
+        ReflectionTestUtils.setField(idFilter, "headroom", 100L);
+        ReflectionTestUtils.setField(idFilter, "falsePositiveRate", 0.01);
+        service = new EmployeeServiceImpl(feignClient, new EmployeeMapper(), repository, rateLimiter, metrics,
+                idFilter, new EmployeeBulkheads(metrics, 10, 10, 50, 20, 50, 200, 2, 0, 0),
+                new EmployeeSourceRacer(metrics), new EmployeeCacheWriter(new ConcurrentMapCacheManager()), changeFeed,
+                jdbcWriter, new EmployeeBatchLoader(metrics));
+    }
+
+    @Benchmark
+    public List<Employee> findAllEmployees() {
+        return service.findAllEmployees();
+    }
+}
@@ -0,0 +1,83 @@
+package com.amaris.employee_management.benchmark;
+
+import com.amaris.employee_management.EmployeeManagementApplication;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.repository.EmployeeJdbcWriter;
+import com.amaris.employee_management.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link EmployeeJdbcWriter#upsertAll(List)} against the in-memory H2
+ * database of the local profile, as done after every successful upstream read.
+ *
+ * The table is emptied before each iteration, so the first invocation inserts
+ * and the following ones find the rows unchanged, like repeated refreshes do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeRepositoryBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository repository;
+    private EmployeeJdbcWriter jdbcWriter;
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(EmployeeManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.amaris.employee_management=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.web=WARN",
+                        "logging.level.org.springframework.cache=WARN",
+                        "employee.warmup.enabled=false",
+                        "employee.refresh.enabled=false")
+                .run();
+        repository = context.getBean(EmployeeRepository.class);
+        jdbcWriter = context.getBean(EmployeeJdbcWriter.class);
+        employees = BenchmarkData.employees(size);
+    }
+
+    @Setup(Level.Iteration)
+    public void clearTable() {
+        repository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Benchmark
+    public int upsertAll() {
+        return jdbcWriter.upsertAll(employees);
+    }
+}
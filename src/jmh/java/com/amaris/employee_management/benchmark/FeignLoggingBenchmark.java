@@ -0,0 +1,147 @@
+package com.amaris.employee_management.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.amaris.employee_management.client.dto.ResponseDTO;
+import com.amaris.employee_management.config.SampledFeignLogger;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Feign;
+import feign.Logger;
+import feign.RequestLine;
+import feign.Response;
+import feign.slf4j.Slf4jLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput cost of logging external API calls.
+ *
+ * A Feign client with an in-memory transport returns 100 employees per call and
+ * logs to a file, either directly or through an asynchronous appender. The
+ * NONE, BASIC, HEADERS and FULL modes use Feign's SLF4J logger at that level,
+ * SAMPLED uses {@link SampledFeignLogger} at FULL with the default 1% sample rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class FeignLoggingBenchmark {
+
+    private static final String LOGGER_NAME = "benchmark.EmployeeApi";
+
+    @Param({"NONE", "BASIC", "HEADERS", "FULL", "SAMPLED"})
+    private String mode;
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    private EmployeeApi client;
+    private Appender<ILoggingEvent> logAppender;
+    private File logFile;
+
+    interface EmployeeApi {
+        @RequestLine("GET /employees")
+        String getAllEmployees();
+    }
+
+    @Setup
+    public void setUp() throws Exception {
+        byte[] body = new ObjectMapper().writeValueAsBytes(
+                new ResponseDTO<>("success", BenchmarkData.employeeDtos(100), null));
+        Map<String, Collection<String>> headers = Map.of(
+                "Content-Type", List.of("application/json"),
+                "Content-Length", List.of(String.valueOf(body.length)));
+
+        logFile = File.createTempFile("feign-logging", ".log");
+        logAppender = appender(logFile);
+
+        Logger logger = "SAMPLED".equals(mode)
+                ? new SampledFeignLogger(EmployeeApi.class, 0.01, 1000, 2048)
+                : new Slf4jLogger(LOGGER_NAME);
+        Logger.Level level = "SAMPLED".equals(mode) ? Logger.Level.FULL : Logger.Level.valueOf(mode);
+
+        client = Feign.builder()
+                .client((request, options) -> Response.builder()
+                        .status(200)
+                        .request(request)
+                        .headers(headers)
+                        .body(body)
+                        .build())
+                .logger(logger)
+                .logLevel(level)
+                .target(EmployeeApi.class, "http://localhost:8089");
+    }
+
+    @TearDown
+    public void tearDown() {
+        logAppender.stop();
+        logFile.delete();
+    }
+
+    @Benchmark
+    public String getAllEmployees() {
+        return client.getAllEmployees();
+    }
+
+    private Appender<ILoggingEvent> appender(File file) {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.getAbsolutePath());
+        fileAppender.setEncoder(encoder);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> result = fileAppender;
+        if ("async".equals(appender)) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.addAppender(fileAppender);
+            asyncAppender.start();
+            result = asyncAppender;
+        }
+
+        for (String name : List.of(LOGGER_NAME, EmployeeApi.class.getName())) {
+            ch.qos.logback.classic.Logger logger = context.getLogger(name);
+            logger.setLevel(Level.DEBUG);
+            logger.setAdditive(false);
+            logger.detachAndStopAllAppenders();
+            logger.addAppender(result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,100 @@
+package com.amaris.employee_management.benchmark;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.amaris.employee_management.model.PayrollProjection;
+import com.amaris.employee_management.model.PayrollRequest;
+import com.amaris.employee_management.service.EmployeeService;
+import com.amaris.employee_management.service.PayrollProjectionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PayrollProjectionService#project(PayrollRequest)} over the
+ * cached list, for the whole organisation and for a subset selected by age.
+ * The list stays the same instance, so its primitive copy is reused as between
+ * two refreshes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayrollProjectionBenchmark {
+
+    private static final List<PayrollRequest.Scenario> SCENARIOS = List.of(
+            new PayrollRequest.Scenario("base", 0, 0, 0),
+            new PayrollRequest.Scenario("growth", 3, 10, 5),
+            new PayrollRequest.Scenario("freeze", 0, 0, -10));
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private PayrollProjectionService service;
+
+    @Setup
+    public void setUp() {
+        List<Employee> employees = BenchmarkData.employees(size);
+        EmployeeService employeeService = new EmployeeService() {
+            @Override
+            public List<Employee> findAllEmployees() {
+                return employees;
+            }
+
+            @Override
+            public List<Employee> findAllEmployees(EmployeeFields fields) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Employee findEmployeeById(String id) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Employee findEmployeeById(String id, EmployeeFields fields) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<Employee> refreshAllEmployees() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Double calculateAnnualSalary(String id) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        service = new PayrollProjectionService(employeeService,
+                new EmployeeMetrics(new SimpleMeterRegistry(), List.of(25L, 100L, 500L)), new ObjectMapper());
+        ReflectionTestUtils.setField(service, "forkThreshold", 65536);
+    }
+
+    @Benchmark
+    public PayrollProjection projectAll() {
+        return service.project(new PayrollRequest(5, null, null, null, null, null, SCENARIOS));
+    }
+
+    @Benchmark
+    public PayrollProjection projectByAge() {
+        return service.project(new PayrollRequest(5, null, 30, 50, null, null, SCENARIOS));
+    }
+}
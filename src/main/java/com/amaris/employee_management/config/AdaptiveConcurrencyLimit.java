@@ -0,0 +1,131 @@
+package com.amaris.employee_management.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to the latency of the requests it admits.
+ *
+ * Follows the gradient algorithm: a short-term and a long-term moving average of
+ * the request latency are kept, and their ratio is the gradient. While latency is
+ * stable the gradient is 1 and the limit grows by about its square root; when
+ * requests start queueing the short-term latency rises and the limit shrinks by
+ * up to half. The limit only grows while at least half of it is in use, so a
+ * quiet period cannot inflate it.
+ *
+ * Priority requests may go over the limit up to {@code priorityHeadroom} times it,
+ * so cheap requests keep being served while expensive ones are shed.
+ */
+public class AdaptiveConcurrencyLimit {
+    /** Weight of a sample in the short-term latency average, about 10 samples */
+    private static final double SHORT_ALPHA = 2.0 / 11;
+
+    /** Weight of a sample in the long-term latency average, about 600 samples */
+    private static final double LONG_ALPHA = 2.0 / 601;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double priorityHeadroom;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    /**
+     * @param initialLimit Limit before any latency has been observed
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit
+     * @param tolerance Latency increase tolerated before the limit shrinks, e.g. 1.5
+     * @param smoothing Weight of each new estimate in the limit, between 0 and 1
+     * @param priorityHeadroom Multiple of the limit priority requests may reach
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                    double smoothing, double priorityHeadroom) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.priorityHeadroom = priorityHeadroom;
+    }
+
+    /**
+     * Admits a request if the limit allows it. Every admitted request must be
+     * followed by {@link #release(long, boolean)}.
+     *
+     * @param priority Whether the request is cheap and may use the headroom
+     * @return true if the request was admitted
+     */
+    public boolean tryAcquire(boolean priority) {
+        int max = (int) (priority ? limit * priorityHeadroom : limit);
+        while (true) {
+            int current = inflight.get();
+            if (current >= max) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request.
+     *
+     * @param rttNanos Time the request took
+     * @param sample Whether its latency should update the limit
+     */
+    public void release(long rttNanos, boolean sample) {
+        int current = inflight.getAndDecrement();
+        if (sample) {
+            onSample(rttNanos, current);
+        }
+    }
+
+    /**
+     * Updates the limit with the latency of a request.
+     *
+     * @param rttNanos Time the request took
+     * @param inflightAtEnd Requests in flight when it finished, including itself
+     */
+    synchronized void onSample(long rttNanos, int inflightAtEnd) {
+        if (shortRtt == 0) {
+            shortRtt = rttNanos;
+            longRtt = rttNanos;
+            return;
+        }
+        shortRtt += (rttNanos - shortRtt) * SHORT_ALPHA;
+        longRtt += (rttNanos - longRtt) * LONG_ALPHA;
+
+        // Let the long-term average catch up when latency drops after an overload
+        if (longRtt > 2 * shortRtt) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        double updated = Math.max(minLimit, Math.min(maxLimit, limit * (1 - smoothing) + estimate * smoothing));
+
+        // Growing is only justified while the limit is actually in use
+        if (updated > limit && inflightAtEnd < limit / 2) {
+            return;
+        }
+        limit = updated;
+    }
+
+    /**
+     * @return Current limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return Requests currently admitted
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+}
@@ -0,0 +1,133 @@
+package com.amaris.employee_management.config;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retryer for calls to the external API.
+ *
+ * Only idempotent requests are retried, and only for the exceptions Feign marks as
+ * retryable: I/O errors, and the 429/502/503/504 responses decoded by
+ * {@link com.amaris.employee_management.exception.FeignErrorDecoder}.
+ * <ul>
+ *     <li>A {@code Retry-After} sent by the external API is honoured, unless it asks
+ *     to wait longer than {@code maxRetryAfterMs}; then the call fails right away.</li>
+ *     <li>Otherwise the delay uses decorrelated jitter: a random value between the
+ *     base delay and three times the previous delay, capped at the max delay,
+ *     so clients that failed together do not retry together.</li>
+ *     <li>No retry is made if its delay reaches past the request {@link Deadline}.</li>
+ *     <li>Every retry is taken from a shared {@link RetryBudget}.</li>
+ * </ul>
+ * Feign clones the retryer for every call; the clone holds the state of that call
+ * and records the call in the budget.
+ *
+ * Each attempt takes a permit from {@link FeignRateLimitInterceptor}, while the
+ * service releases a single one when the call is over, so the permit of a failed
+ * attempt is released here before backing off. An attempt that went ahead without
+ * a permit has nothing to release.
+ */
+public class AdaptiveRetryer implements Retryer {
+    private static final Set<Request.HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(
+            Request.HttpMethod.GET, Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS,
+            Request.HttpMethod.PUT, Request.HttpMethod.DELETE);
+
+    private final int maxAttempts;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final long maxRetryAfterMs;
+    private final RetryBudget budget;
+    private final FeignRateLimitInterceptor rateLimiter;
+    private final EmployeeMetrics metrics;
+
+    private int attempt = 1;
+    private long previousDelayMs;
+
+    /**
+     * @param maxAttempts Maximum number of attempts, including the first one
+     * @param baseDelayMs Minimum delay between attempts
+     * @param maxDelayMs Maximum delay between attempts when there is no Retry-After
+     * @param maxRetryAfterMs Longest Retry-After that is waited for
+     * @param budget Budget shared by every call
+     * @param rateLimiter Rate limiter whose permit is released between attempts
+     * @param metrics Metrics recorder for retries
+     */
+    public AdaptiveRetryer(int maxAttempts, long baseDelayMs, long maxDelayMs, long maxRetryAfterMs,
+                           RetryBudget budget, FeignRateLimitInterceptor rateLimiter, EmployeeMetrics metrics) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.maxRetryAfterMs = maxRetryAfterMs;
+        this.budget = budget;
+        this.rateLimiter = rateLimiter;
+        this.metrics = metrics;
+        this.previousDelayMs = baseDelayMs;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (e.method() != null && !IDEMPOTENT_METHODS.contains(e.method())) {
+            metrics.recordRetryRefused("not_idempotent");
+            throw e;
+        }
+        if (attempt >= maxAttempts) {
+            metrics.recordRetryRefused("exhausted");
+            throw e;
+        }
+
+        long delayMs;
+        if (e.retryAfter() != null) {
+            delayMs = Math.max(0, e.retryAfter() - currentTimeMillis());
+            if (delayMs > maxRetryAfterMs) {
+                metrics.recordRetryRefused("retry_after");
+                throw e;
+            }
+        } else {
+            long upper = Math.max(baseDelayMs, previousDelayMs * 3);
+            delayMs = Math.min(maxDelayMs, ThreadLocalRandom.current().nextLong(baseDelayMs, upper + 1));
+        }
+
+        // A retry that cannot complete before the deadline would only eat the fallback reserve
+        Deadline deadline = Deadline.current();
+        if (deadline != null && delayMs >= deadline.upstreamRemainingMillis()) {
+            metrics.recordRetryRefused("deadline");
+            throw e;
+        }
+
+        if (!budget.tryAcquire()) {
+            metrics.recordRetryRefused("budget");
+            throw e;
+        }
+
+        rateLimiter.releasePermit();
+        try {
+            sleep(delayMs);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+        previousDelayMs = Math.max(delayMs, baseDelayMs);
+        attempt++;
+        metrics.recordRetry();
+    }
+
+    @Override
+    public Retryer clone() {
+        budget.recordRequest();
+        return new AdaptiveRetryer(maxAttempts, baseDelayMs, maxDelayMs, maxRetryAfterMs, budget, rateLimiter,
+                metrics);
+    }
+
+    protected long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    protected void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+}
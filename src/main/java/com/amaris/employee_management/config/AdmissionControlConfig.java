@@ -0,0 +1,40 @@
+package com.amaris.employee_management.config;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the admission control applied to the employee endpoints.
+ */
+@Configuration
+public class AdmissionControlConfig {
+
+    /**
+     * Adaptive limit of concurrent employee requests.
+     *
+     * @param metrics Metrics recorder for the limit gauges
+     * @param initialLimit Limit before any latency has been observed
+     * @param minLimit Lowest limit
+     * @param maxLimit Highest limit, at most the number of request threads
+     * @param tolerance Latency increase tolerated before the limit shrinks
+     * @param smoothing Weight of each new estimate in the limit
+     * @param priorityHeadroom Multiple of the limit cache hits may reach
+     * @return Concurrency limit
+     */
+    @Bean
+    public AdaptiveConcurrencyLimit adaptiveConcurrencyLimit(
+            EmployeeMetrics metrics,
+            @Value("${employee.admission.initial-limit:20}") int initialLimit,
+            @Value("${employee.admission.min-limit:5}") int minLimit,
+            @Value("${employee.admission.max-limit:200}") int maxLimit,
+            @Value("${employee.admission.tolerance:1.5}") double tolerance,
+            @Value("${employee.admission.smoothing:0.2}") double smoothing,
+            @Value("${employee.admission.priority-headroom:2.0}") double priorityHeadroom) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit,
+                tolerance, smoothing, priorityHeadroom);
+        metrics.bindConcurrencyLimit(limit);
+        return limit;
+    }
+}
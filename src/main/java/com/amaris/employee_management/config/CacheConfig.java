@@ -1,21 +1,31 @@
 package com.amaris.employee_management.config;
 
+import com.amaris.employee_management.metrics.EmployeeCacheMetrics;
+import com.amaris.employee_management.metrics.InstrumentedCaffeineCache;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.amaris.employee_management.service.EmployeeIdFilter;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration class for caching employee-related data.
  *
  * Enables caching and configures cache manager with
- * specified maximum size and expiration time using Caffeine.
+ * specified memory budget and expiration times using Caffeine.
+ *
+ * The full employee list and single employees live in separate caches, each
+ * bounded by an estimated byte budget ({@link EmployeeCacheWeigher}) taken as a
+ * percentage of the maximum heap, so the list cannot be pushed out by per-ID
+ * entries and its size is accounted for.
  *
  * @author Efrain Lopez
  * @version 1.0
@@ -24,32 +34,87 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 @EnableCaching
 public class CacheConfig {
-    /** Maximum number of entries in the cache */
-    @Value("${cache.employees.max-size}")
-    private int maxSize;
+    /** Share of the maximum heap given to single employee entries */
+    @Value("${cache.employees.max-heap-percent:5}")
+    private double maxHeapPercent;
 
     /** Time after which cache entries expire */
     @Value("${cache.employees.expire-after-write-minutes}")
     private int expireAfterMinutes;
 
+    /** Time after which entries that are not read expire */
+    @Value("${cache.employees.expire-after-access-minutes:60}")
+    private int expireAfterAccessMinutes;
+
+    /** Share of the maximum heap given to the full employee list */
+    @Value("${cache.employee-list.max-heap-percent:5}")
+    private double listMaxHeapPercent;
+
+    /** Time after which the cached list expires */
+    @Value("${cache.employee-list.expire-after-write-minutes:60}")
+    private int listExpireAfterMinutes;
+
+    /** Time after which the cached list expires when it is not read */
+    @Value("${cache.employee-list.expire-after-access-minutes:30}")
+    private int listExpireAfterAccessMinutes;
+
+    /** Maximum number of IDs remembered as missing */
+    @Value("${cache.missing-employees.max-size:10000}")
+    private int missingMaxSize;
+
+    /** Time during which an ID reported as missing is not looked up again */
+    @Value("${cache.missing-employees.expire-after-write-seconds:60}")
+    private int missingExpireAfterSeconds;
+
     /**
      * Creates and configures the cache manager with Caffeine.
+     * The 'employees' and 'employeeList' caches report their lookups, loads and evictions
+     * to {@link EmployeeCacheMetrics}.
+     * The 'missingEmployees' cache holds IDs reported as missing for a short time.
+     * Other cache names are not created on demand.
      *
-     * @return Configured CacheManager with 'employees' cache
+     * @param cacheMetrics Metrics split by key class
+     * @return Configured CacheManager with 'employees', 'employeeList' and 'missingEmployees' caches
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-
-        Caffeine<Object, Object> caffeine = Caffeine.newBuilder()
-                .maximumSize(maxSize)
-                .expireAfterWrite(expireAfterMinutes, TimeUnit.MINUTES)
-                .recordStats();
+    public CacheManager cacheManager(EmployeeCacheMetrics cacheMetrics) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                                               com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                if (!EmployeeCacheWriter.CACHE_NAME.equals(name) && !EmployeeCacheWriter.LIST_CACHE_NAME.equals(name)) {
+                    return super.adaptCaffeineCache(name, cache);
+                }
+                return new InstrumentedCaffeineCache(name, cache, isAllowNullValues(), cacheMetrics);
+            }
+        };
 
-        cacheManager.setCaffeine(caffeine);
-        cacheManager.setCacheNames(Arrays.asList("employees"));
+        cacheManager.setCacheNames(List.of());
         cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(EmployeeCacheWriter.CACHE_NAME, employeeCache(cacheMetrics,
+                EmployeeCacheWriter.CACHE_NAME, maxHeapPercent, expireAfterMinutes, expireAfterAccessMinutes));
+        cacheManager.registerCustomCache(EmployeeCacheWriter.LIST_CACHE_NAME, employeeCache(cacheMetrics,
+                EmployeeCacheWriter.LIST_CACHE_NAME, listMaxHeapPercent, listExpireAfterMinutes, listExpireAfterAccessMinutes));
+        cacheManager.registerCustomCache(EmployeeIdFilter.MISSING_CACHE_NAME, Caffeine.newBuilder()
+                .maximumSize(missingMaxSize)
+                .expireAfterWrite(missingExpireAfterSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build());
 
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> employeeCache(
+            EmployeeCacheMetrics cacheMetrics, String name, double heapPercent, int expireAfterWriteMinutes,
+            int expireAfterAccessMinutes) {
+        long maxWeight = (long) (Runtime.getRuntime().maxMemory() * heapPercent / 100);
+        return Caffeine.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher(new EmployeeCacheWeigher())
+                .expireAfterWrite(expireAfterWriteMinutes, TimeUnit.MINUTES)
+                .expireAfterAccess(expireAfterAccessMinutes, TimeUnit.MINUTES)
+                .removalListener((key, value, cause) -> cacheMetrics.recordRemoval(name, key, value, cause))
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.amaris.employee_management.config;
+
+import com.amaris.employee_management.exception.ServiceUnavailableException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Admission control of the employee endpoints.
+ *
+ * Requests over the {@link AdaptiveConcurrencyLimit} are rejected straight away with a
+ * 503 and Retry-After, instead of queueing for request threads until they time out.
+ * Requests whose data is cached are cheap and may use the priority headroom of the
+ * limit; only the latency of the other requests adapts the limit.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+    private static final String CACHED_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".cached";
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final EmployeeCacheWriter cacheWriter;
+    private final EmployeeMetrics metrics;
+
+    @Value("${employee.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${employee.admission.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled) {
+            return true;
+        }
+
+        boolean cached = cacheWriter.isCached(cacheKey(request));
+        boolean admitted = limit.tryAcquire(cached);
+        metrics.recordAdmission(cached, admitted);
+        if (!admitted) {
+            throw new ServiceUnavailableException("Too many concurrent requests", retryAfterSeconds);
+        }
+
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        request.setAttribute(CACHED_ATTRIBUTE, cached);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Long start = (Long) request.getAttribute(START_ATTRIBUTE);
+        if (start != null) {
+            request.removeAttribute(START_ATTRIBUTE);
+            limit.release(System.nanoTime() - start, !Boolean.TRUE.equals(request.getAttribute(CACHED_ATTRIBUTE)));
+        }
+    }
+
+    /**
+     * Returns the cache key the request would be served from: the ID path
+     * variable, or 'all' for the full list.
+     */
+    @SuppressWarnings("unchecked")
+    private static String cacheKey(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String id = variables == null ? null : variables.get("id");
+        return id != null ? id : EmployeeCacheWriter.ALL_KEY;
+    }
+}
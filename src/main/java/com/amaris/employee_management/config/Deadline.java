@@ -0,0 +1,81 @@
+package com.amaris.employee_management.config;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time budget of the request being handled by the current thread.
+ *
+ * Set by {@link DeadlineFilter} for every HTTP request, from the {@code X-Request-Timeout}
+ * header or the server default. The rate limiter wait, the external API timeouts and
+ * the retry delays are all taken from the same budget, minus a reserve kept for
+ * the local database fallback. Threads without a deadline (warm-up, background
+ * refresh) keep the configured timeouts.
+ */
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private final long fallbackReserveNanos;
+
+    private Deadline(long expiresAtNanos, long fallbackReserveNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.fallbackReserveNanos = fallbackReserveNanos;
+    }
+
+    /**
+     * Creates a deadline starting now.
+     *
+     * @param timeoutMs Total time budget
+     * @param fallbackReserveMs Part of the budget kept for the fallback
+     * @return New deadline
+     */
+    public static Deadline after(long timeoutMs, long fallbackReserveMs) {
+        return new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs),
+                TimeUnit.MILLISECONDS.toNanos(fallbackReserveMs));
+    }
+
+    /**
+     * @return Deadline of the current thread, or null if it has none
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Sets the deadline of the current thread.
+     *
+     * @param deadline Deadline, or null to clear it
+     */
+    public static void set(Deadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    /**
+     * Caps a timeout of the current thread by its upstream budget.
+     *
+     * @param timeoutMs Configured timeout
+     * @return The smaller of the timeout and the upstream budget, never negative
+     */
+    public static long upstreamTimeout(long timeoutMs) {
+        Deadline deadline = current();
+        return deadline == null ? timeoutMs : Math.max(0, Math.min(timeoutMs, deadline.upstreamRemainingMillis()));
+    }
+
+    /**
+     * @return Time left until the deadline, possibly negative
+     */
+    public long remainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - System.nanoTime());
+    }
+
+    /**
+     * @return Time left for the external API, once the fallback reserve is set aside
+     */
+    public long upstreamRemainingMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(expiresAtNanos - fallbackReserveNanos - System.nanoTime());
+    }
+}
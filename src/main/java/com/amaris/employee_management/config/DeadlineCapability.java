@@ -0,0 +1,58 @@
+package com.amaris.employee_management.config;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign capability that fits every call to the external API into the {@link Deadline}
+ * of the current request: connect and read timeouts are capped by the upstream budget,
+ * and calls are not made at all once it is spent, so the fallback still has its reserve.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeadlineCapability implements Capability {
+    private final EmployeeMetrics metrics;
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Deadline deadline = Deadline.current();
+            if (deadline == null) {
+                return client.execute(request, options);
+            }
+
+            long budgetMs = deadline.upstreamRemainingMillis();
+            if (budgetMs <= 0) {
+                metrics.recordDeadlineExceeded();
+                throw new DeadlineExceededException("No time left to call " + request.url());
+            }
+            Request.Options bounded = new Request.Options(
+                    Math.min(options.connectTimeoutMillis(), budgetMs), TimeUnit.MILLISECONDS,
+                    Math.min(options.readTimeoutMillis(), budgetMs), TimeUnit.MILLISECONDS,
+                    options.isFollowRedirects());
+            return client.execute(request, bounded);
+        };
+    }
+
+    /**
+     * Thrown instead of calling the external API when the request deadline is spent.
+     * Not retryable, the caller goes straight to its fallback. Does not capture a
+     * stack trace, it is expected whenever a client budget is too short.
+     */
+    public static class DeadlineExceededException extends RuntimeException {
+        public DeadlineExceededException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.amaris.employee_management.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sets the {@link Deadline} of every request.
+ *
+ * Clients may send their own budget in milliseconds in the {@code X-Request-Timeout}
+ * header, capped at {@code employee.deadline.max-ms}; otherwise the server default
+ * applies. Invalid values are ignored.
+ */
+@Component
+public class DeadlineFilter extends OncePerRequestFilter {
+    /** Header carrying the client time budget in milliseconds */
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    @Value("${employee.deadline.default-ms:5000}")
+    private long defaultMs;
+
+    @Value("${employee.deadline.max-ms:30000}")
+    private long maxMs;
+
+    @Value("${employee.deadline.fallback-reserve-ms:50}")
+    private long fallbackReserveMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Deadline.set(Deadline.after(timeoutMs(request.getHeader(TIMEOUT_HEADER)), fallbackReserveMs));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            Deadline.set(null);
+        }
+    }
+
+    private long timeoutMs(String header) {
+        if (header != null) {
+            try {
+                long timeoutMs = Long.parseLong(header.trim());
+                if (timeoutMs > 0) {
+                    return Math.min(timeoutMs, maxMs);
+                }
+            } catch (NumberFormatException e) {
+                // Fall back to the server default
+            }
+        }
+        return defaultMs;
+    }
+}
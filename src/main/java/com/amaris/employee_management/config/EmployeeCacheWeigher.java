@@ -0,0 +1,93 @@
+package com.amaris.employee_management.config;
+
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeEntity;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.util.Collection;
+
+/**
+ * Estimates the heap footprint of employee cache entries in bytes.
+ *
+ * The estimate assumes a 64-bit JVM with compressed oops and compact strings.
+ * It is not exact, but it is stable and proportional to the real footprint,
+ * which is what is needed to compare entries and to size the cache.
+ */
+public class EmployeeCacheWeigher implements Weigher<Object, Object> {
+    /** Caffeine node overhead per entry (node, key reference, table slot) */
+    static final int ENTRY_OVERHEAD = 64;
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int BOXED_VALUE = 16;
+    private static final int LOCAL_DATE_TIME = 72;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = ENTRY_OVERHEAD + estimate(key) + estimate(value);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Estimates the size of a cache key or value.
+     *
+     * @param object Key or value to estimate
+     * @return Estimated size in bytes
+     */
+    public static long estimate(Object object) {
+        if (object == null) {
+            return 0;
+        }
+        if (object instanceof String string) {
+            return stringSize(string);
+        }
+        if (object instanceof Employee employee) {
+            return employeeSize(employee);
+        }
+        if (object instanceof EmployeeEntity entity) {
+            return entitySize(entity);
+        }
+        if (object instanceof Collection<?> collection) {
+            long size = OBJECT_HEADER + 8 + align(OBJECT_HEADER + (long) REFERENCE * collection.size());
+            for (Object element : collection) {
+                size += estimate(element);
+            }
+            return size;
+        }
+        return BOXED_VALUE;
+    }
+
+    private static long employeeSize(Employee employee) {
+        // Header, two 8-byte primitives and five references; the profile image is shared
+        long size = align(OBJECT_HEADER + 2L * 8 + 5L * REFERENCE);
+        size += employee.salary() != null ? BOXED_VALUE : 0;
+        size += employee.annualSalary() != null ? BOXED_VALUE : 0;
+        size += stringSize(employee.name());
+        return size;
+    }
+
+    private static long entitySize(EmployeeEntity employee) {
+        // Header plus seven reference fields
+        long size = align(OBJECT_HEADER + 7L * REFERENCE);
+        size += employee.getId() != null ? BOXED_VALUE : 0;
+        size += employee.getAge() != null ? BOXED_VALUE : 0;
+        size += employee.getSalary() != null ? BOXED_VALUE : 0;
+        size += employee.getAnnualSalary() != null ? BOXED_VALUE : 0;
+        size += employee.getLastUpdated() != null ? LOCAL_DATE_TIME : 0;
+        size += stringSize(employee.getName());
+        size += stringSize(employee.getProfileImage());
+        return size;
+    }
+
+    private static long stringSize(String string) {
+        if (string == null) {
+            return 0;
+        }
+        // String object plus its backing byte array
+        return 24 + align(OBJECT_HEADER + string.length());
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+}
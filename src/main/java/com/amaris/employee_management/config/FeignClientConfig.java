@@ -2,6 +2,8 @@ package com.amaris.employee_management.config;
 import com.amaris.employee_management.exception.FeignErrorDecoder;
 import feign.Logger;
 import feign.codec.ErrorDecoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.FeignLoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -17,14 +19,38 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 public class FeignClientConfig {
+
+    @Value("${employee.logging.feign.level:BASIC}")
+    private Logger.Level level;
+
+    @Value("${employee.logging.feign.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${employee.logging.feign.slow-threshold-ms:1000}")
+    private long slowThresholdMs;
+
+    @Value("${employee.logging.feign.max-body-bytes:2048}")
+    private int maxBodyBytes;
+
     /**
      * Configures the logging level for Feign clients.
+     * It is the detail of sampled calls, slow and failed calls are always logged in full.
      *
-     * @return Logging level (BASIC in this configuration)
+     * @return Logging level (BASIC unless configured otherwise)
      */
     @Bean
     public Logger.Level feignLoggerLevel() {
-        return Logger.Level.BASIC;
+        return level;
+    }
+
+    /**
+     * Provides the sampled logger used by Feign clients.
+     *
+     * @return Factory creating a {@link SampledFeignLogger} per client
+     */
+    @Bean
+    public FeignLoggerFactory feignLoggerFactory() {
+        return type -> new SampledFeignLogger(type, sampleRate, slowThresholdMs, maxBodyBytes);
     }
 
     /**
@@ -36,4 +62,4 @@ public class FeignClientConfig {
     public ErrorDecoder errorDecoder() {
         return new FeignErrorDecoder();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package com.amaris.employee_management.config;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.ssl.TLS;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.HttpClientBuilderCustomizer;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the pooled Apache HttpClient 5 used by Feign clients.
+ *
+ * Pool size and time to live come from {@code spring.cloud.openfeign.httpclient.*}.
+ * On top of them, idle connections are evicted in the background, pooled connections
+ * are validated after a period of inactivity, and keep-alive is capped, so connections
+ * are reused as long as the external API allows it and no longer.
+ */
+@Configuration
+public class FeignHttpClientConfig {
+
+    /** Time after which idle pooled connections are closed */
+    @Value("${employee.upstream.pool.idle-eviction-seconds:30}")
+    private long idleEvictionSeconds;
+
+    /** Maximum time a connection is kept alive when the server does not say otherwise */
+    @Value("${employee.upstream.pool.keep-alive-seconds:60}")
+    private long keepAliveSeconds;
+
+    /** Inactivity after which a pooled connection is checked before being reused */
+    @Value("${employee.upstream.pool.validate-after-inactivity-ms:2000}")
+    private long validateAfterInactivityMs;
+
+    /**
+     * Creates the connection pool, replacing the one of Spring Cloud OpenFeign.
+     * Pool utilisation is bound to Micrometer (httpcomponents.httpclient.pool.*).
+     *
+     * @param properties Feign HTTP client properties
+     * @param metrics Metrics recorder for connection leases
+     * @param meterRegistry Registry for the pool gauges
+     * @return Metered connection pool
+     */
+    @Bean
+    public HttpClientConnectionManager hc5ConnectionManager(FeignHttpClientProperties properties,
+                                                            EmployeeMetrics metrics,
+                                                            MeterRegistry meterRegistry) {
+        FeignHttpClientProperties.Hc5Properties hc5 = properties.getHc5();
+        MeteredConnectionManager connectionManager = new MeteredConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory>create()
+                        .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                        .register("https", SSLConnectionSocketFactoryBuilder.create()
+                                .setTlsVersions(TLS.V_1_3, TLS.V_1_2)
+                                .build())
+                        .build(),
+                PoolConcurrencyPolicy.valueOf(hc5.getPoolConcurrencyPolicy().name()),
+                PoolReusePolicy.valueOf(hc5.getPoolReusePolicy().name()),
+                TimeValue.of(properties.getTimeToLive(), properties.getTimeToLiveUnit()),
+                metrics);
+        connectionManager.setMaxTotal(properties.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(properties.getMaxConnectionsPerRoute());
+        connectionManager.setDefaultSocketConfig(SocketConfig.custom()
+                .setSoTimeout(Timeout.of(hc5.getSocketTimeout(), hc5.getSocketTimeoutUnit()))
+                .build());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(properties.getConnectionTimeout()))
+                .setSocketTimeout(Timeout.of(hc5.getSocketTimeout(), hc5.getSocketTimeoutUnit()))
+                .setTimeToLive(TimeValue.of(properties.getTimeToLive(), properties.getTimeToLiveUnit()))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                .build());
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "employeeClient")
+                .bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    /**
+     * Adds idle connection eviction and a keep-alive cap to the HTTP client.
+     * Its own automatic retries are disabled: I/O errors reach the Feign retryer,
+     * which is the only one allowed to retry, within the retry budget.
+     *
+     * @return Customizer applied by Spring Cloud OpenFeign when building the client
+     */
+    @Bean
+    public HttpClientBuilderCustomizer upstreamHttpClientCustomizer() {
+        TimeValue maxKeepAlive = TimeValue.ofSeconds(keepAliveSeconds);
+        return builder -> builder
+                .disableAutomaticRetries()
+                .evictIdleConnections(TimeValue.ofSeconds(idleEvictionSeconds))
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return TimeValue.isPositive(keepAlive) && keepAlive.compareTo(maxKeepAlive) < 0
+                            ? keepAlive
+                            : maxKeepAlive;
+                });
+    }
+}
@@ -1,31 +1,73 @@
 package com.amaris.employee_management.config;
 
+import com.amaris.employee_management.metrics.EmployeeMetrics;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Interceptor that limits the number of simultaneous calls to the external API.
  * This helps prevent reaching the API provider's rate limits.
  *
+ * Calls are split in two priority classes ({@link RequestPriority}). Interactive
+ * calls take any free permit. Background calls leave a number of permits free for
+ * interactive calls, and while interactive calls are waiting they only get a permit
+ * after a configured number of interactive calls got theirs, so a full sync never
+ * takes over the limiter.
+ *
+ * A call that could not get a permit in time still goes ahead, so the permits
+ * acquired by each thread are counted and {@link #releasePermit()} only gives
+ * back a permit the thread holds.
+ *
  * @author [Your Name]
  * @version 1.0
  * @since [Current Date]
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class FeignRateLimitInterceptor implements RequestInterceptor {
 
     /** Allows only 5 simultaneous API calls */
     private final Semaphore rateLimiter = new Semaphore(5);
 
-    /** Maximum wait time to acquire a permit (2 seconds) */
+    /** Maximum wait time to acquire a permit (2 seconds), shortened by the request deadline */
     private static final long TIMEOUT_MS = 2000;
 
+    /** Interval at which waiting background calls check for their turn */
+    private static final long BACKGROUND_POLL_MS = 10;
+
+    /** Metrics recorder for permit wait times */
+    private final EmployeeMetrics metrics;
+
+    /** Permits held by the current thread */
+    private final ThreadLocal<Integer> held = new ThreadLocal<>();
+
+    /** Interactive calls currently waiting for a permit */
+    private final AtomicInteger interactiveWaiting = new AtomicInteger();
+
+    /** Interactive permits granted since the last background permit */
+    private final AtomicInteger interactiveGrants = new AtomicInteger();
+
+    /** Permits background calls leave free for interactive calls */
+    @Value("${employee.ratelimiter.reserved-interactive:2}")
+    private int reservedInteractive;
+
+    /** Interactive permits granted per background permit while interactive calls are waiting */
+    @Value("${employee.ratelimiter.interactive-weight:4}")
+    private int interactiveWeight;
+
+    /** Maximum wait time of background calls for a permit */
+    @Value("${employee.ratelimiter.background-timeout-ms:10000}")
+    private long backgroundTimeoutMs;
+
     /**
      * Attempts to acquire a permit before making an API call.
      *
@@ -33,16 +75,25 @@ public class FeignRateLimitInterceptor implements RequestInterceptor {
      */
     @Override
     public void apply(RequestTemplate template) {
+        RequestPriority priority = RequestPriority.current();
         boolean acquired = false;
         try {
-            log.debug("Attempting to acquire permit for API call: {}", template.url());
-            acquired = rateLimiter.tryAcquire(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            log.debug("Attempting to acquire {} permit for API call: {}", priority.tag(), template.url());
+            long start = System.nanoTime();
+            long timeoutMs = priority == RequestPriority.BACKGROUND
+                    ? Deadline.upstreamTimeout(backgroundTimeoutMs)
+                    : Deadline.upstreamTimeout(TIMEOUT_MS);
+            acquired = priority == RequestPriority.BACKGROUND
+                    ? acquireBackground(timeoutMs)
+                    : acquireInteractive(timeoutMs);
+            metrics.recordRateLimiterWait(priority.tag(), acquired, System.nanoTime() - start);
 
             if (!acquired) {
-                log.warn("Could not acquire permit for API call after {}ms: {}",
-                        TIMEOUT_MS, template.url());
+                log.warn("Could not acquire {} permit for API call after {}ms: {}",
+                        priority.tag(), timeoutMs, template.url());
                 // Will be allowed to continue, but likely to fail with 429
             } else {
+                held.set(heldPermits() + 1);
                 log.debug("Permit acquired for API call: {}", template.url());
             }
         } catch (InterruptedException e) {
@@ -51,12 +102,75 @@ public class FeignRateLimitInterceptor implements RequestInterceptor {
         }
     }
 
+    private boolean acquireInteractive(long timeoutMs) throws InterruptedException {
+        boolean acquired = rateLimiter.tryAcquire();
+        if (!acquired) {
+            interactiveWaiting.incrementAndGet();
+            try {
+                acquired = rateLimiter.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+            } finally {
+                interactiveWaiting.decrementAndGet();
+            }
+        }
+        if (acquired) {
+            interactiveGrants.incrementAndGet();
+        }
+        return acquired;
+    }
+
+    /**
+     * Waits until a permit is free on top of the reserved ones and it is the
+     * background turn, checking every {@link #BACKGROUND_POLL_MS}.
+     */
+    private boolean acquireBackground(long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (true) {
+            boolean turn = interactiveWaiting.get() == 0 || interactiveGrants.get() >= interactiveWeight;
+            if (turn && rateLimiter.tryAcquire(reservedInteractive + 1)) {
+                rateLimiter.release(reservedInteractive);
+                interactiveGrants.set(0);
+                return true;
+            }
+            long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMs <= 0) {
+                return false;
+            }
+            Thread.sleep(Math.min(BACKGROUND_POLL_MS, remainingMs));
+        }
+    }
+
     /**
      * Method called after the request is completed to release the permit.
      * This method should be called in a finally block from the service.
+     * Nothing is released when the current thread holds no permit, because the
+     * call went ahead without one or never reached the external API.
      */
     public void releasePermit() {
+        int permits = heldPermits();
+        if (permits == 0) {
+            log.debug("No permit held for API call, nothing to release");
+            return;
+        }
+        if (permits == 1) {
+            held.remove();
+        } else {
+            held.set(permits - 1);
+        }
         rateLimiter.release();
         log.debug("Permit released for API call");
     }
+
+    private int heldPermits() {
+        Integer permits = held.get();
+        return permits != null ? permits : 0;
+    }
+
+    /**
+     * Returns the number of permits currently available for API calls.
+     *
+     * @return Number of available permits
+     */
+    public int availablePermits() {
+        return rateLimiter.availablePermits();
+    }
 }
\ No newline at end of file
@@ -1,16 +1,18 @@
 package com.amaris.employee_management.config;
 
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import feign.ExceptionPropagationPolicy;
 import feign.Retryer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.TimeUnit;
-
 /**
  * Configuration to enable retries on Feign calls.
  *
- * Provides a retry mechanism with exponential backoff to improve
- * resilience when interacting with external services.
+ * Provides a retry mechanism with jittered backoff and a retry budget to improve
+ * resilience when interacting with external services, without piling load
+ * on them when they are struggling.
  *
  * @author [Your Name]
  * @version 1.0
@@ -19,15 +21,49 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class FeignRetryConfig {
 
+    /**
+     * Budget shared by the retries of every Feign call.
+     *
+     * @param ratio Maximum retries as a fraction of requests
+     * @param minPerSecond Retries per second always allowed
+     * @param windowSeconds Length of the sliding window
+     * @return Retry budget
+     */
+    @Bean
+    public RetryBudget retryBudget(@Value("${employee.retry.budget.ratio:0.1}") double ratio,
+                                   @Value("${employee.retry.budget.min-per-second:1}") int minPerSecond,
+                                   @Value("${employee.retry.budget.window-seconds:10}") int windowSeconds) {
+        return new RetryBudget(ratio, minPerSecond, windowSeconds);
+    }
+
     /**
      * Configures the retry policy for Feign clients.
-     * Uses exponential backoff to avoid overwhelming the service.
+     * Honours Retry-After, uses decorrelated jitter otherwise, and counts retries
+     * made and refused in the employee.upstream.retries metrics.
+     *
+     * @param budget Retry budget shared by every call
+     * @param rateLimiter Rate limiter whose permit is released between attempts
+     * @param metrics Metrics recorder for retries
+     * @return Retry configuration
+     */
+    @Bean
+    public Retryer retryer(RetryBudget budget, FeignRateLimitInterceptor rateLimiter, EmployeeMetrics metrics,
+                           @Value("${employee.retry.max-attempts:3}") int maxAttempts,
+                           @Value("${employee.retry.base-delay-ms:100}") long baseDelayMs,
+                           @Value("${employee.retry.max-delay-ms:1000}") long maxDelayMs,
+                           @Value("${employee.retry.max-retry-after-ms:2000}") long maxRetryAfterMs) {
+        return new AdaptiveRetryer(maxAttempts, baseDelayMs, maxDelayMs, maxRetryAfterMs, budget, rateLimiter,
+                metrics);
+    }
+
+    /**
+     * Throws the exception decoded by {@link com.amaris.employee_management.exception.FeignErrorDecoder}
+     * once retries are over, instead of the RetryableException wrapping it.
      *
-     * @return Retry configuration with exponential backoff
+     * @return UNWRAP propagation policy
      */
     @Bean
-    public Retryer retryer() {
-        // Retry up to 3 times, with an initial period of 100ms and a maximum period of 1s
-        return new Retryer.Default(100, TimeUnit.MILLISECONDS.toMillis(1000), 3);
+    public ExceptionPropagationPolicy exceptionPropagationPolicy() {
+        return ExceptionPropagationPolicy.UNWRAP;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,76 @@
+package com.amaris.employee_management.config;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.core5.http.config.Registry;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Connection pool for the external API that records how connections are obtained.
+ *
+ * Every lease is timed and tagged by whether it reused a pooled connection,
+ * and every new connection is timed while it is opened (TCP connect and TLS
+ * handshake), so poor connection reuse shows up in the metrics.
+ */
+public class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+    private final EmployeeMetrics metrics;
+
+    public MeteredConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry,
+                                    PoolConcurrencyPolicy poolConcurrencyPolicy,
+                                    PoolReusePolicy poolReusePolicy,
+                                    TimeValue timeToLive,
+                                    EmployeeMetrics metrics) {
+        super(socketFactoryRegistry, poolConcurrencyPolicy, poolReusePolicy, timeToLive);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        long start = System.nanoTime();
+        LeaseRequest leaseRequest = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                try {
+                    ConnectionEndpoint endpoint = leaseRequest.get(timeout);
+                    metrics.recordConnectionLease(endpoint.isConnected() ? "reused" : "new",
+                            System.nanoTime() - start);
+                    return endpoint;
+                } catch (TimeoutException e) {
+                    metrics.recordConnectionLease("timeout", System.nanoTime() - start);
+                    throw e;
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return leaseRequest.cancel();
+            }
+        };
+    }
+
+    @Override
+    public void connect(ConnectionEndpoint endpoint, TimeValue timeout, HttpContext context) throws IOException {
+        long start = System.nanoTime();
+        boolean connected = false;
+        try {
+            super.connect(endpoint, timeout, context);
+            connected = true;
+        } finally {
+            metrics.recordConnectionOpen(connected, System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.amaris.employee_management.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Priority class of the work running on the current thread, used by
+ * {@link FeignRateLimitInterceptor} to order calls to the external API.
+ *
+ * Threads are interactive unless the work runs through {@link #call(Supplier)}
+ * of another class, as the background refresh does.
+ */
+public enum RequestPriority {
+    /** User requests waiting for an answer */
+    INTERACTIVE,
+
+    /** Refreshes and other work nobody is waiting for */
+    BACKGROUND;
+
+    private static final ThreadLocal<RequestPriority> CURRENT = ThreadLocal.withInitial(() -> INTERACTIVE);
+
+    /**
+     * @return Priority class of the current thread
+     */
+    public static RequestPriority current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs work on the current thread with this priority class.
+     *
+     * @param work Work to run
+     * @return Result of the work
+     */
+    public <T> T call(Supplier<T> work) {
+        RequestPriority previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return work.get();
+        } finally {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * @return Lower case name, used as metric tag
+     */
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,86 @@
+package com.amaris.employee_management.config;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caps retries to external API calls at a fraction of the live traffic.
+ *
+ * Requests and retries are counted in one-second buckets over a sliding window.
+ * A retry is allowed while the retries in the window stay below
+ * {@code ratio * requests}, with a floor of {@code minPerSecond} retries per second
+ * so low traffic can still retry. When the external API is struggling, retries
+ * can add at most {@code ratio} to its load instead of multiplying it.
+ */
+public class RetryBudget {
+    private final double ratio;
+    private final int minPerSecond;
+    private final int windowSeconds;
+
+    /** Epoch second each bucket currently counts */
+    private final AtomicLongArray bucketSeconds;
+    private final AtomicLongArray requests;
+    private final AtomicLongArray retries;
+
+    /**
+     * @param ratio Maximum retries as a fraction of requests, e.g. 0.1
+     * @param minPerSecond Retries per second always allowed
+     * @param windowSeconds Length of the sliding window
+     */
+    public RetryBudget(double ratio, int minPerSecond, int windowSeconds) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.windowSeconds = windowSeconds;
+        this.bucketSeconds = new AtomicLongArray(windowSeconds);
+        this.requests = new AtomicLongArray(windowSeconds);
+        this.retries = new AtomicLongArray(windowSeconds);
+    }
+
+    /**
+     * Records a request, which adds {@code ratio} retries to the budget.
+     */
+    public void recordRequest() {
+        requests.incrementAndGet(bucket(currentSecond()));
+    }
+
+    /**
+     * Takes a retry from the budget if there is one left.
+     *
+     * @return true if the retry may be made
+     */
+    public boolean tryAcquire() {
+        long now = currentSecond();
+        int current = bucket(now);
+        long windowRequests = 0;
+        long windowRetries = 0;
+        for (int i = 0; i < windowSeconds; i++) {
+            if (now - bucketSeconds.get(i) < windowSeconds) {
+                windowRequests += requests.get(i);
+                windowRetries += retries.get(i);
+            }
+        }
+
+        double allowed = Math.max(ratio * windowRequests, (double) minPerSecond * windowSeconds);
+        if (windowRetries + 1 > allowed) {
+            return false;
+        }
+        retries.incrementAndGet(current);
+        return true;
+    }
+
+    protected long currentSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    /**
+     * Returns the bucket for a second, clearing it first if it still counts an older second.
+     */
+    private int bucket(long second) {
+        int index = (int) (second % windowSeconds);
+        long bucketSecond = bucketSeconds.get(index);
+        if (bucketSecond != second && bucketSeconds.compareAndSet(index, bucketSecond, second)) {
+            requests.set(index, 0);
+            retries.set(index, 0);
+        }
+        return index;
+    }
+}
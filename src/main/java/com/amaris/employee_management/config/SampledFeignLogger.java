@@ -0,0 +1,161 @@
+package com.amaris.employee_management.config;
+
+import feign.Logger;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Feign logger that only logs a sample of the calls to the external API.
+ *
+ * Failed calls (status 400 or above, I/O errors) and calls slower than the
+ * threshold are always logged at WARN with headers and bodies. Every other call
+ * is logged at INFO with the probability given by the sample rate, with the
+ * detail of the configured {@link Logger.Level}. Calls that are not logged skip
+ * the formatting and are returned without buffering the response body.
+ *
+ * The request is written together with its response, so each call is a single
+ * log event and the request line is only formatted once the outcome is known.
+ */
+public class SampledFeignLogger extends Logger {
+
+    private final org.slf4j.Logger logger;
+    private final double sampleRate;
+    private final long slowThresholdMs;
+    private final int maxBodyBytes;
+
+    /**
+     * @param clientType Feign client interface, used as the logger name
+     * @param sampleRate Fraction of regular calls to log, between 0 and 1
+     * @param slowThresholdMs Elapsed time from which a call is always logged
+     * @param maxBodyBytes Maximum number of body bytes written per message
+     */
+    public SampledFeignLogger(Class<?> clientType, double sampleRate, long slowThresholdMs, int maxBodyBytes) {
+        this.logger = LoggerFactory.getLogger(clientType);
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Does nothing, the request is logged with its response.
+     */
+    @Override
+    protected void logRequest(String configKey, Level logLevel, Request request) {
+    }
+
+    @Override
+    protected void logRetry(String configKey, Level logLevel) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} ---> RETRYING", methodTag(configKey));
+        }
+    }
+
+    @Override
+    protected Response logAndRebufferResponse(String configKey, Level logLevel, Response response,
+                                              long elapsedTime) throws IOException {
+        String reason;
+        if (response.status() >= 400) {
+            reason = "error";
+        } else if (elapsedTime >= slowThresholdMs) {
+            reason = "slow";
+        } else if (sample()) {
+            reason = "sampled";
+        } else {
+            return response;
+        }
+
+        boolean sampled = "sampled".equals(reason);
+        if (sampled ? !logger.isInfoEnabled() : !logger.isWarnEnabled()) {
+            return response;
+        }
+
+        Level detail = sampled ? logLevel : Level.FULL;
+        byte[] body = null;
+        if (detail == Level.FULL && response.body() != null) {
+            body = Util.toByteArray(response.body().asInputStream());
+            response = response.toBuilder().body(body).build();
+        }
+
+        String message = format(configKey, detail, response, body, elapsedTime, reason);
+        if (sampled) {
+            logger.info(message);
+        } else {
+            logger.warn(message);
+        }
+        return response;
+    }
+
+    @Override
+    protected IOException logIOException(String configKey, Level logLevel, IOException ioe, long elapsedTime) {
+        logger.warn("{} <--- ERROR {}: {} ({}ms)",
+                methodTag(configKey), ioe.getClass().getSimpleName(), ioe.getMessage(), elapsedTime);
+        return ioe;
+    }
+
+    @Override
+    protected void log(String configKey, String format, Object... args) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(methodTag(configKey) + String.format(format, args));
+        }
+    }
+
+    /**
+     * Decides whether a regular call is logged.
+     *
+     * @return true if the call was picked by the sample rate
+     */
+    protected boolean sample() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private String format(String configKey, Level detail, Response response, byte[] body,
+                          long elapsedTime, String reason) {
+        Request request = response.request();
+        StringBuilder message = new StringBuilder(256)
+                .append(methodTag(configKey))
+                .append(request.httpMethod()).append(' ').append(request.url())
+                .append(" -> ").append(response.status())
+                .append(" (").append(elapsedTime).append("ms, ").append(reason).append(')');
+
+        if (detail.ordinal() >= Level.HEADERS.ordinal()) {
+            appendHeaders(message, "> ", request.headers());
+            if (detail == Level.FULL) {
+                appendBody(message, "> ", request.body(), request.charset());
+            }
+            appendHeaders(message, "< ", response.headers());
+            if (detail == Level.FULL) {
+                appendBody(message, "< ", body, response.charset());
+            }
+        }
+        return message.toString();
+    }
+
+    private static void appendHeaders(StringBuilder message, String prefix, Map<String, Collection<String>> headers) {
+        for (Map.Entry<String, Collection<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                message.append('\n').append(prefix).append(header.getKey()).append(": ").append(value);
+            }
+        }
+    }
+
+    private void appendBody(StringBuilder message, String prefix, byte[] body, Charset charset) {
+        if (body == null || body.length == 0) {
+            return;
+        }
+        int length = Math.min(body.length, maxBodyBytes);
+        message.append('\n').append(prefix)
+                .append(new String(body, 0, length, charset != null ? charset : StandardCharsets.UTF_8));
+        if (length < body.length) {
+            message.append("... (").append(body.length).append(" bytes)");
+        }
+    }
+}
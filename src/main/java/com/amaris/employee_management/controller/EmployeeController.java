@@ -1,21 +1,52 @@
 package com.amaris.employee_management.controller;
 
-import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.exception.BadRequestException;
+import com.amaris.employee_management.mapper.EmployeeJsonWriter;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.amaris.employee_management.model.EmployeeImportReport;
+import com.amaris.employee_management.model.PayrollProjection;
+import com.amaris.employee_management.model.PayrollRequest;
+import com.amaris.employee_management.model.VersionedEmployee;
+import com.amaris.employee_management.service.EmployeeChangeFeed;
+import com.amaris.employee_management.service.EmployeeExportService;
+import com.amaris.employee_management.service.EmployeeImportService;
 import com.amaris.employee_management.service.EmployeeService;
+import com.amaris.employee_management.service.EmployeeWriteService;
+import com.amaris.employee_management.service.PayrollProjectionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST Controller for managing employee-related operations.
  *
  * This controller provides endpoints to retrieve employee information,
  * including listing all employees, fetching a specific employee by ID,
- * and calculating annual salary.
+ * calculating annual salary and projecting the payroll.
  *
  * @author Efrain Lopez
  * @version 1.0
@@ -27,13 +58,46 @@ public class EmployeeController {
     /** Service for handling employee-related business logic */
     private final EmployeeService employeeService;
 
+    /** Serializer for responses limited to some properties */
+    private final EmployeeJsonWriter jsonWriter;
+
+    /** Source of the employee change stream */
+    private final EmployeeChangeFeed changeFeed;
+
+    /** Service exporting the local employee table */
+    private final EmployeeExportService exportService;
+
+    /** Service importing employees into the local table */
+    private final EmployeeImportService importService;
+
+    /** Service writing single employees to the local table */
+    private final EmployeeWriteService writeService;
+
+    /** Service projecting the payroll */
+    private final PayrollProjectionService payrollService;
+
     /**
      * Constructor for dependency injection of EmployeeService.
      *
      * @param employeeService Service to handle employee operations
+     * @param jsonWriter Serializer for responses limited to some properties
+     * @param changeFeed Source of the employee change stream
+     * @param exportService Service exporting the local employee table
+     * @param importService Service importing employees into the local table
+     * @param writeService Service writing single employees to the local table
+     * @param payrollService Service projecting the payroll
      */
-    public EmployeeController(EmployeeService employeeService) {
+    public EmployeeController(EmployeeService employeeService, EmployeeJsonWriter jsonWriter,
+                              EmployeeChangeFeed changeFeed, EmployeeExportService exportService,
+                              EmployeeImportService importService, EmployeeWriteService writeService,
+                              PayrollProjectionService payrollService) {
         this.employeeService = employeeService;
+        this.jsonWriter = jsonWriter;
+        this.changeFeed = changeFeed;
+        this.exportService = exportService;
+        this.importService = importService;
+        this.writeService = writeService;
+        this.payrollService = payrollService;
     }
 
     /**
@@ -42,10 +106,126 @@ public class EmployeeController {
      * @return ResponseEntity containing a list of all employees
      */
     @GetMapping
-    public ResponseEntity<List<EmployeeEntity>> getAllEmployees() {
+    public ResponseEntity<List<Employee>> getAllEmployees() {
         return ResponseEntity.ok(employeeService.findAllEmployees());
     }
 
+    /**
+     * Retrieves a list of all employees with only the requested properties.
+     *
+     * @param fields Comma separated property names, e.g. "id,name"
+     * @return ResponseEntity containing the JSON list of employees
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<byte[]> getAllEmployees(@RequestParam String fields) {
+        EmployeeFields employeeFields = EmployeeFields.parse(fields);
+        return json(jsonWriter.write(employeeService.findAllEmployees(employeeFields), employeeFields));
+    }
+
+    /**
+     * Streams created, updated and removed employees as server-sent events.
+     *
+     * @param lastEventId ID of the last event received, sent by reconnecting clients
+     * @return Emitter of the change events
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * Exports every employee of the local database as CSV, streamed as it is read
+     * and gzip compressed if the client accepts it. An export failing before the
+     * response is committed is answered with an error instead; once committed,
+     * the response is left unfinished so the client sees the transfer fail.
+     *
+     * @param fields Comma separated columns, every property if absent
+     * @param acceptEncoding Encodings accepted by the client
+     * @param response Response the CSV is written to
+     */
+    @GetMapping(value = "/export", produces = "text/csv")
+    public void exportEmployees(@RequestParam(required = false) String fields,
+                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                String acceptEncoding,
+                                HttpServletResponse response) throws IOException {
+        EmployeeFields employeeFields = EmployeeFields.parse(fields);
+        boolean gzip = acceptsGzip(acceptEncoding);
+        try {
+            exportService.writeCsv(employeeFields, () -> {
+                response.setContentType("text/csv;charset=UTF-8");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"employees.csv\"");
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                OutputStream output = response.getOutputStream();
+                if (gzip) {
+                    response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    return new GZIPOutputStream(output, 16 * 1024);
+                }
+                return output;
+            });
+        } catch (RuntimeException e) {
+            if (!response.isCommitted()) {
+                // Drop the CSV headers and the buffered rows, the error handler answers instead
+                response.reset();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Imports employees into the local database from a CSV or NDJSON body,
+     * streamed as it is received and optionally gzip compressed.
+     *
+     * @param contentType text/csv or application/x-ndjson
+     * @param contentEncoding gzip if the body is compressed
+     * @param request Request the body is read from
+     * @return ResponseEntity containing the numbers of imported and rejected rows
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<EmployeeImportReport> importEmployees(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request) throws IOException {
+        EmployeeImportService.Format format = MediaType.parseMediaType(contentType).getSubtype().equals("csv")
+                ? EmployeeImportService.Format.CSV
+                : EmployeeImportService.Format.NDJSON;
+        InputStream input = request.getInputStream();
+        if (contentEncoding != null && !contentEncoding.isBlank()) {
+            if (!contentEncoding.trim().equalsIgnoreCase("gzip")) {
+                throw new BadRequestException("Unsupported Content-Encoding: " + contentEncoding);
+            }
+            input = new GZIPInputStream(input, 16 * 1024);
+        }
+        return ResponseEntity.ok(importService.importEmployees(format, input));
+    }
+
+    /**
+     * Projects the total payroll of all employees, or the ones matching the filters,
+     * under raise, bonus and headcount scenarios.
+     *
+     * @param request Filters, number of years and scenarios
+     * @return ResponseEntity containing the payroll of every scenario and year
+     */
+    @PostMapping(value = "/payroll", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PayrollProjection> projectPayroll(@RequestBody PayrollRequest request) {
+        return ResponseEntity.ok(payrollService.project(request));
+    }
+
+    /**
+     * Streams the projected yearly cost of every selected employee as NDJSON.
+     *
+     * @param request Filters, number of years and scenarios
+     * @param response Response the projections are written to
+     */
+    @PostMapping(value = "/payroll/employees", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = "application/x-ndjson")
+    public void projectEmployeePayroll(@RequestBody PayrollRequest request,
+                                       HttpServletResponse response) throws IOException {
+        payrollService.writeEmployees(request, () -> {
+            response.setContentType("application/x-ndjson;charset=UTF-8");
+            return response.getOutputStream();
+        });
+    }
+
     /**
      * Retrieves a specific employee by their ID.
      *
@@ -53,10 +233,76 @@ public class EmployeeController {
      * @return ResponseEntity containing the employee details
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeEntity> getEmployeeById(@PathVariable String id) {
+    public ResponseEntity<Employee> getEmployeeById(@PathVariable String id) {
         return ResponseEntity.ok(employeeService.findEmployeeById(id));
     }
 
+    /**
+     * Retrieves a specific employee by their ID with only the requested properties.
+     *
+     * @param id Unique identifier of the employee
+     * @param fields Comma separated property names, e.g. "id,name"
+     * @return ResponseEntity containing the JSON employee details
+     */
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<byte[]> getEmployeeById(@PathVariable String id, @RequestParam String fields) {
+        EmployeeFields employeeFields = EmployeeFields.parse(fields);
+        return json(jsonWriter.write(employeeService.findEmployeeById(id, employeeFields), employeeFields));
+    }
+
+    /**
+     * Creates an employee in the local database.
+     *
+     * @param body Employee with its ID
+     * @return ResponseEntity containing the created employee, with its version as ETag
+     *         and its absolute URL as Location
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Employee> createEmployee(@RequestBody JsonNode body) {
+        VersionedEmployee created = writeService.create(body);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/employees/{id}")
+                .buildAndExpand(created.employee().id())
+                .toUri();
+        return ResponseEntity.created(location)
+                .eTag(EmployeeWriteService.etag(created.version()))
+                .body(created.employee());
+    }
+
+    /**
+     * Replaces an employee in the local database.
+     *
+     * @param id Unique identifier of the employee
+     * @param ifMatch ETag of the version the update is based on, any version if absent
+     * @param body New values of the employee
+     * @return ResponseEntity containing the updated employee, with its new version as ETag
+     */
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Employee> updateEmployee(@PathVariable String id,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                                   String ifMatch,
+                                                   @RequestBody JsonNode body) {
+        VersionedEmployee updated = writeService.update(id, body, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(EmployeeWriteService.etag(updated.version()))
+                .body(updated.employee());
+    }
+
+    /**
+     * Deletes an employee from the local database.
+     *
+     * @param id Unique identifier of the employee
+     * @param ifMatch ETag of the version the deletion is based on, any version if absent
+     * @return Empty ResponseEntity
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteEmployee(@PathVariable String id,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+                                               String ifMatch) {
+        writeService.delete(id, ifMatch);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Calculates and retrieves the annual salary for a specific employee.
      *
@@ -67,4 +313,21 @@ public class EmployeeController {
     public ResponseEntity<Double> calculateAnnualSalary(@PathVariable String id) {
         return ResponseEntity.ok(employeeService.calculateAnnualSalary(id));
     }
+
+    private static ResponseEntity<byte[]> json(byte[] body) {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : acceptEncoding.split(",")) {
+            String[] parts = encoding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
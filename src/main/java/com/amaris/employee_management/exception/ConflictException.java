@@ -0,0 +1,19 @@
+package com.amaris.employee_management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when a write conflicts with the current state of an employee,
+ * such as creating an ID that already exists. Answered with a 409.
+ */
+public class ConflictException extends ResponseStatusException {
+    /**
+     * Constructs a new ConflictException.
+     *
+     * @param message the detail message
+     */
+    public ConflictException(String message) {
+        super(HttpStatus.CONFLICT, message);
+    }
+}
@@ -0,0 +1,25 @@
+package com.amaris.employee_management.exception;
+
+import com.amaris.employee_management.exception.FeignErrorDecoder.ResourceNotFoundException;
+
+/**
+ * Exception thrown when an employee does not exist in the external API nor in the local database.
+ *
+ * Does not capture a stack trace: it is an expected outcome of a lookup, thrown on
+ * every request for an unknown ID, and the trace would never be looked at.
+ */
+public class EmployeeNotFoundException extends ResourceNotFoundException {
+    /**
+     * Constructs a new EmployeeNotFoundException for the given ID.
+     *
+     * @param id the requested employee ID
+     */
+    public EmployeeNotFoundException(String id) {
+        super("Employee not found with ID: " + id);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,8 +1,11 @@
 package com.amaris.employee_management.exception;
 
+import feign.Request;
 import feign.Response;
+import feign.RetryableException;
 import feign.codec.ErrorDecoder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
@@ -11,12 +14,25 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 @Slf4j
 public class FeignErrorDecoder implements ErrorDecoder {
 
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    private static final Set<Request.HttpMethod> IDEMPOTENT_METHODS = EnumSet.of(
+            Request.HttpMethod.GET, Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS,
+            Request.HttpMethod.PUT, Request.HttpMethod.DELETE);
+
     @Override
     public Exception decode(String methodKey, Response response) {
         String requestUrl = response.request().url();
@@ -27,6 +43,18 @@ public class FeignErrorDecoder implements ErrorDecoder {
         log.debug("Error en llamada Feign - URL: {}, Status: {}, Body: {}",
                 requestUrl, responseStatus, responseBody);
 
+        Exception exception = decode(requestUrl, responseStatus, responseBody);
+
+        // Las respuestas transitorias de peticiones idempotentes se reintentan,
+        // respetando el Retry-After enviado por la API externa
+        if (isRetryable(response)) {
+            return new RetryableException(response.status(), exception.getMessage(),
+                    response.request().httpMethod(), exception, retryAfter(response), response.request());
+        }
+        return exception;
+    }
+
+    private Exception decode(String requestUrl, HttpStatus responseStatus, String responseBody) {
         switch (responseStatus) {
             case NOT_FOUND:
                 return new ResourceNotFoundException("Recurso no encontrado: " + requestUrl);
@@ -44,6 +72,33 @@ public class FeignErrorDecoder implements ErrorDecoder {
         }
     }
 
+    private boolean isRetryable(Response response) {
+        return RETRYABLE_STATUSES.contains(response.status())
+                && IDEMPOTENT_METHODS.contains(response.request().httpMethod());
+    }
+
+    /**
+     * Lee la cabecera Retry-After, en segundos o como fecha HTTP.
+     *
+     * @return Instante del reintento en milisegundos, o null si no hay cabecera válida
+     */
+    private Long retryAfter(Response response) {
+        Collection<String> values = response.headers().getOrDefault(HttpHeaders.RETRY_AFTER, Collections.emptyList());
+        String value = values.stream().findFirst().map(String::trim).orElse(null);
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return System.currentTimeMillis() + Long.parseLong(value) * 1000;
+        } catch (NumberFormatException e) {
+            try {
+                return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            } catch (DateTimeParseException ex) {
+                return null;
+            }
+        }
+    }
+
     private String getResponseBody(Response response) {
         if (response.body() == null) {
             return "No response body";
@@ -3,9 +3,11 @@ package com.amaris.employee_management.exception;
 import com.amaris.employee_management.exception.FeignErrorDecoder.ApiException;
 import com.amaris.employee_management.exception.FeignErrorDecoder.RateLimitExceededException;
 import com.amaris.employee_management.exception.FeignErrorDecoder.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
@@ -39,6 +41,40 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Maneja solicitudes con parámetros no válidos.
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<Object> handleBadRequestException(
+            BadRequestException ex, WebRequest request) {
+
+        Map<String, Object> body = createErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Maneja cuerpos de solicitud que no son JSON válido.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Object> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException ex, WebRequest request) {
+
+        Map<String, Object> body = createErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                HttpStatus.BAD_REQUEST.getReasonPhrase(),
+                "Malformed request body",
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * Maneja excepciones de límite de tasa excedido.
      */
@@ -92,16 +128,24 @@ public class GlobalExceptionHandler {
                 request.getDescription(false)
         );
 
-        return new ResponseEntity<>(body, ex.getStatusCode());
+        return new ResponseEntity<>(body, ex.getHeaders(), ex.getStatusCode());
     }
 
     /**
      * Maneja cualquier otra excepción no capturada.
+     *
+     * Si la respuesta ya fue enviada en parte, como en las descargas en streaming,
+     * la excepción se relanza para que el servidor cierre la conexión sin terminar
+     * la respuesta, en lugar de añadir el error al contenido.
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAllUncaughtException(
-            Exception ex, WebRequest request) {
+            Exception ex, WebRequest request, HttpServletResponse response) throws Exception {
 
+        if (response.isCommitted()) {
+            log.error("Error no controlado con la respuesta ya enviada, se aborta", ex);
+            throw ex;
+        }
         log.error("Error no controlado", ex);
 
         Map<String, Object> body = createErrorResponse(
@@ -0,0 +1,19 @@
+package com.amaris.employee_management.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when the If-Match version of a write is not the current version
+ * of the employee, because someone else changed it in the meantime. Answered with a 412.
+ */
+public class PreconditionFailedException extends ResponseStatusException {
+    /**
+     * Constructs a new PreconditionFailedException.
+     *
+     * @param message the detail message
+     */
+    public PreconditionFailedException(String message) {
+        super(HttpStatus.PRECONDITION_FAILED, message);
+    }
+}
@@ -0,0 +1,39 @@
+package com.amaris.employee_management.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Exception thrown when a request is shed because the service is saturated.
+ * Answered with a 503 and a Retry-After header.
+ *
+ * Does not capture a stack trace: it is thrown on every shed request while
+ * the service is overloaded, which is exactly when it must stay cheap.
+ */
+public class ServiceUnavailableException extends ResponseStatusException {
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new ServiceUnavailableException.
+     *
+     * @param message the detail message
+     * @param retryAfterSeconds seconds the client should wait before retrying
+     */
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(HttpStatus.SERVICE_UNAVAILABLE, message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return headers;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,144 @@
+package com.amaris.employee_management.mapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CSV records (RFC 4180) one at a time, the counterpart of {@link EmployeeCsvWriter}.
+ *
+ * Quoted values may contain commas, doubled quotes and line breaks. Lines end
+ * with CRLF or LF, blank lines are skipped and a leading byte order mark is
+ * ignored. Characters are read through an internal buffer, so the reader needs
+ * no buffering of its own.
+ */
+public class CsvRecordReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder value = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean started;
+
+    /** Line the next character belongs to */
+    private long line = 1;
+
+    /** Line the last record started on */
+    private long recordLine;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return Values of the record, null at the end of the input
+     * @throws IOException if the input cannot be read or ends inside a quoted value
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            skipLineEnd(c);
+            c = read();
+        }
+        if (c < 0) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> values = new ArrayList<>();
+        while (true) {
+            value.setLength(0);
+            if (c == '"') {
+                c = readQuoted();
+            } else {
+                while (c >= 0 && c != ',' && c != '\r' && c != '\n') {
+                    value.append((char) c);
+                    c = read();
+                }
+            }
+            values.add(value.toString());
+            if (c != ',') {
+                if (c >= 0) {
+                    skipLineEnd(c);
+                }
+                return values;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return Line the last record returned by {@link #next()} started on, starting at 1
+     */
+    public long getLine() {
+        return recordLine;
+    }
+
+    /**
+     * Reads a quoted value after its opening quote.
+     *
+     * @return Character following the closing quote
+     */
+    private int readQuoted() throws IOException {
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw new IOException("Unterminated quoted value starting on line " + recordLine);
+            }
+            if (c == '"') {
+                c = read();
+                if (c != '"') {
+                    // Anything between the closing quote and the separator is kept as is
+                    while (c >= 0 && c != ',' && c != '\r' && c != '\n') {
+                        value.append((char) c);
+                        c = read();
+                    }
+                    return c;
+                }
+            } else if (c == '\n') {
+                line++;
+            }
+            value.append((char) c);
+        }
+    }
+
+    /**
+     * Consumes the rest of a line end, CRLF counting as one.
+     *
+     * @param c Line end character already read
+     */
+    private void skipLineEnd(int c) throws IOException {
+        line++;
+        if (c == '\r') {
+            int next = read();
+            if (next >= 0 && next != '\n') {
+                // Lone CR, the character belongs to the next line and is still in the buffer
+                position--;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+            if (!started) {
+                started = true;
+                if (buffer[0] == '\uFEFF') {
+                    position = 1;
+                    return read();
+                }
+            }
+        }
+        return buffer[position++];
+    }
+}
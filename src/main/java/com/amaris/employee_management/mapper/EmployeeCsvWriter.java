@@ -0,0 +1,88 @@
+package com.amaris.employee_management.mapper;
+
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Writes employees as CSV rows (RFC 4180).
+ *
+ * Columns are the requested properties in {@link EmployeeFields} order, under a
+ * header row with their names. Values are formatted like the JSON responses;
+ * missing text and dates are left empty, and text containing a comma, quote or
+ * line break is quoted.
+ */
+@Component
+public class EmployeeCsvWriter {
+    private static final String LINE_END = "\r\n";
+
+    /**
+     * Writes the header row.
+     *
+     * @param writer Destination
+     * @param fields Columns to write
+     */
+    public void writeHeader(Writer writer, EmployeeFields fields) throws IOException {
+        writer.write(String.join(",", fields.names()));
+        writer.write(LINE_END);
+    }
+
+    /**
+     * Writes one employee as a row.
+     *
+     * @param writer Destination
+     * @param employee Employee to write
+     * @param fields Columns to write
+     */
+    public void writeRow(Writer writer, Employee employee, EmployeeFields fields) throws IOException {
+        List<String> names = fields.names();
+        for (int i = 0; i < names.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(writer, employee, names.get(i));
+        }
+        writer.write(LINE_END);
+    }
+
+    private static void writeValue(Writer writer, Employee employee, String name) throws IOException {
+        switch (name) {
+            case "id" -> writer.write(Long.toString(employee.id()));
+            case "name" -> writeText(writer, employee.name());
+            case "age" -> writeNumber(writer, employee.age());
+            case "salary" -> writeNumber(writer, employee.salary());
+            case "profileImage" -> writeText(writer, employee.profileImage());
+            case "annualSalary" -> writeNumber(writer, employee.annualSalary());
+            case "lastUpdated" -> {
+                if (employee.lastUpdatedMillis() != 0) {
+                    writer.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(employee.lastUpdated()));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown employee field: " + name);
+        }
+    }
+
+    private static void writeNumber(Writer writer, Number value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+
+    private static void writeText(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,125 @@
+package com.amaris.employee_management.mapper;
+
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializes employees with only the requested properties.
+ *
+ * The list of property writers is built once per fieldset and reused, so a
+ * request only pays for the properties it asked for. The output matches the
+ * regular Jackson serialization of {@link Employee}: null values are left
+ * out and the update time is an ISO local date time.
+ */
+@Component
+public class EmployeeJsonWriter {
+    /** Writer of every property, by JSON name */
+    private static final Map<String, PropertyWriter> PROPERTIES = Map.of(
+            "id", (generator, employee) -> generator.writeNumberField("id", employee.id()),
+            "name", (generator, employee) -> writeString(generator, "name", employee.name()),
+            "age", (generator, employee) -> {
+                if (employee.age() != null) {
+                    generator.writeNumberField("age", employee.age());
+                }
+            },
+            "salary", (generator, employee) -> writeNumber(generator, "salary", employee.salary()),
+            "profileImage", (generator, employee) -> writeString(generator, "profileImage", employee.profileImage()),
+            "annualSalary", (generator, employee) -> writeNumber(generator, "annualSalary", employee.annualSalary()),
+            "lastUpdated", (generator, employee) -> {
+                if (employee.lastUpdatedMillis() != 0) {
+                    generator.writeStringField("lastUpdated",
+                            DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(employee.lastUpdated()));
+                }
+            });
+
+    private final JsonFactory jsonFactory;
+
+    /** Property writers per fieldset, at most one entry per combination of properties */
+    private final Map<EmployeeFields, List<PropertyWriter>> writers = new ConcurrentHashMap<>();
+
+    public EmployeeJsonWriter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Serializes employees as a JSON array.
+     *
+     * @param employees Employees to serialize
+     * @param fields Properties to include
+     * @return UTF-8 JSON
+     */
+    public byte[] write(List<Employee> employees, EmployeeFields fields) {
+        List<PropertyWriter> properties = writers(fields);
+        ByteArrayBuilder buffer = new ByteArrayBuilder();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+            generator.writeStartArray();
+            for (Employee employee : employees) {
+                write(generator, employee, properties);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Serializes an employee as a JSON object.
+     *
+     * @param employee Employee to serialize
+     * @param fields Properties to include
+     * @return UTF-8 JSON
+     */
+    public byte[] write(Employee employee, EmployeeFields fields) {
+        List<PropertyWriter> properties = writers(fields);
+        ByteArrayBuilder buffer = new ByteArrayBuilder();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+            write(generator, employee, properties);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private List<PropertyWriter> writers(EmployeeFields fields) {
+        return writers.computeIfAbsent(fields, f -> f.names().stream().map(PROPERTIES::get).toList());
+    }
+
+    private static void write(JsonGenerator generator, Employee employee, List<PropertyWriter> properties)
+            throws IOException {
+        generator.writeStartObject();
+        for (PropertyWriter property : properties) {
+            property.write(generator, employee);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, String name, Double value) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(name, value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PropertyWriter {
+        void write(JsonGenerator generator, Employee employee) throws IOException;
+    }
+}
@@ -1,7 +1,7 @@
 package com.amaris.employee_management.mapper;
 
 import com.amaris.employee_management.client.dto.EmployeeDTO;
-import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.model.Employee;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,19 +20,21 @@ public class EmployeeMapper {
      * Converts EmployeeDTO to Employee domain object.
      *
      * @param dto Data Transfer Object containing employee information
-     * @return Mapped Employee domain object, or null if input is null
+     * @return Mapped Employee domain object, without annual salary and with null for a missing
+     *         age or salary, or null if input is null
      */
-    public EmployeeEntity toEmployee(EmployeeDTO dto) {
+    public Employee toEmployee(EmployeeDTO dto) {
         if (dto == null) {
             return null;
         }
 
-        return EmployeeEntity.builder()
-                .id(dto.getId())
-                .name(dto.getName())
-                .age(dto.getAge())
-                .salary(dto.getSalary())
-                .profileImage(dto.getProfileImage())
-                .build();
+        return new Employee(
+                dto.getId() != null ? dto.getId() : 0,
+                dto.getName(),
+                dto.getAge(),
+                dto.getSalary(),
+                dto.getProfileImage(),
+                null,
+                0);
     }
 }
\ No newline at end of file
@@ -0,0 +1,123 @@
+package com.amaris.employee_management.mapper;
+
+import com.amaris.employee_management.model.Employee;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Validates employee values received as text, import rows and request bodies,
+ * and maps them to an {@link Employee}.
+ *
+ * Values are looked up by the property names of the JSON responses. id and
+ * name are required, missing numbers stay null, the annual salary is
+ * always recalculated and a missing update time is replaced by the given time.
+ */
+public final class EmployeeRowMapper {
+    /** Length of the text columns */
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    private EmployeeRowMapper() {
+    }
+
+    /**
+     * Validates a row and maps it to an employee.
+     *
+     * @param row Values of the row
+     * @param now Epoch milliseconds used when the row has no update time
+     * @return Employee with the values of the row
+     * @throws IllegalArgumentException with the reason if the row is invalid
+     */
+    public static Employee toEmployee(Row row, long now) {
+        String idValue = text(row, "id");
+        if (idValue == null) {
+            throw new IllegalArgumentException("Missing id");
+        }
+        long id = parse(idValue, "id", Long::parseLong);
+        if (id <= 0) {
+            throw new IllegalArgumentException("Invalid id: " + idValue);
+        }
+
+        String name = text(row, "name");
+        if (name == null) {
+            throw new IllegalArgumentException("Missing name");
+        }
+        if (name.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Name longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+
+        String ageValue = text(row, "age");
+        Integer age = ageValue != null ? parse(ageValue, "age", Integer::parseInt) : null;
+        if (age != null && (age < 0 || age > 150)) {
+            throw new IllegalArgumentException("Invalid age: " + ageValue);
+        }
+
+        String salaryValue = text(row, "salary");
+        Double salary = salaryValue != null ? parse(salaryValue, "salary", Double::parseDouble) : null;
+        if (salary != null && (salary < 0 || !Double.isFinite(salary))) {
+            throw new IllegalArgumentException("Invalid salary: " + salaryValue);
+        }
+
+        String profileImage = row.get("profileImage");
+        if (profileImage != null && profileImage.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Profile image longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+
+        String lastUpdatedValue = text(row, "lastUpdated");
+        long lastUpdated = now;
+        if (lastUpdatedValue != null) {
+            try {
+                lastUpdated = LocalDateTime.parse(lastUpdatedValue)
+                        .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid lastUpdated: " + lastUpdatedValue);
+            }
+        }
+
+        return new Employee(id, name, age, salary, profileImage, salary != null ? salary * 12 : null, lastUpdated);
+    }
+
+    /**
+     * @param node JSON object
+     * @return Row reading the properties of the object, numbers as their text
+     */
+    public static Row of(JsonNode node) {
+        return name -> {
+            JsonNode value = node.get(name);
+            return value != null && !value.isNull() ? value.asText() : null;
+        };
+    }
+
+    /**
+     * @return Trimmed value, null if missing or blank
+     */
+    private static String text(Row row, String name) {
+        String value = row.get(name);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <T> T parse(String value, String name, Parser<T> parser) {
+        try {
+            return parser.parse(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    /** Values of a row by property name, null if absent */
+    @FunctionalInterface
+    public interface Row {
+        String get(String name);
+    }
+
+    @FunctionalInterface
+    private interface Parser<T> {
+        T parse(String value);
+    }
+}
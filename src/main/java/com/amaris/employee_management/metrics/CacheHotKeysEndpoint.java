@@ -0,0 +1,69 @@
+package com.amaris.employee_management.metrics;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint listing the hottest employee cache keys.
+ *
+ * Available at {@code /actuator/cachehotkeys}, or {@code /actuator/cachehotkeys/50}
+ * for a different number of keys. Besides the hot keys it
+ * returns the Caffeine statistics of every cache, which helps tune the cache
+ * size and expiration settings.
+ */
+@Component
+@Endpoint(id = "cachehotkeys")
+@RequiredArgsConstructor
+public class CacheHotKeysEndpoint {
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final EmployeeCacheMetrics cacheMetrics;
+    private final CacheManager cacheManager;
+
+    /**
+     * Returns the 20 hottest keys and the statistics of every cache.
+     *
+     * @return Hot keys and cache statistics
+     */
+    @ReadOperation
+    public Map<String, Object> hotKeys() {
+        return hotKeys(DEFAULT_LIMIT);
+    }
+
+    /**
+     * Returns the hottest keys and the statistics of every cache.
+     *
+     * @param limit Maximum number of keys to return
+     * @return Hot keys and cache statistics
+     */
+    @ReadOperation
+    public Map<String, Object> hotKeys(@Selector int limit) {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (cacheManager.getCache(name) instanceof CaffeineCache cache) {
+                CacheStats stats = cache.getNativeCache().stats();
+                Map<String, Object> details = new LinkedHashMap<>();
+                details.put("size", cache.getNativeCache().estimatedSize());
+                details.put("hitRate", stats.hitRate());
+                details.put("hitCount", stats.hitCount());
+                details.put("missCount", stats.missCount());
+                details.put("evictionCount", stats.evictionCount());
+                caches.put(name, details);
+            }
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("hotKeys", cacheMetrics.hotKeys(limit));
+        body.put("caches", caches);
+        return body;
+    }
+}
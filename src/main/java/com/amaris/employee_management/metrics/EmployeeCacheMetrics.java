@@ -0,0 +1,217 @@
+package com.amaris.employee_management.metrics;
+
+import com.amaris.employee_management.config.EmployeeCacheWeigher;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records employee cache metrics split by key class.
+ *
+ * The key class is "all" for the full employee list and "id" for single employees.
+ * Besides hit, miss, load and eviction meters, it keeps a hit counter per key
+ * so the hottest keys can be inspected through {@link CacheHotKeysEndpoint}.
+ * Entry counts and weights are kept up to date on every store and removal, so
+ * reading the gauges does not walk the cache.
+ */
+@Component
+public class EmployeeCacheMetrics {
+    /** Key class of the full employee list entry */
+    public static final String KEY_CLASS_ALL = EmployeeMetrics.OPERATION_ALL;
+
+    /** Key class of single employee entries */
+    public static final String KEY_CLASS_ID = EmployeeMetrics.OPERATION_ID;
+
+    private static final List<String> KEY_CLASSES = List.of(KEY_CLASS_ALL, KEY_CLASS_ID);
+
+    private final MeterRegistry meterRegistry;
+    private final EmployeeMetrics employeeMetrics;
+    private final Map<String, Counter> hits = new ConcurrentHashMap<>();
+    private final Map<String, Counter> misses = new ConcurrentHashMap<>();
+    private final Map<String, Timer> loads = new ConcurrentHashMap<>();
+
+    /** Entries and estimated weight per cache and key class */
+    private final Map<String, Footprint> footprints = new ConcurrentHashMap<>();
+
+    private final EmployeeCacheWeigher weigher = new EmployeeCacheWeigher();
+
+    /** Hit count per cached key, cleared when the key leaves the cache */
+    private final Map<Object, LongAdder> keyHits = new ConcurrentHashMap<>();
+
+    /** Start time of loads following a miss; bounded so failed loads cannot leak */
+    private final Cache<Object, Long> pendingLoads = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(1, TimeUnit.MINUTES)
+            .build();
+
+    public EmployeeCacheMetrics(MeterRegistry meterRegistry, EmployeeMetrics employeeMetrics) {
+        this.meterRegistry = meterRegistry;
+        this.employeeMetrics = employeeMetrics;
+        for (String keyClass : KEY_CLASSES) {
+            hits.put(keyClass, Counter.builder("employee.cache.gets")
+                    .description("Employee cache lookups")
+                    .tag("key.class", keyClass)
+                    .tag("result", "hit")
+                    .register(meterRegistry));
+            misses.put(keyClass, Counter.builder("employee.cache.gets")
+                    .description("Employee cache lookups")
+                    .tag("key.class", keyClass)
+                    .tag("result", "miss")
+                    .register(meterRegistry));
+            loads.put(keyClass, Timer.builder("employee.cache.loads")
+                    .description("Time from a cache miss until the loaded value is cached")
+                    .tag("key.class", keyClass)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Registers size and estimated weight gauges for a cache. The cache must report
+     * its stores to {@link #recordPut} and its removals to {@link #recordRemoval}.
+     *
+     * @param cacheName Name of the cache
+     */
+    public void bind(String cacheName) {
+        for (String keyClass : KEY_CLASSES) {
+            Footprint footprint = footprints.computeIfAbsent(footprintKey(cacheName, keyClass), k -> new Footprint());
+            Gauge.builder("employee.cache.size", footprint, f -> f.entries.sum())
+                    .description("Number of entries in the employee cache")
+                    .tag("cache", cacheName)
+                    .tag("key.class", keyClass)
+                    .register(meterRegistry);
+            Gauge.builder("employee.cache.weight", footprint, f -> f.weight.sum())
+                    .description("Estimated heap footprint of the employee cache")
+                    .tag("cache", cacheName)
+                    .tag("key.class", keyClass)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Records a cache hit, which is also a response served from the cache.
+     *
+     * @param key Cache key
+     */
+    public void recordHit(Object key) {
+        String keyClass = keyClass(key);
+        hits.get(keyClass).increment();
+        employeeMetrics.recordResponse(EmployeeMetrics.SOURCE_CACHE, keyClass);
+        keyHits.computeIfAbsent(key, k -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a cache miss and starts timing the load that follows it.
+     *
+     * @param key Cache key
+     */
+    public void recordMiss(Object key) {
+        misses.get(keyClass(key)).increment();
+        pendingLoads.put(key, System.nanoTime());
+    }
+
+    /**
+     * Records a value being stored. If it follows a miss, the load time is recorded.
+     *
+     * @param cacheName Name of the cache
+     * @param key Cache key
+     * @param value Stored value
+     */
+    public void recordPut(String cacheName, Object key, Object value) {
+        Long start = pendingLoads.asMap().remove(key);
+        if (start != null) {
+            loads.get(keyClass(key)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        Footprint footprint = footprints.get(footprintKey(cacheName, keyClass(key)));
+        if (footprint != null) {
+            footprint.entries.increment();
+            footprint.weight.add(weigher.weigh(key, value));
+        }
+    }
+
+    /**
+     * Records an entry leaving the cache, including a value replaced by a newer one.
+     *
+     * @param cacheName Name of the cache
+     * @param key Cache key
+     * @param value Removed value
+     * @param cause Reason the entry was removed
+     */
+    public void recordRemoval(String cacheName, Object key, Object value, RemovalCause cause) {
+        Footprint footprint = footprints.get(footprintKey(cacheName, keyClass(key)));
+        if (footprint != null && key != null && value != null) {
+            footprint.entries.decrement();
+            footprint.weight.add(-weigher.weigh(key, value));
+        }
+        if (cause == RemovalCause.REPLACED) {
+            return;
+        }
+        keyHits.remove(key);
+        if (cause.wasEvicted()) {
+            meterRegistry.counter("employee.cache.evictions",
+                    "key.class", keyClass(key), "cause", cause.name().toLowerCase()).increment();
+        }
+    }
+
+    /**
+     * Returns the keys with the most hits since they were cached.
+     *
+     * @param limit Maximum number of keys to return
+     * @return Hot keys ordered by descending hit count
+     */
+    public List<HotKey> hotKeys(int limit) {
+        return keyHits.entrySet().stream()
+                .map(entry -> new HotKey(String.valueOf(entry.getKey()), keyClass(entry.getKey()),
+                        entry.getValue().sum()))
+                .sorted(Comparator.comparingLong(HotKey::hits).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Classifies a cache key.
+     *
+     * @param key Cache key
+     * @return "all" for the full list entry, "id" otherwise
+     */
+    public static String keyClass(Object key) {
+        return EmployeeCacheWriter.ALL_KEY.equals(key) ? KEY_CLASS_ALL : KEY_CLASS_ID;
+    }
+
+    private static String footprintKey(String cacheName, String keyClass) {
+        return cacheName + "/" + keyClass;
+    }
+
+    /**
+     * Entries of one key class in one cache and their estimated weight.
+     */
+    private static final class Footprint {
+        private final LongAdder entries = new LongAdder();
+        private final LongAdder weight = new LongAdder();
+    }
+
+    /**
+     * Hit count of a single cache key.
+     *
+     * @param key Cache key
+     * @param keyClass Key class ("all" or "id")
+     * @param hits Hits since the key was cached
+     */
+    public record HotKey(String key, String keyClass, long hits) {
+    }
+}
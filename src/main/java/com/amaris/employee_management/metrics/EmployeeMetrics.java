@@ -0,0 +1,365 @@
+package com.amaris.employee_management.metrics;
+
+import com.amaris.employee_management.config.AdaptiveConcurrencyLimit;
+import com.amaris.employee_management.service.Bulkhead;
+import com.amaris.employee_management.service.EmployeeChangeFeed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records latency and outcome metrics along the employee read path.
+ *
+ * Every timer publishes histogram buckets at the configured SLO boundaries
+ * ({@code employee.metrics.slo-ms}), so latency percentiles can be computed
+ * in Prometheus across instances.
+ */
+@Component
+public class EmployeeMetrics {
+    /** Operation tag for calls involving the full employee list */
+    public static final String OPERATION_ALL = "all";
+
+    /** Operation tag for calls involving a single employee */
+    public static final String OPERATION_ID = "id";
+
+    /** Response served with fresh data from the external API */
+    public static final String SOURCE_UPSTREAM = "upstream";
+
+    /** Response served from the local database */
+    public static final String SOURCE_FALLBACK = "fallback";
+
+    /** Response served from the cache */
+    public static final String SOURCE_CACHE = "cache";
+
+    private final MeterRegistry meterRegistry;
+    private final Duration[] slos;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public EmployeeMetrics(MeterRegistry meterRegistry,
+                           @Value("${employee.metrics.slo-ms:25,50,100,250,500,1000,2500,5000}") List<Long> sloMs) {
+        this.meterRegistry = meterRegistry;
+        this.slos = sloMs.stream().map(Duration::ofMillis).toArray(Duration[]::new);
+    }
+
+    /**
+     * Records a call to the external API.
+     *
+     * @param operation "all" or "id"
+     * @param outcome success, empty, not_found, rate_limited or error
+     * @param nanos Call duration in nanoseconds
+     */
+    public void recordUpstream(String operation, String outcome, long nanos) {
+        timer("employee.upstream.requests", "Calls to the external employee API",
+                "operation", operation, "outcome", outcome)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a retry of a call to the external API.
+     */
+    public void recordRetry() {
+        counter("employee.upstream.retries", "Retries of calls to the external employee API")
+                .increment();
+    }
+
+    /**
+     * Records a retry of a call to the external API that was not made.
+     *
+     * @param reason budget, deadline, retry_after, exhausted or not_idempotent
+     */
+    public void recordRetryRefused(String reason) {
+        counter("employee.upstream.retries.refused", "Retries of calls to the external employee API not made",
+                "reason", reason)
+                .increment();
+    }
+
+    /**
+     * Records a call to the external API not made because the request deadline was spent.
+     */
+    public void recordDeadlineExceeded() {
+        counter("employee.deadline.exceeded", "Calls to the external employee API skipped for lack of time")
+                .increment();
+    }
+
+    /**
+     * Records the time spent waiting for a rate limiter permit.
+     *
+     * @param priority Priority class of the call ("interactive" or "background")
+     * @param acquired Whether a permit was acquired before the timeout
+     * @param nanos Wait time in nanoseconds
+     */
+    public void recordRateLimiterWait(String priority, boolean acquired, long nanos) {
+        timer("employee.ratelimiter.wait", "Time spent waiting for an external API permit",
+                "priority", priority, "acquired", String.valueOf(acquired))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the time spent waiting to enter a bulkhead.
+     *
+     * @param bulkhead Bulkhead name
+     * @param accepted Whether the call entered the bulkhead
+     * @param nanos Wait time in nanoseconds
+     */
+    public void recordBulkheadWait(String bulkhead, boolean accepted, long nanos) {
+        timer("employee.bulkhead.wait", "Time spent waiting to enter a bulkhead",
+                "bulkhead", bulkhead, "accepted", String.valueOf(accepted))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Registers the saturation gauges of a bulkhead: running calls, waiting calls and the limit.
+     *
+     * @param bulkhead Bulkhead to observe
+     */
+    public void bindBulkhead(Bulkhead bulkhead) {
+        Gauge.builder("employee.bulkhead.active", bulkhead, Bulkhead::getActive)
+                .description("Calls running inside a bulkhead")
+                .tag("bulkhead", bulkhead.getName())
+                .register(meterRegistry);
+        Gauge.builder("employee.bulkhead.waiting", bulkhead, Bulkhead::getWaiting)
+                .description("Calls waiting to enter a bulkhead")
+                .tag("bulkhead", bulkhead.getName())
+                .register(meterRegistry);
+        Gauge.builder("employee.bulkhead.limit", bulkhead, Bulkhead::getMaxConcurrent)
+                .description("Maximum number of calls running inside a bulkhead")
+                .tag("bulkhead", bulkhead.getName())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the admission decision for an employee request.
+     *
+     * @param cached Whether the requested data was cached
+     * @param accepted Whether the request was admitted
+     */
+    public void recordAdmission(boolean cached, boolean accepted) {
+        counter("employee.admission.requests", "Admission decisions for employee requests",
+                "cached", String.valueOf(cached), "accepted", String.valueOf(accepted))
+                .increment();
+    }
+
+    /**
+     * Registers the gauges of the adaptive concurrency limit: the limit and the requests in flight.
+     *
+     * @param limit Concurrency limit to observe
+     */
+    public void bindConcurrencyLimit(AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("employee.admission.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Adaptive limit of concurrent employee requests")
+                .register(meterRegistry);
+        Gauge.builder("employee.admission.inflight", limit, AdaptiveConcurrencyLimit::getInflight)
+                .description("Employee requests in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the time taken to obtain a connection to the external API from the pool.
+     *
+     * @param result reused, new or timeout
+     * @param nanos Lease duration in nanoseconds
+     */
+    public void recordConnectionLease(String result, long nanos) {
+        timer("employee.upstream.connection.lease", "Time to obtain a connection to the external employee API",
+                "result", result)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the opening of a new connection to the external API, including the TLS handshake.
+     *
+     * @param success Whether the connection was opened
+     * @param nanos Connect duration in nanoseconds
+     */
+    public void recordConnectionOpen(boolean success, long nanos) {
+        timer("employee.upstream.connection.open", "New connections opened to the external employee API",
+                "success", String.valueOf(success))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a read from the local database used as fallback.
+     *
+     * @param operation "all" or "id"
+     * @param nanos Read duration in nanoseconds
+     */
+    public void recordFallback(String operation, long nanos) {
+        timer("employee.fallback.reads", "Reads from the local database fallback",
+                "operation", operation)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a write to the local database.
+     *
+     * @param operation "save" or "saveAll"
+     * @param nanos Write duration in nanoseconds
+     */
+    public void recordWrite(String operation, long nanos) {
+        timer("employee.db.writes", "Writes of employees to the local database",
+                "operation", operation)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records a CSV export of the local database.
+     *
+     * @param outcome success or error
+     * @param rows Rows written
+     * @param nanos Export duration in nanoseconds
+     */
+    public void recordExport(String outcome, long rows, long nanos) {
+        timer("employee.export", "Exports of the employee table", "outcome", outcome)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        counter("employee.export.rows", "Employee rows exported").increment(rows);
+    }
+
+    /**
+     * Records the completion of a bulk import.
+     *
+     * @param outcome success or error
+     * @param nanos Import duration in nanoseconds
+     */
+    public void recordImport(String outcome, long nanos) {
+        timer("employee.import", "Bulk imports into the employee table", "outcome", outcome)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records rows processed by a bulk import, as they are written.
+     *
+     * @param result imported or rejected
+     * @param rows Number of rows
+     */
+    public void recordImportRows(String result, long rows) {
+        counter("employee.import.rows", "Employee rows processed by bulk imports", "result", result)
+                .increment(rows);
+    }
+
+    /**
+     * Records a payroll projection.
+     *
+     * @param output summary or employees
+     * @param employees Employees projected
+     * @param nanos Duration of the projection in nanoseconds, streaming included but not loading the employees
+     */
+    public void recordPayroll(String output, long employees, long nanos) {
+        timer("employee.payroll", "Payroll projections", "output", output)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        counter("employee.payroll.employees", "Employees included in payroll projections", "output", output)
+                .increment(employees);
+    }
+
+    /**
+     * Records a batch of single employee lookups loaded together.
+     *
+     * @param outcome success or error
+     * @param ids Distinct IDs in the batch
+     * @param nanos Load duration in nanoseconds
+     */
+    public void recordBatch(String outcome, int ids, long nanos) {
+        timer("employee.batch.loads", "Batches of single employee lookups", "outcome", outcome)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        counter("employee.batch.ids", "Employee IDs loaded in batches", "outcome", outcome).increment(ids);
+    }
+
+    /**
+     * Records a lookup that stopped waiting for its batch and was answered on its own.
+     */
+    public void recordBatchTimeout() {
+        counter("employee.batch.timeouts", "Lookups answered without waiting for their batch").increment();
+    }
+
+    /**
+     * Records which source served a response.
+     *
+     * @param source upstream, fallback or cache
+     * @param operation "all" or "id"
+     */
+    public void recordResponse(String source, String operation) {
+        counter("employee.responses", "Employee responses by data source",
+                "source", source, "operation", operation)
+                .increment();
+    }
+
+    /**
+     * Records which source won a race between the external API and the local database.
+     *
+     * @param operation "all" or "id"
+     * @param winner upstream, fallback, wait (no local answer) or inline (no free race thread)
+     */
+    public void recordRace(String operation, String winner) {
+        counter("employee.race.results", "Races between the external API and the local database",
+                "operation", operation, "winner", winner)
+                .increment();
+    }
+
+    /**
+     * Records a lookup answered with a 404 without calling the external API.
+     *
+     * @param reason invalid, negative_cache or filter
+     */
+    public void recordMissingIdRejection(String reason) {
+        counter("employee.missing.rejections", "Lookups of missing employees answered without the external API",
+                "reason", reason)
+                .increment();
+    }
+
+    /**
+     * Records an event published to the change stream.
+     *
+     * @param type created, updated or removed
+     */
+    public void recordChangeEvent(String type) {
+        counter("employee.stream.events", "Employee changes published to the change stream", "type", type)
+                .increment();
+    }
+
+    /**
+     * Records a change stream subscriber dropped for falling behind.
+     */
+    public void recordChangeSubscriberDropped() {
+        counter("employee.stream.dropped", "Change stream subscribers dropped for falling behind")
+                .increment();
+    }
+
+    /**
+     * Registers the gauge of open change stream subscriptions.
+     *
+     * @param changeFeed Change feed to observe
+     */
+    public void bindChangeFeed(EmployeeChangeFeed changeFeed) {
+        Gauge.builder("employee.stream.subscribers", changeFeed, EmployeeChangeFeed::getSubscribers)
+                .description("Open subscriptions to the employee change stream")
+                .register(meterRegistry);
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return timers.computeIfAbsent(key(name, tags), k -> Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .serviceLevelObjectives(slos)
+                .register(meterRegistry));
+    }
+
+    private Counter counter(String name, String description, String... tags) {
+        return counters.computeIfAbsent(key(name, tags), k -> Counter.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry));
+    }
+
+    private static String key(String name, String... tags) {
+        return name + ":" + String.join(",", tags);
+    }
+}
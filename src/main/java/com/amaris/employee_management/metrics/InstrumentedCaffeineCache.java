@@ -0,0 +1,48 @@
+package com.amaris.employee_management.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Caffeine cache that reports lookups and stores to {@link EmployeeCacheMetrics}.
+ * Removals are reported by the removal listener of the native cache.
+ *
+ * Extends {@link CaffeineCache} so the standard cache meters bound by the
+ * actuator keep working next to the per-key-class meters.
+ */
+public class InstrumentedCaffeineCache extends CaffeineCache {
+    private final EmployeeCacheMetrics cacheMetrics;
+
+    public InstrumentedCaffeineCache(String name, Cache<Object, Object> cache, boolean allowNullValues,
+                                     EmployeeCacheMetrics cacheMetrics) {
+        super(name, cache, allowNullValues);
+        this.cacheMetrics = cacheMetrics;
+        cacheMetrics.bind(name);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        if (value != null) {
+            cacheMetrics.recordHit(key);
+        } else {
+            cacheMetrics.recordMiss(key);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        cacheMetrics.recordPut(getName(), key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = super.putIfAbsent(key, value);
+        if (existing == null) {
+            cacheMetrics.recordPut(getName(), key, value);
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,95 @@
+package com.amaris.employee_management.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.benmanes.caffeine.cache.Interner;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Immutable employee value held by the caches and returned by the service.
+ *
+ * Age and salaries stay null when the external API did not report them, so a
+ * salary of 0 is a real value. Profile images (mostly the same default) are
+ * deduplicated, and the update time is kept as epoch milliseconds.
+ * {@link EmployeeEntity} is only used to read and write the local database.
+ *
+ * @param id Employee ID
+ * @param name Employee name
+ * @param age Age, null if unknown
+ * @param salary Monthly salary, null if unknown
+ * @param profileImage Profile image URL
+ * @param annualSalary Annual salary, null if not calculated
+ * @param lastUpdatedMillis Epoch milliseconds of the last update, 0 if never updated
+ */
+public record Employee(long id, String name, Integer age, Double salary, String profileImage,
+                       Double annualSalary, @JsonIgnore long lastUpdatedMillis) {
+
+    /** Shares equal profile images across employees; names are mostly unique and not worth an entry */
+    private static final Interner<String> PROFILE_IMAGES = Interner.newWeakInterner();
+
+    public Employee {
+        profileImage = profileImage != null ? PROFILE_IMAGES.intern(profileImage) : null;
+    }
+
+    /**
+     * @return Last update time in the system time zone, null if never updated
+     */
+    @JsonProperty("lastUpdated")
+    public LocalDateTime lastUpdated() {
+        return lastUpdatedMillis != 0
+                ? LocalDateTime.ofInstant(Instant.ofEpochMilli(lastUpdatedMillis), ZoneId.systemDefault())
+                : null;
+    }
+
+    /**
+     * Hashes the values stored for the employee, with 64-bit FNV-1a, ignoring the
+     * derived annual salary and the update time. Stored in the content_hash column
+     * to find unchanged rows, so changing it makes the next sync rewrite every row once.
+     *
+     * @return Hash of the name, age, salary and profile image
+     */
+    public long contentHash() {
+        long hash = 0xcbf29ce484222325L;
+        hash = hash(hash, age != null ? age : -1);
+        hash = hash(hash, salary != null ? Double.doubleToLongBits(salary) : -1);
+        hash = hash(hash, name);
+        return hash(hash, profileImage);
+    }
+
+    /**
+     * @param annualSalary Annual salary
+     * @return Copy of this employee with the annual salary set
+     */
+    public Employee withAnnualSalary(Double annualSalary) {
+        return new Employee(id, name, age, salary, profileImage, annualSalary, lastUpdatedMillis);
+    }
+
+    /**
+     * @param lastUpdatedMillis Epoch milliseconds of the update
+     * @return Copy of this employee with the update time set
+     */
+    public Employee withLastUpdated(long lastUpdatedMillis) {
+        return new Employee(id, name, age, salary, profileImage, annualSalary, lastUpdatedMillis);
+    }
+
+    private static long hash(long hash, long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long hash(long hash, String value) {
+        if (value == null) {
+            return hash(hash, -1);
+        }
+        hash = hash(hash, value.length());
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+}
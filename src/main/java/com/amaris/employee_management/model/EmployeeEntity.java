@@ -1,22 +1,29 @@
 package com.amaris.employee_management.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Locale;
 
 /**
- * Domain entity representing an employee.
- * Contains core business logic like salary calculation.
+ * JPA entity for database persistence of employees.
  *
- * Also serves as a JPA entity for database persistence.
+ * Only used at the persistence boundary: the service, the caches and the
+ * controller work with the immutable {@link Employee} value.
  */
 @Data
 @Builder
@@ -34,4 +41,74 @@ public class EmployeeEntity {
     private String profileImage;
     private Double annualSalary;
     private LocalDateTime lastUpdated;
-}
\ No newline at end of file
+
+    /** Lower-case name, for indexed name searches */
+    private String nameLower;
+
+    /** {@link Employee#contentHash()} of the stored values */
+    private Long contentHash;
+
+    /** Incremented by every change, for optimistic locking; existing rows start at 0 */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Derives the lower-case name and the content hash from the other columns before every write.
+     */
+    @PrePersist
+    @PreUpdate
+    void deriveColumns() {
+        nameLower = lowerCase(name);
+        contentHash = toEmployee().contentHash();
+    }
+
+    /**
+     * Normalises a name the way the name_lower column is stored.
+     *
+     * @param name Name, may be null
+     * @return Lower-case name, null if the name is null
+     */
+    public static String lowerCase(String name) {
+        return name != null ? name.toLowerCase(Locale.ROOT) : null;
+    }
+
+    /**
+     * Maps an employee to a new entity to be saved.
+     *
+     * @param employee Employee value
+     * @return Entity with the same values, or null if input is null
+     */
+    public static EmployeeEntity fromEmployee(Employee employee) {
+        if (employee == null) {
+            return null;
+        }
+
+        return EmployeeEntity.builder()
+                .id(employee.id())
+                .name(employee.name())
+                .age(employee.age())
+                .salary(employee.salary())
+                .profileImage(employee.profileImage())
+                .annualSalary(employee.annualSalary())
+                .lastUpdated(employee.lastUpdated())
+                .build();
+    }
+
+    /**
+     * Maps this entity to an immutable employee value.
+     *
+     * @return Employee value
+     */
+    public Employee toEmployee() {
+        return new Employee(
+                id != null ? id : 0,
+                name,
+                age,
+                salary,
+                profileImage,
+                annualSalary,
+                lastUpdated != null ? lastUpdated.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0);
+    }
+}
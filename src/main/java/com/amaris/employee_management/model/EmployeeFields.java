@@ -0,0 +1,67 @@
+package com.amaris.employee_management.model;
+
+import com.amaris.employee_management.exception.BadRequestException;
+
+import java.util.List;
+
+/**
+ * Employee properties requested through the {@code fields} query parameter.
+ *
+ * Names are kept in the order of {@link #NAMES}, so "name,id" and "id,name"
+ * are the same fieldset and share one serializer.
+ *
+ * @param names Requested property names, in canonical order
+ */
+public record EmployeeFields(List<String> names) {
+    /** Properties of {@link Employee} as serialized to JSON */
+    public static final List<String> NAMES =
+            List.of("id", "name", "age", "salary", "profileImage", "annualSalary", "lastUpdated");
+
+    /** Every property, the default without a {@code fields} parameter */
+    public static final EmployeeFields ALL = new EmployeeFields(NAMES);
+
+    public EmployeeFields {
+        names = List.copyOf(names);
+    }
+
+    /**
+     * Parses a comma separated list of property names.
+     *
+     * @param fields Property names, e.g. "id,name"
+     * @return Requested fields, every property if the list is blank
+     * @throws BadRequestException if a property does not exist
+     */
+    public static EmployeeFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        List<String> requested = List.of(fields.split(",")).stream()
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toList();
+        for (String name : requested) {
+            if (!NAMES.contains(name)) {
+                throw new BadRequestException("Unknown employee field: " + name + ", expected any of " + NAMES);
+            }
+        }
+        if (requested.isEmpty()) {
+            return ALL;
+        }
+        return new EmployeeFields(NAMES.stream().filter(requested::contains).toList());
+    }
+
+    /**
+     * @return true if every property is requested
+     */
+    public boolean isComplete() {
+        return names.size() == NAMES.size();
+    }
+
+    /**
+     * @param name Property name
+     * @return true if the property is requested
+     */
+    public boolean contains(String name) {
+        return names.contains(name);
+    }
+}
@@ -0,0 +1,27 @@
+package com.amaris.employee_management.model;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import into the local database.
+ *
+ * @param imported Rows written
+ * @param rejected Rows skipped because they were invalid or their batch failed
+ * @param rejections First rejected rows with the reason, at most {@code employee.import.max-reported-rejections}
+ * @param durationMs Duration of the import in milliseconds
+ */
+public record EmployeeImportReport(long imported, long rejected, List<Rejection> rejections, long durationMs) {
+
+    public EmployeeImportReport {
+        rejections = List.copyOf(rejections);
+    }
+
+    /**
+     * A rejected row.
+     *
+     * @param line Line of the row in the input, starting at 1
+     * @param reason Why the row was rejected
+     */
+    public record Rejection(long line, String reason) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.amaris.employee_management.model;
+
+import java.util.List;
+
+/**
+ * Projected payroll of the selected employees under each scenario.
+ *
+ * @param employees Number of employees selected
+ * @param annualSalaries Current annual salaries of the selected employees
+ * @param scenarios Projection of every scenario, in request order
+ * @param durationMs Duration of the computation in milliseconds, without loading the employees
+ */
+public record PayrollProjection(int employees, double annualSalaries, List<ScenarioProjection> scenarios,
+                                long durationMs) {
+
+    public PayrollProjection {
+        scenarios = List.copyOf(scenarios);
+    }
+
+    /**
+     * @param name Name of the scenario
+     * @param years Payroll of every year, starting with year 1
+     * @param total Payroll of all years
+     */
+    public record ScenarioProjection(String name, List<Year> years, double total) {
+
+        public ScenarioProjection {
+            years = List.copyOf(years);
+        }
+    }
+
+    /**
+     * @param year Year of the projection, starting at 1
+     * @param headcount Projected number of employees
+     * @param salaries Annual salaries paid
+     * @param bonuses Bonuses paid
+     * @param total Salaries and bonuses
+     */
+    public record Year(int year, long headcount, double salaries, double bonuses, double total) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.amaris.employee_management.model;
+
+import java.util.List;
+
+/**
+ * Payroll projection to compute, for every employee or the ones matching the filters.
+ * Absent filters match every employee.
+ *
+ * @param years Number of years to project, 1 if absent
+ * @param ids Only these employees
+ * @param minAge Only employees at least this old
+ * @param maxAge Only employees at most this old
+ * @param minSalary Only employees with at least this monthly salary
+ * @param maxSalary Only employees with at most this monthly salary
+ * @param scenarios Scenarios to project, a single one without changes if absent
+ */
+public record PayrollRequest(Integer years,
+                             List<Long> ids,
+                             Integer minAge,
+                             Integer maxAge,
+                             Double minSalary,
+                             Double maxSalary,
+                             List<Scenario> scenarios) {
+
+    /**
+     * Changes applied to the payroll, in percent. Raises and headcount changes
+     * apply from the second year on, compounded every year.
+     *
+     * @param name Name of the scenario, unique in the request
+     * @param raisePercent Yearly raise of every salary
+     * @param bonusPercent Bonus paid every year, relative to the annual salary
+     * @param headcountPercent Yearly change of the headcount, new employees earning the average salary
+     */
+    public record Scenario(String name, double raisePercent, double bonusPercent, double headcountPercent) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.amaris.employee_management.model;
+
+/**
+ * Employee written to the local database, with the version of its row.
+ *
+ * @param employee Employee as stored
+ * @param version Version of the row, sent as ETag and expected back as If-Match
+ */
+public record VersionedEmployee(Employee employee, long version) {
+}
@@ -0,0 +1,246 @@
+package com.amaris.employee_management.repository;
+
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Writes employees to the local database with plain JDBC statements, keeping
+ * the {@code version} column used for optimistic locking.
+ *
+ * Every write of the application goes through here: the syncs with the
+ * external API, bulk imports and the write endpoints. Rows keep the ID of the
+ * employee, unlike JPA inserts which would let the database generate one, and
+ * every change increments the version, so a client holding an older version
+ * finds out at its next conditional write.
+ *
+ * Rows created by the write endpoints or an import are flagged local only until
+ * a sync with the external API returns them, so syncs can tell them apart from
+ * employees the external API removed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeJdbcWriter {
+    /** IDs looked up per query when upserting */
+    private static final int CHUNK_SIZE = 1000;
+
+    static final String INSERT = "INSERT INTO employees "
+            + "(name, age, salary, profile_image, annual_salary, last_updated, name_lower, content_hash, id, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    static final String INSERT_LOCAL = "INSERT INTO employees "
+            + "(name, age, salary, profile_image, annual_salary, last_updated, name_lower, content_hash, id, version, "
+            + "local_only) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, TRUE)";
+    static final String UPDATE = "UPDATE employees SET name = ?, age = ?, salary = ?, profile_image = ?, "
+            + "annual_salary = ?, last_updated = ?, name_lower = ?, content_hash = ?, version = version + 1 "
+            + "WHERE id = ?";
+    static final String UPDATE_VERSION = UPDATE + " AND version = ?";
+    static final String UPDATE_SYNCED = "UPDATE employees SET name = ?, age = ?, salary = ?, profile_image = ?, "
+            + "annual_salary = ?, last_updated = ?, name_lower = ?, content_hash = ?, local_only = FALSE, "
+            + "version = version + 1 WHERE id = ?";
+    static final String CLEAR_LOCAL_ONLY = "UPDATE employees SET local_only = FALSE WHERE id = ?";
+    static final String DELETE = "DELETE FROM employees WHERE id = ?";
+    static final String DELETE_VERSION = DELETE + " AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Writes employees returned by the external API, clearing the local only flag.
+     *
+     * @param employees Employees to write
+     * @return Number of rows inserted or updated
+     * @see #upsertAll(List, boolean)
+     */
+    @Transactional
+    public int upsertAll(List<Employee> employees) {
+        return upsertAll(employees, false);
+    }
+
+    /**
+     * Inserts new employees and updates existing ones whose values changed,
+     * found by comparing content hashes. Unchanged rows are left alone, keeping
+     * their version and update time, so a sync returning the same data writes
+     * nothing. When an ID appears more than once, the last one wins.
+     *
+     * @param employees Employees to write
+     * @param local Whether the employees come from an import rather than the external API;
+     *              new rows are then flagged local only and existing rows keep their flag
+     * @return Number of rows inserted or updated
+     */
+    @Transactional
+    public int upsertAll(List<Employee> employees, boolean local) {
+        Map<Long, Employee> unique = new LinkedHashMap<>(employees.size() * 4 / 3 + 1);
+        employees.forEach(employee -> unique.put(employee.id(), employee));
+        List<Employee> distinct = new ArrayList<>(unique.values());
+
+        int written = 0;
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            written += upsertChunk(distinct.subList(from, Math.min(distinct.size(), from + CHUNK_SIZE)), local);
+        }
+        return written;
+    }
+
+    /**
+     * Inserts a new employee with version 0, flagged local only.
+     *
+     * @param employee Employee to insert
+     * @throws org.springframework.dao.DuplicateKeyException if the ID already exists
+     */
+    public void insert(Employee employee) {
+        jdbcTemplate.update(INSERT_LOCAL, statement -> setValues(statement, employee));
+    }
+
+    /**
+     * Replaces the values of an employee and increments its version.
+     *
+     * @param employee New values
+     * @param expectedVersion Version the row must have, null to update any version
+     * @return false if there is no row with that ID and version
+     */
+    public boolean update(Employee employee, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return jdbcTemplate.update(UPDATE, statement -> setValues(statement, employee)) == 1;
+        }
+        return jdbcTemplate.update(UPDATE_VERSION, statement -> {
+            setValues(statement, employee);
+            statement.setLong(10, expectedVersion);
+        }) == 1;
+    }
+
+    /**
+     * Deletes an employee.
+     *
+     * @param id Employee ID
+     * @param expectedVersion Version the row must have, null to delete any version
+     * @return false if there is no row with that ID and version
+     */
+    public boolean delete(long id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            return jdbcTemplate.update(DELETE, id) == 1;
+        }
+        return jdbcTemplate.update(DELETE_VERSION, id, expectedVersion) == 1;
+    }
+
+    /**
+     * @param id Employee ID
+     * @return Current version of the employee, empty if it does not exist
+     */
+    public Optional<Long> findVersion(long id) {
+        return jdbcTemplate.query("SELECT version FROM employees WHERE id = ?",
+                        (resultSet, row) -> resultSet.getLong(1), id)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * @return IDs of the employees flagged local only
+     */
+    public List<Long> findLocalOnlyIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM employees WHERE local_only = TRUE", Long.class);
+    }
+
+    /**
+     * @return IDs of every employee in the local database
+     */
+    public List<Long> findAllIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM employees", Long.class);
+    }
+
+    private int upsertChunk(List<Employee> employees, boolean local) {
+        Map<Long, Existing> existing = findExisting(employees);
+        List<Employee> inserts = new ArrayList<>();
+        List<Employee> updates = new ArrayList<>();
+        List<Employee> synced = new ArrayList<>();
+        for (Employee employee : employees) {
+            Existing row = existing.get(employee.id());
+            if (row == null) {
+                inserts.add(employee);
+            } else if (!Objects.equals(row.contentHash(), employee.contentHash())) {
+                updates.add(employee);
+            } else if (!local && row.localOnly()) {
+                synced.add(employee);
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(local ? INSERT_LOCAL : INSERT, inserts, inserts.size(),
+                    EmployeeJdbcWriter::setValues);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(local ? UPDATE : UPDATE_SYNCED, updates, updates.size(),
+                    EmployeeJdbcWriter::setValues);
+        }
+        if (!synced.isEmpty()) {
+            // Now returned by the external API, but unchanged: only the flag is cleared
+            jdbcTemplate.batchUpdate(CLEAR_LOCAL_ONLY, synced, synced.size(),
+                    (statement, employee) -> statement.setLong(1, employee.id()));
+        }
+        return inserts.size() + updates.size();
+    }
+
+    /**
+     * Reads the content hashes and local only flags of the rows with the IDs of
+     * the employees, the hash being null for rows written before it existed.
+     */
+    private Map<Long, Existing> findExisting(List<Employee> employees) {
+        Map<Long, Existing> existing = new HashMap<>(employees.size() * 4 / 3 + 1);
+        jdbcTemplate.query(findContentHashesSql(employees.size()),
+                resultSet -> {
+                    long hash = resultSet.getLong(2);
+                    Long contentHash = resultSet.wasNull() ? null : hash;
+                    existing.put(resultSet.getLong(1), new Existing(contentHash, resultSet.getBoolean(3)));
+                },
+                employees.stream().map(Employee::id).toArray());
+        return existing;
+    }
+
+    /**
+     * @param size Number of IDs
+     * @return Query of the content hashes and local only flags of the rows with some IDs, through the primary key
+     */
+    static String findContentHashesSql(int size) {
+        return "SELECT id, content_hash, local_only FROM employees WHERE id IN ("
+                + String.join(",", Collections.nCopies(size, "?")) + ")";
+    }
+
+    /**
+     * Sets the values in the column order shared by the inserts and updates, the ID last,
+     * deriving the lower-case name and the content hash.
+     */
+    private static void setValues(PreparedStatement statement, Employee employee) throws SQLException {
+        statement.setString(1, employee.name());
+        statement.setObject(2, employee.age(), Types.INTEGER);
+        statement.setObject(3, employee.salary(), Types.DOUBLE);
+        if (employee.profileImage() != null) {
+            statement.setString(4, employee.profileImage());
+        } else {
+            statement.setNull(4, Types.VARCHAR);
+        }
+        statement.setObject(5, employee.annualSalary(), Types.DOUBLE);
+        statement.setTimestamp(6, employee.lastUpdatedMillis() != 0 ? new Timestamp(employee.lastUpdatedMillis()) : null);
+        statement.setString(7, EmployeeEntity.lowerCase(employee.name()));
+        statement.setLong(8, employee.contentHash());
+        statement.setLong(9, employee.id());
+    }
+
+    /**
+     * Values of an existing row compared by upserts.
+     */
+    private record Existing(Long contentHash, boolean localOnly) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.amaris.employee_management.repository;
+
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Reads employees from the local database selecting only some columns.
+ * Implemented by {@link EmployeeProjectionRepositoryImpl} and exposed through {@link EmployeeRepository}.
+ */
+public interface EmployeeProjectionRepository {
+
+    /**
+     * Finds all employees, reading only the requested columns.
+     *
+     * @param fields Properties to read; the others keep their empty value (null or 0)
+     * @return Employees with the requested properties
+     */
+    List<Employee> findAllProjected(EmployeeFields fields);
+
+    /**
+     * Finds an employee by ID, reading only the requested columns.
+     *
+     * @param id Employee ID
+     * @param fields Properties to read; the others keep their empty value (null or 0)
+     * @return Employee with the requested properties, if it exists
+     */
+    Optional<Employee> findProjectedById(Long id, EmployeeFields fields);
+
+    /**
+     * Streams all employees ordered by ID through a forward-only cursor, reading only the
+     * requested columns. Rows are not attached to the persistence context, so memory
+     * does not grow with the table. Must be called within a transaction and closed.
+     *
+     * @param fields Properties to read; the others keep their empty value (null or 0)
+     * @param fetchSize Rows fetched from the database per round trip
+     * @return Employees with the requested properties
+     */
+    Stream<Employee> streamAllProjected(EmployeeFields fields, int fetchSize);
+}
@@ -0,0 +1,97 @@
+package com.amaris.employee_management.repository;
+
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.model.EmployeeFields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Criteria based implementation of {@link EmployeeProjectionRepository}.
+ *
+ * Selects a tuple with the requested columns and builds the {@link Employee}
+ * directly, without loading entities into the persistence context.
+ */
+public class EmployeeProjectionRepositoryImpl implements EmployeeProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Employee> findAllProjected(EmployeeFields fields) {
+        return query(fields, null).getResultList().stream()
+                .map(tuple -> toEmployee(tuple, fields))
+                .toList();
+    }
+
+    @Override
+    public Optional<Employee> findProjectedById(Long id, EmployeeFields fields) {
+        return query(fields, id).getResultList().stream()
+                .findFirst()
+                .map(tuple -> toEmployee(tuple, fields));
+    }
+
+    @Override
+    public Stream<Employee> streamAllProjected(EmployeeFields fields, int fetchSize) {
+        return query(fields, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(tuple -> toEmployee(tuple, fields));
+    }
+
+    private TypedQuery<Tuple> query(EmployeeFields fields, Long id) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<EmployeeEntity> root = query.from(EmployeeEntity.class);
+
+        List<Selection<?>> selections = fields.names().stream()
+                .<Selection<?>>map(name -> root.get(name).alias(name))
+                .toList();
+        query.multiselect(selections);
+        if (id != null) {
+            query.where(builder.equal(root.get("id"), id));
+        } else {
+            query.orderBy(builder.asc(root.get("id")));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private static Employee toEmployee(Tuple tuple, EmployeeFields fields) {
+        EmployeeEntity entity = new EmployeeEntity();
+        if (fields.contains("id")) {
+            entity.setId(tuple.get("id", Long.class));
+        }
+        if (fields.contains("name")) {
+            entity.setName(tuple.get("name", String.class));
+        }
+        if (fields.contains("age")) {
+            entity.setAge(tuple.get("age", Integer.class));
+        }
+        if (fields.contains("salary")) {
+            entity.setSalary(tuple.get("salary", Double.class));
+        }
+        if (fields.contains("profileImage")) {
+            entity.setProfileImage(tuple.get("profileImage", String.class));
+        }
+        if (fields.contains("annualSalary")) {
+            entity.setAnnualSalary(tuple.get("annualSalary", Double.class));
+        }
+        if (fields.contains("lastUpdated")) {
+            entity.setLastUpdated(tuple.get("lastUpdated", LocalDateTime.class));
+        }
+        return entity.toEmployee();
+    }
+}
@@ -9,10 +9,11 @@ import java.util.List;
 
 /**
  * JPA Repository for accessing employee data in the local database.
- * Provides CRUD operations and custom query methods for Employee entities.
+ * Provides CRUD operations and custom query methods for Employee entities,
+ * and column projections through {@link EmployeeProjectionRepository}.
  */
 @Repository
-public interface EmployeeRepository extends JpaRepository<EmployeeEntity, Long> {
+public interface EmployeeRepository extends JpaRepository<EmployeeEntity, Long>, EmployeeProjectionRepository {
 
     /**
      * Finds all employees updated after a specific timestamp.
@@ -26,9 +27,28 @@ public interface EmployeeRepository extends JpaRepository<EmployeeEntity, Long>
     /**
      * Finds employees by name using a case-insensitive partial match.
      * Allows for flexible name-based searches without exact matches.
+     * Compares the lower-case name column, but a match anywhere in the name
+     * cannot use its index; prefer {@link #findByNameStartingWithIgnoreCase(String)}.
      *
      * @param name The partial name to search for
      * @return List of employees whose names contain the specified string
      */
-    List<EmployeeEntity> findByNameContainingIgnoreCase(String name);
+    default List<EmployeeEntity> findByNameContainingIgnoreCase(String name) {
+        return findByNameLowerContaining(EmployeeEntity.lowerCase(name));
+    }
+
+    /**
+     * Finds employees whose name starts with a prefix, ignoring case, through
+     * the index on the lower-case name.
+     *
+     * @param prefix The start of the name
+     * @return List of employees whose names start with the prefix
+     */
+    default List<EmployeeEntity> findByNameStartingWithIgnoreCase(String prefix) {
+        return findByNameLowerStartingWith(EmployeeEntity.lowerCase(prefix));
+    }
+
+    List<EmployeeEntity> findByNameLowerContaining(String name);
+
+    List<EmployeeEntity> findByNameLowerStartingWith(String prefix);
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.config.Deadline;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of request threads running one kind of work at the same time.
+ *
+ * A call enters immediately while fewer than {@code maxConcurrent} calls are running.
+ * Otherwise it waits up to {@code maxWaitMs}, but only if fewer than {@code maxWaiting}
+ * calls are already waiting; every other call is rejected so the caller can degrade
+ * instead of queueing behind slow work.
+ */
+public class Bulkhead {
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long maxWaitMs;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final EmployeeMetrics metrics;
+
+    /**
+     * @param name Bulkhead name, used as metric tag
+     * @param maxConcurrent Maximum number of calls running at the same time
+     * @param maxWaiting Maximum number of calls waiting for a slot
+     * @param maxWaitMs Maximum time a call waits for a slot
+     * @param metrics Metrics recorder for wait times and rejections
+     */
+    public Bulkhead(String name, int maxConcurrent, int maxWaiting, long maxWaitMs, EmployeeMetrics metrics) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.maxWaitMs = maxWaitMs;
+        this.permits = new Semaphore(maxConcurrent);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Tries to enter the bulkhead. Every successful call must be followed by {@link #exit()}.
+     *
+     * @return true if the call may run, false if it was rejected
+     */
+    public boolean tryEnter() {
+        long start = System.nanoTime();
+        boolean acquired = permits.tryAcquire();
+        long waitMs = waitMs();
+        if (!acquired && waitMs > 0) {
+            if (waiting.incrementAndGet() <= maxWaiting) {
+                try {
+                    acquired = permits.tryAcquire(waitMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            waiting.decrementAndGet();
+        }
+        metrics.recordBulkheadWait(name, acquired, System.nanoTime() - start);
+        return acquired;
+    }
+
+    /**
+     * Returns the maximum wait, shortened to the time left before the request deadline.
+     */
+    private long waitMs() {
+        Deadline deadline = Deadline.current();
+        return deadline == null ? maxWaitMs : Math.min(maxWaitMs, deadline.remainingMillis());
+    }
+
+    /**
+     * Leaves the bulkhead after a successful {@link #tryEnter()}.
+     */
+    public void exit() {
+        permits.release();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * @return Number of calls currently running
+     */
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * @return Number of calls currently waiting for a slot
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+}
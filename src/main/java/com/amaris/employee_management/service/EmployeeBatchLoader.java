@@ -0,0 +1,200 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.config.Deadline;
+import com.amaris.employee_management.exception.EmployeeNotFoundException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent lookups of single employees into batches.
+ *
+ * The first lookup missing the cache opens a window of a few milliseconds; every
+ * lookup arriving within it joins the batch, lookups of the same ID share one
+ * answer, and the whole batch is then loaded with a single call. Batches run one
+ * at a time on a dispatcher thread, so lookups arriving while a batch is loading
+ * form the next one, which usually finds them in the cache the previous batch
+ * filled. A cold start with a thousand distinct IDs then costs a handful of calls
+ * to the external API instead of a thousand.
+ *
+ * Off unless {@code employee.batch-loader.enabled} is set: every lookup then loads
+ * its employee on its own. When on, it replaces race mode for single employees,
+ * and batches load complete employees whatever fields the lookups asked for.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeBatchLoader {
+    private final EmployeeMetrics metrics;
+
+    /** Whether lookups of single employees are collapsed into batches */
+    @Value("${employee.batch-loader.enabled:false}")
+    private boolean enabled;
+
+    /** Time a batch stays open for more lookups after the first one */
+    @Value("${employee.batch-loader.window-ms:5}")
+    private long windowMs;
+
+    /** Number of distinct IDs that closes a batch before the end of its window */
+    @Value("${employee.batch-loader.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    /** Longest wait for a batch, also bounded by the request deadline */
+    @Value("${employee.batch-loader.timeout-ms:10000}")
+    private long timeoutMs;
+
+    private final Object lock = new Object();
+
+    /** Lookups of the open batch by ID, in arrival order; guarded by {@link #lock} */
+    private Map<String, CompletableFuture<Employee>> pending = new LinkedHashMap<>();
+
+    /** Loader of the open batch, taken from its first lookup; guarded by {@link #lock} */
+    private Function<Set<String>, Map<String, Employee>> pendingLoader;
+
+    private ScheduledThreadPoolExecutor dispatcher;
+
+    @PostConstruct
+    void start() {
+        dispatcher = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "employee-batch-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdownNow();
+        failPending(new IllegalStateException("Batch loader stopped"));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Adds a lookup to the open batch and waits for its answer.
+     *
+     * @param id Employee ID
+     * @param loader Loads a batch of IDs with as few calls as possible; IDs missing
+     *               from its result do not exist
+     * @param late Answers the lookup when the batch takes longer than the wait
+     * @return Employee loaded by the batch
+     * @throws EmployeeNotFoundException if the batch did not find the employee
+     */
+    public Employee load(String id, Function<Set<String>, Map<String, Employee>> loader, Supplier<Employee> late) {
+        CompletableFuture<Employee> result;
+        synchronized (lock) {
+            result = pending.get(id);
+            if (result == null) {
+                result = new CompletableFuture<>();
+                if (pending.isEmpty()) {
+                    pendingLoader = loader;
+                    schedule(pending, windowMs);
+                }
+                pending.put(id, result);
+                if (pending.size() == maxBatchSize) {
+                    // Close the batch now instead of at the end of its window
+                    schedule(pending, 0);
+                }
+            }
+        }
+        return await(id, result, late);
+    }
+
+    private void schedule(Map<String, CompletableFuture<Employee>> batch, long delayMs) {
+        try {
+            dispatcher.schedule(() -> dispatch(batch), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            failPending(e);
+        }
+    }
+
+    private Employee await(String id, CompletableFuture<Employee> result, Supplier<Employee> late) {
+        long waitMs = Deadline.upstreamTimeout(timeoutMs);
+        try {
+            return result.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Batch still loading after {} ms, answering employee with ID: {} on its own", waitMs, id);
+            metrics.recordBatchTimeout();
+            return late.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Closes a batch and loads it, completing every lookup waiting for it.
+     *
+     * @param batch Batch to close; nothing happens if it was already closed
+     */
+    private void dispatch(Map<String, CompletableFuture<Employee>> batch) {
+        Function<Set<String>, Map<String, Employee>> loader;
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            loader = pendingLoader;
+            pending = new LinkedHashMap<>();
+            pendingLoader = null;
+        }
+
+        long start = System.nanoTime();
+        Map<String, Employee> found;
+        try {
+            found = loader.apply(Collections.unmodifiableSet(batch.keySet()));
+        } catch (RuntimeException e) {
+            log.warn("Batch of {} employees failed", batch.size(), e);
+            metrics.recordBatch("error", batch.size(), System.nanoTime() - start);
+            batch.values().forEach(result -> result.completeExceptionally(e));
+            return;
+        }
+        metrics.recordBatch("success", batch.size(), System.nanoTime() - start);
+        log.debug("Loaded batch of {} employees, {} found", batch.size(), found.size());
+
+        batch.forEach((id, result) -> {
+            Employee employee = found.get(id);
+            if (employee != null) {
+                result.complete(employee);
+            } else {
+                result.completeExceptionally(new EmployeeNotFoundException(id));
+            }
+        });
+    }
+
+    private void failPending(Exception cause) {
+        Map<String, CompletableFuture<Employee>> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            pendingLoader = null;
+        }
+        batch.values().forEach(result -> result.completeExceptionally(cause));
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+}
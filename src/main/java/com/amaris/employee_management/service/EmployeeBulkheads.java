@@ -0,0 +1,59 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bulkheads separating the work of {@link EmployeeServiceImpl}, so a slow external API
+ * or database cannot take every request thread.
+ *
+ * - upstream: calls to the external API, rejected calls are answered from the local database
+ * - database-read: fallback reads, rejected calls get a 503
+ * - database-write: {@code saveAll} of the full list, rejected writes are skipped
+ */
+@Component
+public class EmployeeBulkheads {
+    /** Bulkhead of calls to the external API */
+    public static final String UPSTREAM = "upstream";
+
+    /** Bulkhead of reads from the local database */
+    public static final String DATABASE_READ = "database-read";
+
+    /** Bulkhead of bulk writes to the local database */
+    public static final String DATABASE_WRITE = "database-write";
+
+    private final Bulkhead upstream;
+    private final Bulkhead databaseRead;
+    private final Bulkhead databaseWrite;
+
+    public EmployeeBulkheads(EmployeeMetrics metrics,
+                             @Value("${employee.bulkhead.upstream.max-concurrent:10}") int upstreamMaxConcurrent,
+                             @Value("${employee.bulkhead.upstream.max-waiting:10}") int upstreamMaxWaiting,
+                             @Value("${employee.bulkhead.upstream.max-wait-ms:50}") long upstreamMaxWaitMs,
+                             @Value("${employee.bulkhead.database-read.max-concurrent:20}") int readMaxConcurrent,
+                             @Value("${employee.bulkhead.database-read.max-waiting:50}") int readMaxWaiting,
+                             @Value("${employee.bulkhead.database-read.max-wait-ms:200}") long readMaxWaitMs,
+                             @Value("${employee.bulkhead.database-write.max-concurrent:2}") int writeMaxConcurrent,
+                             @Value("${employee.bulkhead.database-write.max-waiting:0}") int writeMaxWaiting,
+                             @Value("${employee.bulkhead.database-write.max-wait-ms:0}") long writeMaxWaitMs) {
+        this.upstream = new Bulkhead(UPSTREAM, upstreamMaxConcurrent, upstreamMaxWaiting, upstreamMaxWaitMs, metrics);
+        this.databaseRead = new Bulkhead(DATABASE_READ, readMaxConcurrent, readMaxWaiting, readMaxWaitMs, metrics);
+        this.databaseWrite = new Bulkhead(DATABASE_WRITE, writeMaxConcurrent, writeMaxWaiting, writeMaxWaitMs, metrics);
+        metrics.bindBulkhead(upstream);
+        metrics.bindBulkhead(databaseRead);
+        metrics.bindBulkhead(databaseWrite);
+    }
+
+    public Bulkhead upstream() {
+        return upstream;
+    }
+
+    public Bulkhead databaseRead() {
+        return databaseRead;
+    }
+
+    public Bulkhead databaseWrite() {
+        return databaseWrite;
+    }
+}
@@ -0,0 +1,137 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.config.FeignRateLimitInterceptor;
+import com.amaris.employee_management.config.RequestPriority;
+import com.amaris.employee_management.model.Employee;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Periodically reloads employee data from the external API in the background.
+ *
+ * Replaces the cached entries in place instead of evicting them, so requests keep
+ * being served from the cache while the refresh runs. Each run is scheduled at
+ * the configured interval plus a random jitter, so nodes started together drift
+ * apart instead of calling the external API at the same moment. A run is skipped
+ * when the rate limiter does not have enough free permits for user traffic, and
+ * the calls it makes run as background work that yields to user lookups.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeCacheRefresher {
+    /** Timer recording the duration of each refresh, tagged by outcome */
+    static final String REFRESH_TIMER = "employee.cache.refresh";
+
+    private final EmployeeService employeeService;
+    private final EmployeeCacheWriter cacheWriter;
+    private final FeignRateLimitInterceptor rateLimiter;
+    private final TaskScheduler taskScheduler;
+    private final MeterRegistry meterRegistry;
+
+    /** Epoch seconds of the last successful refresh */
+    private final AtomicLong lastSuccess = new AtomicLong();
+
+    /** Whether the background refresh runs at all */
+    @Value("${employee.refresh.enabled:true}")
+    private boolean enabled;
+
+    /** Base interval between two refreshes */
+    @Value("${employee.refresh.interval-ms:1200000}")
+    private long intervalMs;
+
+    /** Maximum random delay added to every interval */
+    @Value("${employee.refresh.jitter-ms:300000}")
+    private long jitterMs;
+
+    /** Minimum number of free rate limiter permits required to refresh */
+    @Value("${employee.refresh.min-free-permits:2}")
+    private int minFreePermits;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder(REFRESH_TIMER + ".last.success", lastSuccess, AtomicLong::get)
+                .description("Epoch seconds of the last successful employee cache refresh")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Schedules the first refresh once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Background employee refresh disabled");
+            return;
+        }
+        scheduleNext();
+    }
+
+    /**
+     * Reloads all employees and replaces the cached entries.
+     *
+     * @return Outcome of the refresh: success, empty, skipped or failure
+     */
+    public String refresh() {
+        long start = System.nanoTime();
+        String outcome;
+
+        if (rateLimiter.availablePermits() < minFreePermits) {
+            log.info("Skipping employee refresh, only {} rate limiter permits available",
+                    rateLimiter.availablePermits());
+            outcome = "skipped";
+        } else {
+            try {
+                List<Employee> employees = RequestPriority.BACKGROUND.call(employeeService::refreshAllEmployees);
+                if (employees.isEmpty()) {
+                    outcome = "empty";
+                } else {
+                    cacheWriter.putAll(employees);
+                    lastSuccess.set(Instant.now().getEpochSecond());
+                    outcome = "success";
+                    log.info("Refreshed {} employees in cache", employees.size());
+                }
+            } catch (Exception e) {
+                log.warn("Employee refresh failed, keeping cached entries", e);
+                outcome = "failure";
+            }
+        }
+
+        Timer.builder(REFRESH_TIMER)
+                .description("Duration of background employee cache refreshes")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return outcome;
+    }
+
+    private void run() {
+        try {
+            refresh();
+        } finally {
+            scheduleNext();
+        }
+    }
+
+    private void scheduleNext() {
+        long delayMs = intervalMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs) : 0);
+        taskScheduler.schedule(this::run, Instant.now().plusMillis(delayMs));
+        log.debug("Next employee refresh in {}ms", delayMs);
+    }
+}
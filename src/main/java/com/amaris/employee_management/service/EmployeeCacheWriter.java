@@ -0,0 +1,201 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.model.Employee;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes employee data directly into the employee caches.
+ *
+ * Uses the same caches and keys as the {@code @Cacheable} methods in {@link EmployeeServiceImpl}
+ * ('all' in "employeeList" for the full list and the String ID in "employees" for
+ * single employees), so entries written here are served exactly as if they had
+ * been loaded by the service.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeCacheWriter {
+    /** Name of the cache holding single employees */
+    public static final String CACHE_NAME = "employees";
+
+    /** Name of the cache holding the full employee list */
+    public static final String LIST_CACHE_NAME = "employeeList";
+
+    /** Cache key used for the full employee list */
+    public static final String ALL_KEY = "all";
+
+    private final CacheManager cacheManager;
+
+    /**
+     * Replaces the full list entry and every per-ID entry contained in it.
+     * Empty lists are ignored, matching the {@code unless} condition of the service.
+     *
+     * @param employees Employees to store in the cache
+     */
+    public void putAll(List<Employee> employees) {
+        if (employees == null || employees.isEmpty()) {
+            return;
+        }
+
+        Cache listCache = cacheManager.getCache(LIST_CACHE_NAME);
+        if (listCache != null) {
+            listCache.put(ALL_KEY, employees);
+        }
+        Cache cache = getCache();
+        if (cache != null) {
+            employees.forEach(employee -> put(cache, employee));
+        }
+        log.debug("Cached {} employees", employees.size());
+    }
+
+    /**
+     * Replaces the per-ID entry for a single employee.
+     *
+     * @param employee Employee to store in the cache
+     */
+    public void put(Employee employee) {
+        Cache cache = getCache();
+        if (cache != null) {
+            put(cache, employee);
+        }
+    }
+
+    /**
+     * Replaces an employee in the cached full list, or appends it if new.
+     * The list is copied, readers holding the previous one are not affected.
+     * Nothing happens if the list is not cached, the next read loads it.
+     *
+     * @param employee Employee to store in the list
+     */
+    public synchronized void putInList(Employee employee) {
+        List<Employee> employees = getList();
+        if (employees == null) {
+            return;
+        }
+
+        List<Employee> updated = new ArrayList<>(employees.size() + 1);
+        boolean replaced = false;
+        for (Employee cached : employees) {
+            if (cached.id() == employee.id()) {
+                updated.add(employee);
+                replaced = true;
+            } else {
+                updated.add(cached);
+            }
+        }
+        if (!replaced) {
+            updated.add(employee);
+        }
+        putList(updated);
+    }
+
+    /**
+     * Removes an employee from the per-ID cache and from the cached full list.
+     *
+     * @param id Employee ID
+     */
+    public synchronized void evict(long id) {
+        Cache cache = getCache();
+        if (cache != null) {
+            cache.evict(String.valueOf(id));
+        }
+
+        List<Employee> employees = getList();
+        if (employees == null) {
+            return;
+        }
+        List<Employee> updated = employees.stream()
+                .filter(employee -> employee.id() != id)
+                .toList();
+        if (updated.size() == employees.size()) {
+            return;
+        }
+        if (updated.isEmpty()) {
+            // Empty lists are never cached
+            cacheManager.getCache(LIST_CACHE_NAME).evict(ALL_KEY);
+        } else {
+            putList(updated);
+        }
+    }
+
+    /**
+     * Checks whether the full employee list is currently cached.
+     * Peeks at the native Caffeine cache when possible, so the check
+     * is not counted as a cache hit or miss.
+     *
+     * @return true if the 'all' entry is present
+     */
+    public boolean hasAll() {
+        Cache cache = cacheManager.getCache(LIST_CACHE_NAME);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            return caffeineCache.getNativeCache().asMap().containsKey(ALL_KEY);
+        }
+        return cache != null && cache.get(ALL_KEY) != null;
+    }
+
+    /**
+     * Checks whether a key is currently cached, without counting a cache hit or miss.
+     *
+     * @param key Cache key, 'all' or an employee ID
+     * @return true if the entry is present
+     */
+    public boolean isCached(String key) {
+        Cache cache = cacheManager.getCache(ALL_KEY.equals(key) ? LIST_CACHE_NAME : CACHE_NAME);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            return caffeineCache.getNativeCache().asMap().containsKey(key);
+        }
+        return false;
+    }
+
+    /**
+     * Reads a single employee without counting a cache hit or miss.
+     *
+     * @param id Employee ID
+     * @return Cached employee, null if not cached
+     */
+    public Employee peek(String id) {
+        Cache cache = getCache();
+        if (cache instanceof CaffeineCache caffeineCache) {
+            // getIfPresent would record a hit or miss, the map view does not
+            return (Employee) caffeineCache.getNativeCache().asMap().get(id);
+        }
+        return cache != null ? cache.get(id, Employee.class) : null;
+    }
+
+    /**
+     * @return Cached full list, null if not cached; read without counting a cache hit or miss
+     */
+    @SuppressWarnings("unchecked")
+    private List<Employee> getList() {
+        Cache cache = cacheManager.getCache(LIST_CACHE_NAME);
+        if (cache instanceof CaffeineCache caffeineCache) {
+            return (List<Employee>) caffeineCache.getNativeCache().asMap().get(ALL_KEY);
+        }
+        return cache != null ? (List<Employee>) cache.get(ALL_KEY, List.class) : null;
+    }
+
+    private void putList(List<Employee> employees) {
+        Cache listCache = cacheManager.getCache(LIST_CACHE_NAME);
+        if (listCache != null) {
+            listCache.put(ALL_KEY, employees);
+        }
+    }
+
+    private void put(Cache cache, Employee employee) {
+        if (employee != null) {
+            cache.put(String.valueOf(employee.id()), employee);
+        }
+    }
+
+    private Cache getCache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
@@ -0,0 +1,412 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.exception.ServiceUnavailableException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes employee changes detected by the syncs with the external API, and
+ * made through the write endpoints, to server-sent event subscribers.
+ *
+ * Full syncs are compared with the previous one to find created, updated and
+ * removed employees; single lookups and writes report the employee they touched.
+ * The first full sync is the baseline and publishes nothing.
+ *
+ * Subscribers are {@link SseEmitter}s, which hold the connection without a
+ * request thread. A single dispatcher thread owns the known employees and the
+ * event buffer, and queues every event to every subscriber, so events reach
+ * each subscriber in order and a replay never overlaps a live event. Sends are
+ * blocking writes, so they run on a pool of {@code sender-threads}, at most one
+ * thread per subscriber at a time, and a client that stops reading never holds
+ * up the dispatcher or the other subscribers. A subscriber with more than
+ * {@code max-pending} events waiting is dropped; it reconnects and resumes from
+ * the buffer like any other client.
+ *
+ * The last {@code buffer-size} events are kept so a subscriber reconnecting
+ * with Last-Event-ID resumes where it stopped; older IDs get a "reset" event,
+ * telling the client to reload the list. Event IDs start at the startup time
+ * in milliseconds, so IDs issued before a restart are older than the buffer
+ * and get a reset as well.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeChangeFeed {
+    static final String CREATED = "created";
+    static final String UPDATED = "updated";
+    static final String REMOVED = "removed";
+    static final String RESET = "reset";
+
+    /** Heartbeat comment, queued like an event but never buffered */
+    private static final Event HEARTBEAT = new Event(0, null, null);
+
+    private final TaskScheduler taskScheduler;
+    private final EmployeeMetrics metrics;
+
+    /** Events kept for subscribers resuming with Last-Event-ID */
+    @Value("${employee.stream.buffer-size:1000}")
+    private int bufferSize;
+
+    /** Maximum number of open subscriptions, further ones get a 503 */
+    @Value("${employee.stream.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    /** Interval of the heartbeat comments keeping idle connections open */
+    @Value("${employee.stream.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    /** Lifetime of a subscription, after which the client reconnects with Last-Event-ID */
+    @Value("${employee.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    /** Events waiting to be sent to a subscriber before it is dropped */
+    @Value("${employee.stream.max-pending:1000}")
+    private int maxPending;
+
+    /** Threads sending the events to the subscribers */
+    @Value("${employee.stream.sender-threads:4}")
+    private int senderThreads;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /** Recent events, oldest first; only touched by the dispatcher thread */
+    private final ArrayDeque<Event> events = new ArrayDeque<>();
+
+    /** Employees of the last sync by ID, null before the first full sync; only touched by the dispatcher thread */
+    private Map<Long, Employee> known;
+
+    private long nextEventId = System.currentTimeMillis();
+
+    private ThreadPoolExecutor dispatcher;
+
+    /** Runs the sends; its queue holds at most one task per subscriber */
+    private ThreadPoolExecutor senders;
+
+    private ScheduledFuture<?> heartbeat;
+
+    @PostConstruct
+    void start() {
+        dispatcher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "employee-change-feed");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        AtomicInteger senderCount = new AtomicInteger();
+        senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "employee-change-feed-sender-" + senderCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        heartbeat = taskScheduler.scheduleAtFixedRate(this::sendHeartbeat, Duration.ofMillis(heartbeatMs));
+        metrics.bindChangeFeed(this);
+    }
+
+    @PreDestroy
+    void stop() {
+        heartbeat.cancel(false);
+        dispatcher.shutdown();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Opens a subscription, replaying the buffered events after {@code lastEventId}.
+     *
+     * @param lastEventId Last-Event-ID sent by a reconnecting client, null for a new subscription
+     * @return Emitter streaming the changes
+     * @throws ServiceUnavailableException if too many subscriptions are open
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many change stream subscribers", 1);
+        }
+
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        dispatcher.execute(() -> {
+            if (replay(subscriber, lastEventId)) {
+                subscribers.add(subscriber);
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * Publishes the differences between a full sync and the previous one.
+     * Employees only stored locally were published when they were written, they
+     * are only kept so they are not reported as removed.
+     *
+     * @param employees Every employee returned by the external API
+     * @param localOnly Employees created or imported locally that the external API did not return
+     */
+    public void syncedAll(List<Employee> employees, List<Employee> localOnly) {
+        dispatcher.execute(() -> {
+            Map<Long, Employee> current = new HashMap<>((employees.size() + localOnly.size()) * 4 / 3 + 1);
+            localOnly.forEach(employee -> current.put(employee.id(), employee));
+            employees.forEach(employee -> current.put(employee.id(), employee));
+            if (known == null) {
+                known = current;
+                return;
+            }
+
+            for (Employee employee : employees) {
+                publishIfChanged(known.get(employee.id()), employee);
+            }
+            for (Long id : known.keySet()) {
+                if (!current.containsKey(id)) {
+                    publish(REMOVED, Map.of("id", id));
+                }
+            }
+            known = current;
+        });
+    }
+
+    /**
+     * Publishes an employee returned by a single lookup if it is new or changed.
+     *
+     * @param employee Employee returned by the external API
+     */
+    public void synced(Employee employee) {
+        dispatcher.execute(() -> {
+            if (known != null) {
+                publishIfChanged(known.put(employee.id(), employee), employee);
+            }
+        });
+    }
+
+    /**
+     * Publishes an employee deleted from the local database.
+     *
+     * @param id ID of the deleted employee
+     */
+    public void removed(long id) {
+        dispatcher.execute(() -> {
+            if (known != null && known.remove(id) != null) {
+                publish(REMOVED, Map.of("id", id));
+            }
+        });
+    }
+
+    /**
+     * @return Number of open subscriptions
+     */
+    public int getSubscribers() {
+        return subscribers.size();
+    }
+
+    /**
+     * Creates the emitter of a new subscription.
+     *
+     * @param timeoutMs Lifetime of the subscription
+     * @return Emitter streaming the changes
+     */
+    protected SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void publishIfChanged(Employee previous, Employee employee) {
+        if (previous == null) {
+            publish(CREATED, employee);
+        } else if (!sameContent(previous, employee)) {
+            publish(UPDATED, employee);
+        }
+    }
+
+    private void publish(String type, Object data) {
+        Event event = new Event(nextEventId++, type, data);
+        events.addLast(event);
+        if (events.size() > bufferSize) {
+            events.removeFirst();
+        }
+        metrics.recordChangeEvent(type);
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    /**
+     * Queues the events the subscriber missed, or a reset if they are no longer
+     * buffered or more than it may have waiting.
+     *
+     * @return false if the subscriber is gone
+     */
+    private boolean replay(Subscriber subscriber, String lastEventId) {
+        Long lastId = parse(lastEventId);
+        if (lastId == null) {
+            return true;
+        }
+
+        long oldest = events.isEmpty() ? nextEventId : events.getFirst().id();
+        if (lastId < oldest - 1 || lastId >= nextEventId || nextEventId - 1 - lastId > maxPending) {
+            return subscriber.offer(new Event(nextEventId - 1, RESET, Map.of()));
+        }
+        for (Event event : events) {
+            if (event.id() > lastId && !subscriber.offer(event)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void sendHeartbeat() {
+        subscribers.forEach(Subscriber::offerHeartbeat);
+    }
+
+    private static boolean send(SseEmitter emitter, Event event) {
+        SseEmitter.SseEventBuilder builder = event == HEARTBEAT
+                ? SseEmitter.event().comment("heartbeat")
+                : SseEmitter.event()
+                        .id(String.valueOf(event.id()))
+                        .name(event.type())
+                        .data(event.data(), MediaType.APPLICATION_JSON);
+        try {
+            emitter.send(builder);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Disconnected or already completed
+            log.debug("Dropping change stream subscriber", e);
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private static Long parse(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Compares the values reported by the external API, ignoring the sync time.
+     */
+    private static boolean sameContent(Employee a, Employee b) {
+        return Objects.equals(a.age(), b.age())
+                && Objects.equals(a.salary(), b.salary())
+                && Objects.equals(a.name(), b.name())
+                && Objects.equals(a.profileImage(), b.profileImage());
+    }
+
+    private record Event(long id, String type, Object data) {
+    }
+
+    /**
+     * Events waiting to be sent to one subscriber, sent in order by at most one
+     * sender thread at a time.
+     */
+    private final class Subscriber implements Runnable {
+        private final SseEmitter emitter;
+        private final Queue<Event> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Queues an event, dropping the subscriber if too many are already waiting.
+         *
+         * @return false if the subscriber is gone
+         */
+        boolean offer(Event event) {
+            if (closed) {
+                return false;
+            }
+            if (pendingCount.incrementAndGet() > maxPending) {
+                pendingCount.decrementAndGet();
+                log.debug("Dropping change stream subscriber with {} events waiting", maxPending);
+                metrics.recordChangeSubscriberDropped();
+                close();
+                // Ends the emitter once any send in progress returns
+                schedule();
+                return false;
+            }
+            pending.add(event);
+            schedule();
+            return true;
+        }
+
+        /**
+         * Queues a heartbeat unless events are already waiting, which keep the connection busy.
+         */
+        void offerHeartbeat() {
+            if (pendingCount.get() == 0) {
+                offer(HEARTBEAT);
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down
+                    close();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            Event event;
+            while (!closed && (event = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                if (!send(emitter, event)) {
+                    close();
+                }
+            }
+            if (closed) {
+                pending.clear();
+                emitter.complete();
+                return;
+            }
+            scheduled.set(false);
+            // An event queued after the last poll found the task still scheduled
+            if (!pending.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.exception.ServiceUnavailableException;
+import com.amaris.employee_management.mapper.EmployeeCsvWriter;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.amaris.employee_management.repository.EmployeeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Exports the employee table of the local database as CSV.
+ *
+ * Rows are streamed from a forward-only cursor in a read-only transaction and
+ * written as they arrive, so memory stays constant whatever the table size.
+ * Exports hold a database connection for their whole duration, so only
+ * {@code employee.export.max-concurrent} run at the same time; further ones get
+ * a 503 before anything is written.
+ *
+ * The output is only closed once every row is written. When the export fails
+ * partway, it is left open, so neither a gzip trailer nor the end of the
+ * response tells the client that the truncated file is complete.
+ */
+@Service
+@Slf4j
+public class EmployeeExportService {
+    /** Bulkhead of running exports */
+    public static final String EXPORT = "export";
+
+    /** Size of the buffer between the CSV writer and the response */
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeCsvWriter csvWriter;
+    private final EmployeeMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Bulkhead bulkhead;
+
+    /** Rows fetched from the database per round trip */
+    @Value("${employee.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public EmployeeExportService(EmployeeRepository employeeRepository,
+                                 EmployeeCsvWriter csvWriter,
+                                 EmployeeMetrics metrics,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${employee.export.max-concurrent:2}") int maxConcurrent) {
+        this.employeeRepository = employeeRepository;
+        this.csvWriter = csvWriter;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.bulkhead = new Bulkhead(EXPORT, maxConcurrent, 0, 0, metrics);
+        metrics.bindBulkhead(bulkhead);
+    }
+
+    /**
+     * Writes every employee as CSV.
+     *
+     * @param fields Columns to export
+     * @param output Opens the destination, only called once the export is admitted
+     * @return Number of rows written, without the header
+     * @throws ServiceUnavailableException if too many exports are running
+     * @throws RuntimeException if reading the rows failed; the output is left open
+     */
+    public long writeCsv(EmployeeFields fields, ExportOutput output) throws IOException {
+        if (!bulkhead.tryEnter()) {
+            throw new ServiceUnavailableException("Too many exports running", 5);
+        }
+
+        long start = System.nanoTime();
+        long[] rows = new long[1];
+        String outcome = "error";
+        try {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(output.open(), StandardCharsets.UTF_8), BUFFER_SIZE);
+            csvWriter.writeHeader(writer, fields);
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Employee> employees = employeeRepository.streamAllProjected(fields, fetchSize)) {
+                    Iterator<Employee> iterator = employees.iterator();
+                    while (iterator.hasNext()) {
+                        csvWriter.writeRow(writer, iterator.next(), fields);
+                        rows[0]++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            // Only a complete export ends the output
+            writer.close();
+            outcome = "success";
+        } catch (UncheckedIOException e) {
+            // Most likely the client went away
+            throw e.getCause();
+        } finally {
+            bulkhead.exit();
+            metrics.recordExport(outcome, rows[0], System.nanoTime() - start);
+        }
+        log.info("Exported {} employees", rows[0]);
+        return rows[0];
+    }
+
+    /**
+     * Destination of an export, opened once the export is admitted so a rejected
+     * export can still be answered with an error.
+     */
+    @FunctionalInterface
+    public interface ExportOutput {
+        OutputStream open() throws IOException;
+    }
+}
@@ -0,0 +1,240 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decides whether an employee ID is known not to exist, so lookups for it can be
+ * answered with a 404 without calling the external API or the local database.
+ *
+ * Two checks are combined:
+ * <ul>
+ *     <li>A membership filter of the IDs returned by the last full sync with the
+ *     external API, plus the employees only stored locally and the ones seen since.
+ *     An ID up to the highest known ID that is not in the filter is
+ *     missing. IDs slightly above it (within {@code employee.id-filter.headroom})
+ *     are let through, since new employees usually get the next IDs.</li>
+ *     <li>A short-lived negative cache of IDs the external API reported as missing.</li>
+ * </ul>
+ * Non-numeric and non-positive IDs are always missing. Until the first full sync,
+ * and while an import is running, only the negative cache is used.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeIdFilter {
+    /** Name of the cache holding IDs reported as missing */
+    public static final String MISSING_CACHE_NAME = "missingEmployees";
+
+    private final CacheManager cacheManager;
+    private final EmployeeMetrics metrics;
+
+    /** Filter built at the last full sync, null until then */
+    private volatile KnownIds knownIds;
+
+    /**
+     * IDs added since the last rebuild, carried into the next filter since the
+     * IDs it is built from may have been read before they were added; guarded by this
+     */
+    private final Set<Long> addedSinceRebuild = new HashSet<>();
+
+    /** Number of running imports, which suspend the membership filter */
+    private final AtomicInteger suspended = new AtomicInteger();
+
+    /** Whether the membership filter is used */
+    @Value("${employee.id-filter.enabled:true}")
+    private boolean enabled;
+
+    /** How far above the highest known ID lookups are still let through */
+    @Value("${employee.id-filter.headroom:100}")
+    private long headroom;
+
+    /** Target false positive rate of the membership filter */
+    @Value("${employee.id-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /**
+     * Checks whether an employee is known not to exist.
+     *
+     * @param id Requested employee ID
+     * @return true if the lookup can be answered with a 404 right away
+     */
+    public boolean isKnownMissing(String id) {
+        long employeeId;
+        try {
+            employeeId = Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            metrics.recordMissingIdRejection("invalid");
+            return true;
+        }
+        if (employeeId <= 0) {
+            metrics.recordMissingIdRejection("invalid");
+            return true;
+        }
+
+        Cache missing = cacheManager.getCache(MISSING_CACHE_NAME);
+        if (missing != null && missing.get(id) != null) {
+            metrics.recordMissingIdRejection("negative_cache");
+            return true;
+        }
+
+        KnownIds filter = knownIds;
+        if (enabled && filter != null && suspended.get() == 0 && !filter.mightExist(employeeId, headroom)) {
+            metrics.recordMissingIdRejection("filter");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records that the external API reported an employee as missing.
+     *
+     * @param id Employee ID
+     */
+    public void markMissing(String id) {
+        Cache missing = cacheManager.getCache(MISSING_CACHE_NAME);
+        if (missing != null) {
+            missing.put(id, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Records an employee seen since the last full sync.
+     *
+     * @param id Employee ID
+     */
+    public void add(Long id) {
+        if (id == null) {
+            return;
+        }
+        forgetMissing(id);
+        synchronized (this) {
+            addedSinceRebuild.add(id);
+            KnownIds filter = knownIds;
+            if (filter != null) {
+                filter.add(id);
+            }
+        }
+    }
+
+    /**
+     * Removes an employee from the negative cache, without adding it to the filter.
+     *
+     * @param id Employee ID
+     */
+    public void forgetMissing(long id) {
+        Cache missing = cacheManager.getCache(MISSING_CACHE_NAME);
+        if (missing != null) {
+            missing.evict(String.valueOf(id));
+        }
+    }
+
+    /**
+     * Stops using the membership filter until {@link #resume()}, for imports
+     * adding more employees than the filter was sized for.
+     */
+    public void suspend() {
+        suspended.incrementAndGet();
+    }
+
+    /**
+     * Uses the membership filter again, once the last import is over and the
+     * filter was rebuilt with the imported IDs.
+     */
+    public void resume() {
+        suspended.decrementAndGet();
+    }
+
+    /**
+     * Replaces the membership filter with the IDs of a full sync, keeping the
+     * IDs added since the previous rebuild. An empty sync keeps the previous
+     * filter, since it most likely means the external API returned no data
+     * rather than that every employee was removed.
+     *
+     * @param ids Every employee ID returned by the external API and stored only locally
+     */
+    public void rebuild(Collection<Long> ids) {
+        long count = ids.stream().filter(Objects::nonNull).count();
+        if (count == 0) {
+            return;
+        }
+        KnownIds filter;
+        synchronized (this) {
+            filter = new KnownIds(count + addedSinceRebuild.size(), falsePositiveRate);
+            ids.stream().filter(Objects::nonNull).forEach(filter::add);
+            addedSinceRebuild.forEach(filter::add);
+            addedSinceRebuild.clear();
+            knownIds = filter;
+        }
+        log.debug("Rebuilt known employee ID filter with {} IDs, highest ID {}", count, filter.maxId);
+    }
+
+    /**
+     * Bloom filter of employee IDs plus the highest ID added. Lookups read it
+     * without locking while employees are added, so the bits are kept in an
+     * atomic array.
+     */
+    static final class KnownIds {
+        private final AtomicLongArray bits;
+        private final int bitCount;
+        private final int hashes;
+        private volatile long maxId;
+
+        KnownIds(long expected, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long size = (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (ln2 * ln2));
+            bitCount = (int) Math.max(64, Math.min(size, Integer.MAX_VALUE - 63));
+            bits = new AtomicLongArray((bitCount + 63) / 64);
+            hashes = Math.max(1, (int) Math.round((double) bitCount / expected * ln2));
+        }
+
+        synchronized void add(long id) {
+            long hash = mix(id);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                bits.accumulateAndGet(bit >>> 6, 1L << bit, (word, mask) -> word | mask);
+            }
+            if (id > maxId) {
+                maxId = id;
+            }
+        }
+
+        boolean mightExist(long id, long headroom) {
+            if (id > maxId) {
+                return id - maxId <= headroom;
+            }
+            long hash = mix(id);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 0; i < hashes; i++) {
+                int bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** SplitMix64 finalizer, spreads consecutive IDs over the whole filter */
+        private static long mix(long value) {
+            long z = value + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.model.EmployeeImportReport;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Command line mode importing a file into the local database, then exiting.
+ *
+ * Enabled by {@code employee.import.file}. The format follows the extension
+ * (.csv, .ndjson or .jsonl, optionally gzip compressed as .gz). Runs before the
+ * warm-up and exits with status 1 if the import failed or rejected any row.
+ */
+@Component
+@ConditionalOnProperty("employee.import.file")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeImportRunner implements ApplicationRunner {
+    private final EmployeeImportService importService;
+    private final ConfigurableApplicationContext context;
+
+    /** File to import */
+    @Value("${employee.import.file}")
+    private Path file;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int status = 1;
+        try (InputStream input = open(file)) {
+            log.info("Importing employees from {}", file);
+            EmployeeImportReport report = importService.importEmployees(
+                    EmployeeImportService.Format.ofFile(file.getFileName().toString()), input);
+            report.rejections().forEach(rejection ->
+                    log.warn("Rejected line {}: {}", rejection.line(), rejection.reason()));
+            status = report.rejected() == 0 ? 0 : 1;
+        } catch (Exception e) {
+            log.error("Import of {} failed", file, e);
+        }
+
+        int exitCode = status;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        InputStream input = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        return file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".gz")
+                ? new GZIPInputStream(input, 64 * 1024)
+                : input;
+    }
+}
@@ -0,0 +1,423 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.exception.BadRequestException;
+import com.amaris.employee_management.exception.ServiceUnavailableException;
+import com.amaris.employee_management.mapper.CsvRecordReader;
+import com.amaris.employee_management.mapper.EmployeeRowMapper;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.amaris.employee_management.model.EmployeeImportReport;
+import com.amaris.employee_management.model.EmployeeImportReport.Rejection;
+import com.amaris.employee_management.repository.EmployeeJdbcWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Imports employees from CSV or NDJSON into the local database, to seed the
+ * fallback store without the external API.
+ *
+ * The import is a two-stage pipeline: the calling thread reads, validates and
+ * maps rows into batches of {@code employee.import.batch-size}, while a writer
+ * thread stores the previous batches with {@link EmployeeJdbcWriter#upsertAll(List, boolean)},
+ * one transaction per batch. A bounded queue between them keeps memory
+ * constant whatever the input size. Invalid rows and rows of failed batches
+ * are reported and skipped, the rest of the input is still imported.
+ *
+ * Rows replace existing employees with the same ID, incrementing their version
+ * if they differ; new ones are flagged local only. Columns and properties are
+ * the ones of the export and the JSON responses, validated by
+ * {@link EmployeeRowMapper}.
+ *
+ * The caches are left alone, they hold the values of the external API. The
+ * known ID filter is suspended while the import runs, then rebuilt from every
+ * ID of the local database, so fallback lookups of imported employees are not
+ * answered with a 404 and a large import does not saturate the filter.
+ */
+@Service
+@Slf4j
+public class EmployeeImportService {
+    /** Bulkhead of running imports */
+    public static final String IMPORT = "import";
+
+    /** Marks the end of the input for the writer */
+    private static final Batch END = new Batch(List.of(), 0, 0);
+
+    private final EmployeeJdbcWriter jdbcWriter;
+    private final ObjectMapper objectMapper;
+    private final EmployeeIdFilter idFilter;
+    private final EmployeeMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Bulkhead bulkhead;
+
+    /** Rows written per JDBC batch and transaction */
+    @Value("${employee.import.batch-size:1000}")
+    private int batchSize;
+
+    /** Parsed batches waiting for the writer before the parser blocks */
+    @Value("${employee.import.queue-capacity:4}")
+    private int queueCapacity;
+
+    /** Rows between two progress log lines */
+    @Value("${employee.import.progress-interval:100000}")
+    private long progressInterval;
+
+    /** Rejected rows listed in the report, further ones are only counted */
+    @Value("${employee.import.max-reported-rejections:100}")
+    private int maxReportedRejections;
+
+    public EmployeeImportService(EmployeeJdbcWriter jdbcWriter,
+                                 ObjectMapper objectMapper,
+                                 EmployeeIdFilter idFilter,
+                                 EmployeeMetrics metrics,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${employee.import.max-concurrent:1}") int maxConcurrent) {
+        this.jdbcWriter = jdbcWriter;
+        this.objectMapper = objectMapper;
+        this.idFilter = idFilter;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bulkhead = new Bulkhead(IMPORT, maxConcurrent, 0, 0, metrics);
+        metrics.bindBulkhead(bulkhead);
+    }
+
+    /**
+     * Imports every row of the input.
+     *
+     * @param format Format of the input
+     * @param input UTF-8 input, read to the end but not closed
+     * @return Number of imported and rejected rows
+     * @throws BadRequestException if the CSV header has unknown or missing columns
+     * @throws ServiceUnavailableException if another import is running
+     * @throws IOException if the input cannot be read; batches written until then stay imported
+     */
+    public EmployeeImportReport importEmployees(Format format, InputStream input) throws IOException {
+        if (!bulkhead.tryEnter()) {
+            throw new ServiceUnavailableException("Another import is running", 5);
+        }
+
+        long start = System.nanoTime();
+        idFilter.suspend();
+        Progress progress = new Progress(start);
+        BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Thread writer = new Thread(() -> write(queue, progress), "employee-import-writer");
+        writer.setDaemon(true);
+        writer.start();
+
+        String outcome = "error";
+        Batcher batcher = new Batcher(queue, writer);
+        try {
+            Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+            if (format == Format.CSV) {
+                parseCsv(reader, batcher, progress);
+            } else {
+                parseNdjson(reader, batcher, progress);
+            }
+            outcome = "success";
+        } finally {
+            try {
+                batcher.finish();
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writer.interrupt();
+            } finally {
+                rebuildIdFilter();
+                bulkhead.exit();
+                metrics.recordImport(outcome, System.nanoTime() - start);
+            }
+        }
+
+        EmployeeImportReport report = progress.report();
+        log.info("Imported {} employees, {} rejected, in {}ms", report.imported(), report.rejected(),
+                report.durationMs());
+        return report;
+    }
+
+    /**
+     * Rebuilds the known ID filter with the imported IDs and uses it again.
+     */
+    private void rebuildIdFilter() {
+        try {
+            idFilter.rebuild(jdbcWriter.findAllIds());
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the known ID filter after the import", e);
+        } finally {
+            idFilter.resume();
+        }
+    }
+
+    private void parseCsv(Reader reader, Batcher batcher, Progress progress) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            if (!EmployeeFields.NAMES.contains(name)) {
+                throw new BadRequestException("Unknown CSV column: " + name + ", expected any of "
+                        + EmployeeFields.NAMES);
+            }
+            columns.put(name, i);
+        }
+        if (!columns.containsKey("id") || !columns.containsKey("name")) {
+            throw new BadRequestException("CSV header must contain the id and name columns");
+        }
+
+        long now = System.currentTimeMillis();
+        List<String> values;
+        while ((values = csv.next()) != null) {
+            if (values.size() != header.size()) {
+                progress.reject(csv.getLine(), "Expected " + header.size() + " values, found " + values.size());
+                continue;
+            }
+            List<String> row = values;
+            map(name -> {
+                Integer column = columns.get(name);
+                return column != null ? row.get(column) : null;
+            }, csv.getLine(), now, batcher, progress);
+        }
+    }
+
+    private void parseNdjson(Reader reader, Batcher batcher, Progress progress) throws IOException {
+        BufferedReader lines = new BufferedReader(reader, 64 * 1024);
+        long now = System.currentTimeMillis();
+        long lineNumber = 0;
+        String line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                progress.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (!node.isObject()) {
+                progress.reject(lineNumber, "Expected a JSON object");
+                continue;
+            }
+            map(EmployeeRowMapper.of(node), lineNumber, now, batcher, progress);
+        }
+    }
+
+    private void map(EmployeeRowMapper.Row row, long line, long now, Batcher batcher, Progress progress) {
+        try {
+            batcher.add(EmployeeRowMapper.toEmployee(row, now), line);
+        } catch (IllegalArgumentException e) {
+            progress.reject(line, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the queued batches until the end marker.
+     */
+    private void write(BlockingQueue<Batch> queue, Progress progress) {
+        try {
+            Batch batch;
+            while ((batch = queue.take()) != END) {
+                write(batch, progress);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Import writer interrupted");
+        }
+    }
+
+    private void write(Batch batch, Progress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcWriter.upsertAll(batch.employees(), true));
+        } catch (RuntimeException e) {
+            log.warn("Import batch of lines {} to {} failed", batch.firstLine(), batch.lastLine(), e);
+            progress.rejectBatch(batch, "Batch of lines " + batch.firstLine() + " to " + batch.lastLine()
+                    + " failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            return;
+        }
+
+        batch.employees().forEach(employee -> idFilter.forgetMissing(employee.id()));
+        progress.imported(batch.employees().size());
+    }
+
+    /**
+     * Format of an import.
+     */
+    public enum Format {
+        /** CSV with a header row, as written by the export */
+        CSV,
+        /** One JSON object per line */
+        NDJSON;
+
+        /**
+         * Picks the format from a file name, ignoring a .gz suffix.
+         *
+         * @param fileName Name of the file
+         * @return Format of the file
+         * @throws IllegalArgumentException if the extension is not .csv, .ndjson or .jsonl
+         */
+        public static Format ofFile(String fileName) {
+            String name = fileName.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".gz")) {
+                name = name.substring(0, name.length() - 3);
+            }
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported import file, expected .csv, .ndjson or .jsonl: "
+                    + fileName);
+        }
+    }
+
+    /**
+     * Rows handed to the writer in one transaction.
+     *
+     * @param employees Valid rows, in input order
+     * @param firstLine Line of the first row
+     * @param lastLine Line of the last row
+     */
+    private record Batch(List<Employee> employees, long firstLine, long lastLine) {
+    }
+
+    /**
+     * Groups parsed rows into batches and queues them for the writer.
+     */
+    private final class Batcher {
+        private final BlockingQueue<Batch> queue;
+        private final Thread writer;
+        private List<Employee> employees = new ArrayList<>(batchSize);
+        private long firstLine;
+        private long lastLine;
+
+        private Batcher(BlockingQueue<Batch> queue, Thread writer) {
+            this.queue = queue;
+            this.writer = writer;
+        }
+
+        void add(Employee employee, long line) {
+            if (employees.isEmpty()) {
+                firstLine = line;
+            }
+            employees.add(employee);
+            lastLine = line;
+            if (employees.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Queues the last rows and the end marker.
+         */
+        void finish() throws InterruptedException {
+            if (!employees.isEmpty()) {
+                put(new Batch(employees, firstLine, lastLine));
+            }
+            put(END);
+        }
+
+        private void flush() {
+            try {
+                put(new Batch(employees, firstLine, lastLine));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Import interrupted", e);
+            }
+            employees = new ArrayList<>(batchSize);
+        }
+
+        private void put(Batch batch) throws InterruptedException {
+            while (!queue.offer(batch, 100, TimeUnit.MILLISECONDS)) {
+                if (!writer.isAlive()) {
+                    throw new IllegalStateException("Import writer stopped");
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts of an import, updated by the parser and the writer.
+     */
+    private final class Progress {
+        private final long start;
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final List<Rejection> rejections = new ArrayList<>();
+        private long nextLog = progressInterval;
+
+        private Progress(long start) {
+            this.start = start;
+        }
+
+        void reject(long line, String reason) {
+            rejected.incrementAndGet();
+            metrics.recordImportRows("rejected", 1);
+            synchronized (rejections) {
+                if (rejections.size() < maxReportedRejections) {
+                    rejections.add(new Rejection(line, reason));
+                }
+            }
+        }
+
+        void rejectBatch(Batch batch, String reason) {
+            rejected.addAndGet(batch.employees().size());
+            metrics.recordImportRows("rejected", batch.employees().size());
+            synchronized (rejections) {
+                if (rejections.size() < maxReportedRejections) {
+                    rejections.add(new Rejection(batch.firstLine(), reason));
+                }
+            }
+        }
+
+        /**
+         * Counts written rows and logs the progress, only called by the writer.
+         */
+        void imported(long rows) {
+            long total = imported.addAndGet(rows);
+            metrics.recordImportRows("imported", rows);
+            if (total >= nextLog) {
+                long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                log.info("Import progress: {} employees imported, {} rejected, {} rows/s",
+                        total, rejected.get(), total * 1000 / elapsedMs);
+                nextLog = (total / progressInterval + 1) * progressInterval;
+            }
+        }
+
+        EmployeeImportReport report() {
+            synchronized (rejections) {
+                return new EmployeeImportReport(imported.get(), rejected.get(), rejections,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }
+    }
+}
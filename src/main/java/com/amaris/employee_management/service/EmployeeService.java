@@ -1,6 +1,7 @@
 package com.amaris.employee_management.service;
 
-import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
 
 import java.util.List;
 
@@ -20,7 +21,16 @@ public interface EmployeeService {
      *
      * @return List of all employees
      */
-    List<EmployeeEntity> findAllEmployees();
+    List<Employee> findAllEmployees();
+
+    /**
+     * Retrieves a list of all employees, needing only some of their properties.
+     * The other properties may or may not be set.
+     *
+     * @param fields Properties needed by the caller
+     * @return List of all employees
+     */
+    List<Employee> findAllEmployees(EmployeeFields fields);
 
     /**
      * Finds an employee by their unique identifier.
@@ -28,7 +38,25 @@ public interface EmployeeService {
      * @param id Unique identifier of the employee
      * @return Employee details
      */
-    EmployeeEntity findEmployeeById(String id);
+    Employee findEmployeeById(String id);
+
+    /**
+     * Finds an employee by their unique identifier, needing only some of their properties.
+     * The other properties may or may not be set.
+     *
+     * @param id Unique identifier of the employee
+     * @param fields Properties needed by the caller
+     * @return Employee details
+     */
+    Employee findEmployeeById(String id, EmployeeFields fields);
+
+    /**
+     * Reloads all employees from the external service and saves them locally,
+     * without falling back to the local database.
+     *
+     * @return List of refreshed employees, empty if the service returned no data
+     */
+    List<Employee> refreshAllEmployees();
 
     /**
      * Calculates the annual salary for a specific employee.
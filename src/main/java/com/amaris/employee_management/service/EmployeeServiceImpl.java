@@ -4,23 +4,33 @@ import com.amaris.employee_management.client.EmployeeFeignClient;
 import com.amaris.employee_management.client.dto.EmployeeDTO;
 import com.amaris.employee_management.client.dto.ResponseDTO;
 import com.amaris.employee_management.config.FeignRateLimitInterceptor;
+import com.amaris.employee_management.exception.EmployeeNotFoundException;
 import com.amaris.employee_management.exception.FeignErrorDecoder.RateLimitExceededException;
 import com.amaris.employee_management.exception.FeignErrorDecoder.ResourceNotFoundException;
+import com.amaris.employee_management.exception.ServiceUnavailableException;
 import com.amaris.employee_management.mapper.EmployeeMapper;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
 import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.amaris.employee_management.repository.EmployeeJdbcWriter;
 import com.amaris.employee_management.repository.EmployeeRepository;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +39,10 @@ import java.util.stream.Collectors;
  *
  * This service tries to fetch data from external API first,
  * then falls back to local database if needed, and uses caching for performance.
+ * It returns immutable {@link Employee} values; entities are only created to
+ * read and write the local database. Requests for some of the properties
+ * ({@link EmployeeFields}) share the cache with full requests, but only read
+ * the requested columns when falling back to the local database.
  */
 @Service
 @RequiredArgsConstructor
@@ -38,120 +52,496 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final EmployeeMapper employeeMapper;
     private final EmployeeRepository employeeRepository;
     private final FeignRateLimitInterceptor rateLimiter;
+    private final EmployeeMetrics metrics;
+    private final EmployeeIdFilter idFilter;
+    private final EmployeeBulkheads bulkheads;
+    private final EmployeeSourceRacer racer;
+    private final EmployeeCacheWriter cacheWriter;
+    private final EmployeeChangeFeed changeFeed;
+    private final EmployeeJdbcWriter jdbcWriter;
+    private final EmployeeBatchLoader batchLoader;
+
+    /** Retry-After sent when the local database bulkhead rejects a read */
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    /** IDs read per query when loading the employees only stored locally */
+    private static final int LOCAL_CHUNK_SIZE = 1000;
+
+    @Override
+    @Cacheable(value = "employeeList", key = "'all'", unless = "#result.isEmpty()")
+    public List<Employee> findAllEmployees() {
+        return findAll(EmployeeFields.ALL);
+    }
 
     @Override
-    @Cacheable(value = "employees", key = "'all'", unless = "#result.isEmpty()")
-    public List<EmployeeEntity> findAllEmployees() {
+    @Cacheable(value = "employeeList", key = "'all'", unless = "#result.isEmpty() || !#fields.complete")
+    public List<Employee> findAllEmployees(EmployeeFields fields) {
+        return findAll(fields);
+    }
+
+    private List<Employee> findAll(EmployeeFields fields) {
+        if (racer.isEnabled()) {
+            return racer.race(EmployeeMetrics.OPERATION_ALL, () -> loadAllEmployees(fields),
+                    () -> readAllLocal(fields), cacheWriter::putAll);
+        }
+        return loadAllEmployees(fields);
+    }
+
+    /**
+     * Loads all employees from the external service, falling back to the local database.
+     *
+     * @param fields Properties needed by the caller; the fallback reads only these columns
+     * @return List of employees
+     */
+    private List<Employee> loadAllEmployees(EmployeeFields fields) {
+        // Answer from the local database while too many calls to the external service are in flight
+        Bulkhead upstream = bulkheads.upstream();
+        if (!upstream.tryEnter()) {
+            log.warn("Upstream bulkhead full, using local database for all employees");
+            return fallbackToDatabase(fields);
+        }
+
         try {
             // Try to get data from external service
-            ResponseDTO<List<EmployeeDTO>> response = feignClient.getAllEmployees();
+            ResponseDTO<List<EmployeeDTO>> response =
+                    callUpstream(EmployeeMetrics.OPERATION_ALL, feignClient::getAllEmployees);
 
             if (response == null || response.getData() == null) {
                 log.warn("Null or empty response when retrieving all employees");
-                return fallbackToDatabase();
+                return fallbackToDatabase(fields);
             }
 
-            List<EmployeeEntity> employeeEntities = response.getData().stream()
-                    .map(employeeMapper::toEmployee)
-                    .map(this::addAnnualSalary)
-                    .map(this::addLastUpdated)  // Add update timestamp
-                    .collect(Collectors.toList());
-
-            // Save to local database for future fallbacks
-            employeeRepository.saveAll(employeeEntities);
-            log.info("Saved {} employees to local database", employeeEntities.size());
-
-            return employeeEntities;
+            List<Employee> employees = saveEmployees(response.getData());
+            if (!fields.isComplete()) {
+                // Not cached by @Cacheable, which only stores complete results
+                cacheWriter.putAll(employees);
+            }
+            metrics.recordResponse(EmployeeMetrics.SOURCE_UPSTREAM, EmployeeMetrics.OPERATION_ALL);
+            return employees;
+        } catch (ServiceUnavailableException e) {
+            // The local database is saturated as well
+            throw e;
         } catch (RateLimitExceededException e) {
             log.warn("Rate limit exceeded when retrieving all employees", e);
-            return fallbackToDatabase();
+            return fallbackToDatabase(fields);
         } catch (Exception e) {
             log.error("Error retrieving all employees from external service", e);
             // If there's an error, use local database as fallback
-            return fallbackToDatabase();
+            return fallbackToDatabase(fields);
         } finally {
             // Make sure to release the rate limiter permit
             rateLimiter.releasePermit();
+            upstream.exit();
         }
     }
 
     @Override
     @Cacheable(value = "employees", key = "#id", unless = "#result == null")
-    public EmployeeEntity findEmployeeById(String id) {
+    public Employee findEmployeeById(String id) {
+        return findById(id, EmployeeFields.ALL);
+    }
+
+    @Override
+    @Cacheable(value = "employees", key = "#id", unless = "#result == null || !#fields.complete")
+    public Employee findEmployeeById(String id, EmployeeFields fields) {
+        return findById(id, fields);
+    }
+
+    private Employee findById(String id, EmployeeFields fields) {
+        // Answer IDs known not to exist without calling the external service
+        if (idFilter.isKnownMissing(id)) {
+            throw new EmployeeNotFoundException(id);
+        }
+
+        if (batchLoader.isEnabled()) {
+            // Concurrent misses share one call; the batch always loads complete employees
+            return batchLoader.load(id, this::loadBatch, () -> fallbackOrNotFound(id, fields));
+        }
+        if (racer.isEnabled()) {
+            return racer.race(EmployeeMetrics.OPERATION_ID, () -> loadEmployeeById(id, fields),
+                    () -> readLocal(id, fields), cacheWriter::put);
+        }
+        return loadEmployeeById(id, fields);
+    }
+
+    /**
+     * Loads an employee from the external service, falling back to the local database.
+     *
+     * @param id Employee ID
+     * @param fields Properties needed by the caller; the fallback reads only these columns
+     * @return Employee
+     * @throws EmployeeNotFoundException if the employee exists in neither
+     */
+    private Employee loadEmployeeById(String id, EmployeeFields fields) {
+        Bulkhead upstream = bulkheads.upstream();
+        if (!upstream.tryEnter()) {
+            log.warn("Upstream bulkhead full, using local database for employee with ID: {}", id);
+            return fallbackOrNotFound(id, fields);
+        }
+
         try {
             // Try to get data from external service
-            ResponseDTO<EmployeeDTO> response = feignClient.getEmployeeById(id);
+            ResponseDTO<EmployeeDTO> response =
+                    callUpstream(EmployeeMetrics.OPERATION_ID, () -> feignClient.getEmployeeById(id));
 
             if (response == null || response.getData() == null) {
                 log.warn("Employee not found with ID: {}", id);
-                EmployeeEntity fallbackEmployee = fallbackToDatabase(Long.parseLong(id));
-                if (fallbackEmployee == null) {
-                    throw new ResourceNotFoundException("Employee not found with ID: " + id);
-                }
-                return fallbackEmployee;
+                return fallbackOrMissing(id, fields);
             }
 
-            EmployeeEntity employeeEntity = employeeMapper.toEmployee(response.getData());
-            employeeEntity = addAnnualSalary(employeeEntity);
-            employeeEntity = addLastUpdated(employeeEntity);  // Add update timestamp
+            Employee employee = employeeMapper.toEmployee(response.getData());
+            employee = addAnnualSalary(employee);
+            employee = addLastUpdated(employee);  // Add update timestamp
 
             // Save to local database for future fallbacks
-            employeeRepository.save(employeeEntity);
-            log.info("Saved employee with ID: {} to local database", employeeEntity.getId());
+            long start = System.nanoTime();
+            jdbcWriter.upsertAll(List.of(employee));
+            metrics.recordWrite("save", System.nanoTime() - start);
+            log.debug("Saved employee with ID: {} to local database", employee.id());
+            idFilter.add(employee.id());
+            changeFeed.synced(employee);
+            if (!fields.isComplete()) {
+                // Not cached by @Cacheable, which only stores complete results
+                cacheWriter.put(employee);
+            }
 
-            return employeeEntity;
+            metrics.recordResponse(EmployeeMetrics.SOURCE_UPSTREAM, EmployeeMetrics.OPERATION_ID);
+            return employee;
+        } catch (EmployeeNotFoundException | ServiceUnavailableException e) {
+            // Already checked against the local database
+            throw e;
         } catch (ResourceNotFoundException | FeignException.NotFound e) {
-            log.warn("Employee not found with ID: {}", id, e);
-            EmployeeEntity fallbackEmployee = fallbackToDatabase(Long.parseLong(id));
-            if (fallbackEmployee == null) {
-                throw new ResourceNotFoundException("Employee not found with ID: " + id);
-            }
-            return fallbackEmployee;
+            log.warn("Employee not found with ID: {}", id);
+            return fallbackOrMissing(id, fields);
         } catch (RateLimitExceededException e) {
             log.warn("Rate limit exceeded when finding employee with ID: {}", id, e);
-            EmployeeEntity fallbackEmployee = fallbackToDatabase(Long.parseLong(id));
-            if (fallbackEmployee == null) {
-                throw new ResourceNotFoundException("Employee not found with ID: " + id);
-            }
-            return fallbackEmployee;
+            return fallbackOrNotFound(id, fields);
         } catch (Exception e) {
             log.error("Error finding employee with ID: {}", id, e);
-            EmployeeEntity fallbackEmployee = fallbackToDatabase(Long.parseLong(id));
-            if (fallbackEmployee == null) {
-                throw new ResourceNotFoundException("Employee not found with ID: " + id);
+            return fallbackOrNotFound(id, fields);
+        } finally {
+            // Make sure to release the rate limiter permit
+            rateLimiter.releasePermit();
+            upstream.exit();
+        }
+    }
+
+    /**
+     * Loads a batch of employees collected by the {@link EmployeeBatchLoader}.
+     *
+     * IDs cached by an earlier batch are answered from the cache. A single remaining
+     * ID is loaded on its own; more are loaded with one call for the full list, which
+     * also fills the caches, and the IDs it does not contain are read from the local
+     * database.
+     *
+     * @param ids Distinct employee IDs
+     * @return Employees found, by ID
+     */
+    private Map<String, Employee> loadBatch(Set<String> ids) {
+        Map<String, Employee> found = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String id : ids) {
+            Employee cached = cacheWriter.peek(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        if (missing.size() == 1) {
+            String id = missing.iterator().next();
+            try {
+                found.put(id, loadEmployeeById(id, EmployeeFields.ALL));
+            } catch (EmployeeNotFoundException e) {
+                log.debug("Employee not found with ID: {}", id);
+            }
+            return found;
+        }
+
+        List<Employee> employees = loadAllForBatch(missing.size());
+        if (employees != null) {
+            for (Employee employee : employees) {
+                String id = String.valueOf(employee.id());
+                if (missing.remove(id)) {
+                    found.put(id, employee);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        // Not in the full list, or the external service is unavailable
+        List<Long> localIds = missing.stream().map(Long::parseLong).collect(Collectors.toList());
+        Bulkhead databaseRead = enterDatabaseRead();
+        long start = System.nanoTime();
+        try {
+            employeeRepository.findAllById(localIds).forEach(entity -> {
+                Employee employee = entity.toEmployee();
+                missing.remove(String.valueOf(employee.id()));
+                found.put(String.valueOf(employee.id()), employee);
+                cacheWriter.put(employee);
+            });
+        } finally {
+            databaseRead.exit();
+        }
+        metrics.recordFallback(EmployeeMetrics.OPERATION_ID, System.nanoTime() - start);
+
+        // The IDs are missing from the ID filter rebuilt from the full list
+        if (employees != null) {
+            missing.forEach(idFilter::markMissing);
+        }
+        return found;
+    }
+
+    /**
+     * Loads the full list for a batch and stores it in the local database and the caches.
+     * The call keeps the interactive priority, since the requests of the batch are
+     * waiting for it.
+     *
+     * @param size Number of IDs the list is loaded for
+     * @return Employees, or null if the external service could not answer
+     */
+    private List<Employee> loadAllForBatch(int size) {
+        Bulkhead upstream = bulkheads.upstream();
+        if (!upstream.tryEnter()) {
+            log.warn("Upstream bulkhead full, using local database for {} employees", size);
+            return null;
+        }
+
+        try {
+            ResponseDTO<List<EmployeeDTO>> response =
+                    callUpstream(EmployeeMetrics.OPERATION_ALL, feignClient::getAllEmployees);
+
+            if (response == null || response.getData() == null) {
+                log.warn("Null or empty response when retrieving all employees for {} IDs", size);
+                return null;
             }
-            return fallbackEmployee;
+
+            List<Employee> employees = saveEmployees(response.getData());
+            cacheWriter.putAll(employees);
+            return employees;
+        } catch (RateLimitExceededException e) {
+            log.warn("Rate limit exceeded when retrieving all employees for {} IDs", size, e);
+            return null;
+        } catch (Exception e) {
+            log.error("Error retrieving all employees for {} IDs from external service", size, e);
+            return null;
         } finally {
             // Make sure to release the rate limiter permit
             rateLimiter.releasePermit();
+            upstream.exit();
+        }
+    }
+
+    @Override
+    public List<Employee> refreshAllEmployees() {
+        // Leave the external service to request threads while it is busy
+        Bulkhead upstream = bulkheads.upstream();
+        if (!upstream.tryEnter()) {
+            log.info("Upstream bulkhead full, skipping refresh of all employees");
+            return Collections.emptyList();
+        }
+
+        try {
+            ResponseDTO<List<EmployeeDTO>> response =
+                    callUpstream(EmployeeMetrics.OPERATION_ALL, feignClient::getAllEmployees);
+
+            if (response == null || response.getData() == null) {
+                log.warn("Null or empty response when refreshing all employees");
+                return Collections.emptyList();
+            }
+
+            return saveEmployees(response.getData());
+        } finally {
+            // Make sure to release the rate limiter permit
+            rateLimiter.releasePermit();
+            upstream.exit();
         }
     }
 
     @Override
     public Double calculateAnnualSalary(String id) {
-        EmployeeEntity employeeEntity = findEmployeeById(id);
-        if (employeeEntity == null || employeeEntity.getSalary() == null) {
+        Employee employee = findEmployeeById(id);
+        if (employee == null || employee.salary() == null) {
             throw new ResourceNotFoundException("Could not calculate annual salary for employee with ID: " + id);
         }
-        return employeeEntity.getSalary() * 12;
+        return employee.salary() * 12;
+    }
+
+    /**
+     * Maps employees received from the external service and saves them
+     * to the local database for future fallbacks.
+     *
+     * Employees created or imported locally that the external service did not
+     * return are appended, so they stay in the list, in the known ID filter and
+     * out of the removals of the change stream. When they cannot be read, the
+     * filter and the change stream are left as they are until the next sync.
+     *
+     * @param employeeDTOs Employees received from the external service
+     * @return Mapped employees with annual salary and update timestamp set,
+     *         followed by the employees only stored locally
+     */
+    private List<Employee> saveEmployees(List<EmployeeDTO> employeeDTOs) {
+        List<Employee> employees = employeeDTOs.stream()
+                .map(employeeMapper::toEmployee)
+                .map(this::addAnnualSalary)
+                .map(this::addLastUpdated)  // Add update timestamp
+                .collect(Collectors.toList());
+
+        // Save to local database for future fallbacks, unless another full save is running
+        Bulkhead databaseWrite = bulkheads.databaseWrite();
+        if (databaseWrite.tryEnter()) {
+            try {
+                long start = System.nanoTime();
+                int written = jdbcWriter.upsertAll(employees);
+                metrics.recordWrite("saveAll", System.nanoTime() - start);
+                log.debug("Saved {} employees to local database, {} of them changed", employees.size(), written);
+            } finally {
+                databaseWrite.exit();
+            }
+        } else {
+            log.debug("Database write bulkhead full, skipping save of {} employees", employees.size());
+        }
+
+        List<Employee> localOnly = findLocalOnly(employees);
+        if (localOnly == null) {
+            return employees;
+        }
+        List<Employee> all = new ArrayList<>(employees.size() + localOnly.size());
+        all.addAll(employees);
+        all.addAll(localOnly);
+
+        // The full list and the local rows are the only reliable source for the known ID filter
+        idFilter.rebuild(all.stream()
+                .map(Employee::id)
+                .collect(Collectors.toList()));
+        changeFeed.syncedAll(employees, localOnly);
+        return all;
+    }
+
+    /**
+     * Reads the employees created or imported locally that the external service did not return.
+     *
+     * @param employees Employees returned by the external service
+     * @return Employees only stored locally, null if the local database could not be read
+     */
+    private List<Employee> findLocalOnly(List<Employee> employees) {
+        Bulkhead databaseRead = bulkheads.databaseRead();
+        if (!databaseRead.tryEnter()) {
+            log.debug("Database read bulkhead full, skipping read of local employees");
+            return null;
+        }
+        try {
+            Set<Long> returned = employees.stream().map(Employee::id).collect(Collectors.toSet());
+            List<Long> ids = jdbcWriter.findLocalOnlyIds().stream()
+                    .filter(id -> !returned.contains(id))
+                    .collect(Collectors.toList());
+            List<Employee> localOnly = new ArrayList<>(ids.size());
+            for (int from = 0; from < ids.size(); from += LOCAL_CHUNK_SIZE) {
+                employeeRepository.findAllById(ids.subList(from, Math.min(ids.size(), from + LOCAL_CHUNK_SIZE)))
+                        .forEach(entity -> localOnly.add(entity.toEmployee()));
+            }
+            return localOnly;
+        } catch (RuntimeException e) {
+            log.warn("Could not read local employees, keeping the known ID filter", e);
+            return null;
+        } finally {
+            databaseRead.exit();
+        }
+    }
+
+    /**
+     * Falls back to the local database for an employee the external service reported
+     * as missing. If it is not there either, the ID is remembered as missing.
+     *
+     * @param id Employee ID
+     * @param fields Columns to read
+     * @return Employee from local database
+     * @throws EmployeeNotFoundException if the employee is not in the local database
+     */
+    private Employee fallbackOrMissing(String id, EmployeeFields fields) {
+        Employee fallbackEmployee = fallbackToDatabase(Long.parseLong(id), fields);
+        if (fallbackEmployee == null) {
+            idFilter.markMissing(id);
+            throw new EmployeeNotFoundException(id);
+        }
+        return fallbackEmployee;
+    }
+
+    /**
+     * Falls back to the local database for an employee that could not be
+     * retrieved from the external service.
+     *
+     * @param id Employee ID
+     * @param fields Columns to read
+     * @return Employee from local database
+     * @throws EmployeeNotFoundException if the employee is not in the local database
+     */
+    private Employee fallbackOrNotFound(String id, EmployeeFields fields) {
+        Employee fallbackEmployee = fallbackToDatabase(Long.parseLong(id), fields);
+        if (fallbackEmployee == null) {
+            throw new EmployeeNotFoundException(id);
+        }
+        return fallbackEmployee;
+    }
+
+    /**
+     * Calls the external service, recording the call latency by outcome.
+     *
+     * @param operation Operation tag ("all" or "id")
+     * @param call Call to the external service
+     * @return Response of the external service
+     */
+    private <T> ResponseDTO<T> callUpstream(String operation, Supplier<ResponseDTO<T>> call) {
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            ResponseDTO<T> response = call.get();
+            outcome = response == null || response.getData() == null ? "empty" : "success";
+            return response;
+        } catch (ResourceNotFoundException | FeignException.NotFound e) {
+            outcome = "not_found";
+            throw e;
+        } catch (RateLimitExceededException e) {
+            outcome = "rate_limited";
+            throw e;
+        } finally {
+            metrics.recordUpstream(operation, outcome, System.nanoTime() - start);
+        }
     }
 
     /**
      * Method to retrieve all employees from local database (fallback).
      * Used when external API is unavailable or returns an error.
      *
+     * @param fields Columns to read
      * @return List of employees from local database
+     * @throws ServiceUnavailableException if too many reads are already running
      */
-    private List<EmployeeEntity> fallbackToDatabase() {
+    private List<Employee> fallbackToDatabase(EmployeeFields fields) {
         log.info("Using data from local database for all employees");
-        List<EmployeeEntity> employeeEntities = employeeRepository.findAll();
+        Bulkhead databaseRead = enterDatabaseRead();
+        long start = System.nanoTime();
+        List<Employee> employees;
+        try {
+            employees = findAllLocal(fields);
+        } finally {
+            databaseRead.exit();
+        }
+        metrics.recordFallback(EmployeeMetrics.OPERATION_ALL, System.nanoTime() - start);
+        metrics.recordResponse(EmployeeMetrics.SOURCE_FALLBACK, EmployeeMetrics.OPERATION_ALL);
 
-        if (employeeEntities.isEmpty()) {
+        if (employees.isEmpty()) {
             log.warn("No employees found in local database");
             return Collections.emptyList();
         }
 
-        return employeeEntities;
+        return employees;
     }
 
     /**
@@ -159,11 +549,22 @@ public class EmployeeServiceImpl implements EmployeeService {
      * Used when external API is unavailable or returns an error.
      *
      * @param id Employee ID to search for
+     * @param fields Columns to read
      * @return Employee from local database or null if not found
+     * @throws ServiceUnavailableException if too many reads are already running
      */
-    private EmployeeEntity fallbackToDatabase(Long id) {
+    private Employee fallbackToDatabase(Long id, EmployeeFields fields) {
         log.info("Using data from local database for employee with ID: {}", id);
-        Optional<EmployeeEntity> employeeOpt = employeeRepository.findById(id);
+        Bulkhead databaseRead = enterDatabaseRead();
+        long start = System.nanoTime();
+        Optional<Employee> employeeOpt;
+        try {
+            employeeOpt = findLocal(id, fields);
+        } finally {
+            databaseRead.exit();
+        }
+        metrics.recordFallback(EmployeeMetrics.OPERATION_ID, System.nanoTime() - start);
+        metrics.recordResponse(EmployeeMetrics.SOURCE_FALLBACK, EmployeeMetrics.OPERATION_ID);
 
         if (employeeOpt.isEmpty()) {
             log.warn("No employee found with ID: {} in local database", id);
@@ -174,37 +575,116 @@ public class EmployeeServiceImpl implements EmployeeService {
     }
 
     /**
-     * Helper method to calculate and set annual salary.
+     * Reads all employees from the local database to race the external service.
+     * Unlike the fallback, it is not counted as a response.
+     *
+     * @param fields Columns to read
+     * @return Employees from local database, or null if there are none
+     */
+    private List<Employee> readAllLocal(EmployeeFields fields) {
+        Bulkhead databaseRead = enterDatabaseRead();
+        try {
+            List<Employee> employees = findAllLocal(fields);
+            return employees.isEmpty() ? null : employees;
+        } finally {
+            databaseRead.exit();
+        }
+    }
+
+    /**
+     * Reads an employee from the local database to race the external service.
+     * Unlike the fallback, it is not counted as a response.
+     *
+     * @param id Employee ID
+     * @param fields Columns to read
+     * @return Employee from local database, or null if not found
+     */
+    private Employee readLocal(String id, EmployeeFields fields) {
+        Bulkhead databaseRead = enterDatabaseRead();
+        try {
+            return findLocal(Long.parseLong(id), fields).orElse(null);
+        } finally {
+            databaseRead.exit();
+        }
+    }
+
+    /**
+     * Reads all employees from the local database, selecting only the requested
+     * columns unless every property is needed.
+     *
+     * @param fields Columns to read
+     * @return Employees from local database
+     */
+    private List<Employee> findAllLocal(EmployeeFields fields) {
+        if (!fields.isComplete()) {
+            return employeeRepository.findAllProjected(fields);
+        }
+        return employeeRepository.findAll().stream()
+                .map(EmployeeEntity::toEmployee)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads an employee from the local database, selecting only the requested
+     * columns unless every property is needed.
+     *
+     * @param id Employee ID
+     * @param fields Columns to read
+     * @return Employee from local database, if it exists
+     */
+    private Optional<Employee> findLocal(Long id, EmployeeFields fields) {
+        if (!fields.isComplete()) {
+            return employeeRepository.findProjectedById(id, fields);
+        }
+        return employeeRepository.findById(id).map(EmployeeEntity::toEmployee);
+    }
+
+    /**
+     * Enters the local database read bulkhead.
+     *
+     * @return The entered bulkhead, to exit once the read is done
+     * @throws ServiceUnavailableException if too many reads are already running
+     */
+    private Bulkhead enterDatabaseRead() {
+        Bulkhead databaseRead = bulkheads.databaseRead();
+        if (!databaseRead.tryEnter()) {
+            log.warn("Database read bulkhead full, shedding request");
+            throw new ServiceUnavailableException("Local database is saturated", RETRY_AFTER_SECONDS);
+        }
+        return databaseRead;
+    }
+
+    /**
+     * Helper method to calculate the annual salary.
      *
-     * @param employeeEntity Employee object to update
-     * @return Updated employee with annual salary set
+     * @param employee Employee to update
+     * @return Copy of the employee with annual salary set
      */
-    private EmployeeEntity addAnnualSalary(EmployeeEntity employeeEntity) {
-        if (employeeEntity != null && employeeEntity.getSalary() != null) {
-            employeeEntity.setAnnualSalary(employeeEntity.getSalary() * 12);
+    private Employee addAnnualSalary(Employee employee) {
+        if (employee != null && employee.salary() != null) {
+            return employee.withAnnualSalary(employee.salary() * 12);
         }
-        return employeeEntity;
+        return employee;
     }
 
     /**
      * Helper method to add the last update timestamp.
      *
-     * @param employeeEntity Employee object to update
-     * @return Updated employee with lastUpdated timestamp set
+     * @param employee Employee to update
+     * @return Copy of the employee with lastUpdated timestamp set
      */
-    private EmployeeEntity addLastUpdated(EmployeeEntity employeeEntity) {
-        if (employeeEntity != null) {
-            employeeEntity.setLastUpdated(LocalDateTime.now());
+    private Employee addLastUpdated(Employee employee) {
+        if (employee != null) {
+            return employee.withLastUpdated(System.currentTimeMillis());
         }
-        return employeeEntity;
+        return employee;
     }
 
     /**
-     * Scheduled task to clear cache periodically.
-     * Runs every day at midnight.
+     * Evicts every entry from the employee caches.
+     * No longer scheduled: {@link EmployeeCacheRefresher} replaces entries in place instead.
      */
-    @Scheduled(cron = "0 0 0 * * ?")
-    @CacheEvict(value = "employees", allEntries = true)
+    @CacheEvict(value = {"employees", "employeeList"}, allEntries = true)
     public void clearCache() {
         log.info("Clearing employee cache");
     }
@@ -0,0 +1,154 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.config.Deadline;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Races the external API against the local database.
+ *
+ * The upstream load starts on a separate thread while the local read runs on the
+ * request thread. The upstream answer is used if it arrives within the latency
+ * budget; otherwise the local answer is returned, and the upstream answer is
+ * handed to a callback when it arrives so it still reaches the cache. Without a
+ * local answer the request waits for the upstream one, bounded by its deadline.
+ *
+ * Disabled by default, since every raced request also reads the local database.
+ * Without it, requests only read the local database when the external API fails.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeSourceRacer {
+    private final EmployeeMetrics metrics;
+
+    /** Whether requests race the external API against the local database */
+    @Value("${employee.race.enabled:false}")
+    private boolean enabled;
+
+    /** Time the external API is given before the local answer is used */
+    @Value("${employee.race.budget-ms:200}")
+    private long budgetMs;
+
+    /** Threads running upstream loads; when all are busy the load runs on the request thread */
+    @Value("${employee.race.threads:10}")
+    private int threads;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "employee-race-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the first useful answer of the external API and the local database.
+     *
+     * @param operation Operation tag ("all" or "id")
+     * @param upstream Load from the external API, including its own fallbacks
+     * @param local Read from the local database, null when there is no local answer
+     * @param lateUpstream Receives the upstream answer when it arrives after the local one was used
+     * @return Upstream answer within the budget, the local answer otherwise
+     */
+    public <T> T race(String operation, Supplier<T> upstream, Supplier<T> local, Consumer<T> lateUpstream) {
+        long start = System.nanoTime();
+        Deadline deadline = Deadline.current();
+        CompletableFuture<T> upstreamResult;
+        try {
+            upstreamResult = CompletableFuture.supplyAsync(() -> {
+                Deadline.set(deadline);
+                try {
+                    return upstream.get();
+                } finally {
+                    Deadline.set(null);
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            metrics.recordRace(operation, "inline");
+            return upstream.get();
+        }
+
+        T localResult = null;
+        try {
+            localResult = local.get();
+        } catch (RuntimeException e) {
+            log.debug("Local read failed while racing the external API", e);
+        }
+
+        long waitMs = budgetMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (deadline != null) {
+            waitMs = Math.min(waitMs, deadline.remainingMillis());
+        }
+        try {
+            T result = upstreamResult.get(Math.max(0, waitMs), TimeUnit.MILLISECONDS);
+            metrics.recordRace(operation, EmployeeMetrics.SOURCE_UPSTREAM);
+            return result;
+        } catch (TimeoutException e) {
+            if (localResult == null) {
+                metrics.recordRace(operation, "wait");
+                return join(upstreamResult);
+            }
+            metrics.recordRace(operation, EmployeeMetrics.SOURCE_FALLBACK);
+            metrics.recordResponse(EmployeeMetrics.SOURCE_FALLBACK, operation);
+            upstreamResult.thenAccept(result -> {
+                if (result != null) {
+                    lateUpstream.accept(result);
+                }
+            });
+            return localResult;
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (localResult != null) {
+                return localResult;
+            }
+            throw new CompletionException(e);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e.getCause());
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        return cause instanceof RuntimeException runtime ? runtime : new CompletionException(cause);
+    }
+}
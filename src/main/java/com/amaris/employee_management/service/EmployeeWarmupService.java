@@ -0,0 +1,274 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.client.dto.EmployeeDTO;
+import com.amaris.employee_management.mapper.EmployeeMapper;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.repository.EmployeeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.methods.HttpHead;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Warms up the application before it reports itself ready to receive traffic.
+ *
+ * Runs as an {@link ApplicationRunner}, so Spring Boot keeps the readiness state at
+ * REFUSING_TRAFFIC until it returns. The warm-up preloads the cache from the local
+ * database, opens connections to the external API and exercises the mapper,
+ * JSON serializer and controller paths so the JIT compiles them before real
+ * requests arrive. It never runs longer than the configured time budget.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeWarmupService implements ApplicationRunner {
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeMapper employeeMapper;
+    private final EmployeeCacheWriter cacheWriter;
+    private final ObjectMapper objectMapper;
+    private final ApplicationContext applicationContext;
+
+    /** Whether the warm-up runs at all */
+    @Value("${employee.warmup.enabled:true}")
+    private boolean enabled;
+
+    /** Maximum time the warm-up may hold back readiness */
+    @Value("${employee.warmup.budget-ms:15000}")
+    private long budgetMs;
+
+    /** Number of synthetic mapper/serializer iterations */
+    @Value("${employee.warmup.iterations:2000}")
+    private int iterations;
+
+    /** Number of loopback requests sent to each controller endpoint */
+    @Value("${employee.warmup.controller-iterations:50}")
+    private int controllerIterations;
+
+    /** Number of upstream connections opened in advance */
+    @Value("${employee.warmup.upstream-connections:2}")
+    private int upstreamConnections;
+
+    /** Base URL of the external employee API */
+    @Value("${employee.api.url}")
+    private String apiUrl;
+
+    /** Servlet context path used to build loopback URLs */
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            log.info("Warm-up disabled");
+            return;
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "employee-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        try {
+            Future<?> warmup = executor.submit(this::warmUp);
+            warmup.get(budgetMs, TimeUnit.MILLISECONDS);
+            log.info("Warm-up completed in {}ms", elapsedMs(start));
+        } catch (TimeoutException e) {
+            log.warn("Warm-up did not finish within {}ms, accepting traffic anyway", budgetMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Warm-up interrupted");
+        } catch (Exception e) {
+            log.warn("Warm-up failed after {}ms", elapsedMs(start), e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs every warm-up step in order. Each step is isolated so a failure
+     * in one of them does not prevent the others from running.
+     */
+    void warmUp() {
+        List<Employee> employees = step("cache preload", this::preloadCache, Collections.emptyList());
+        step("upstream connections", this::preopenUpstreamConnections, null);
+        step("mapper and serializer", () -> exerciseMapperAndSerializer(employees), null);
+        step("controller paths", () -> exerciseControllerPaths(employees), null);
+    }
+
+    /**
+     * Loads all employees from the local database into the cache.
+     * This also initializes Hibernate and the connection pool.
+     *
+     * @return Employees loaded from the database
+     */
+    private List<Employee> preloadCache() {
+        List<Employee> employees = employeeRepository.findAll().stream()
+                .map(EmployeeEntity::toEmployee)
+                .toList();
+        cacheWriter.putAll(employees);
+        log.info("Warm-up preloaded {} employees from local database", employees.size());
+        return employees;
+    }
+
+    /**
+     * Opens connections to the external API so DNS resolution and the TLS handshake
+     * are done before the first real call. Requests go through the pooled HTTP client
+     * used by Feign, so the connections stay in its pool.
+     */
+    private Void preopenUpstreamConnections() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < upstreamConnections; i++) {
+            Thread thread = new Thread(this::openUpstreamConnection, "employee-warmup-upstream-" + i);
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return null;
+    }
+
+    private void openUpstreamConnection() {
+        ObjectProvider<CloseableHttpClient> httpClients = applicationContext.getBeanProvider(CloseableHttpClient.class);
+        CloseableHttpClient httpClient = httpClients != null ? httpClients.getIfAvailable() : null;
+        if (httpClient == null) {
+            openUrlConnection();
+            return;
+        }
+        try {
+            int status = httpClient.execute(new HttpHead(apiUrl), response -> {
+                EntityUtils.consume(response.getEntity());
+                return response.getCode();
+            });
+            log.debug("Warm-up opened pooled upstream connection to {} (status {})", apiUrl, status);
+        } catch (Exception e) {
+            log.debug("Warm-up could not open upstream connection to {}: {}", apiUrl, e.getMessage());
+        }
+    }
+
+    private void openUrlConnection() {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) URI.create(apiUrl).toURL().openConnection();
+            connection.setRequestMethod("HEAD");
+            connection.setConnectTimeout((int) Math.min(budgetMs, Integer.MAX_VALUE));
+            connection.setReadTimeout((int) Math.min(budgetMs, Integer.MAX_VALUE));
+            int status = connection.getResponseCode();
+            try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (body != null) {
+                    body.readAllBytes();
+                }
+            }
+            log.debug("Warm-up opened upstream connection to {} (status {})", apiUrl, status);
+        } catch (Exception e) {
+            log.debug("Warm-up could not open upstream connection to {}: {}", apiUrl, e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the mapping and serialization pipeline on synthetic data,
+     * or on the preloaded employees when there are any.
+     */
+    private Void exerciseMapperAndSerializer(List<Employee> employees) throws Exception {
+        List<Employee> sample = employees.isEmpty() ? syntheticEmployees() : employees;
+        for (int i = 0; i < iterations; i++) {
+            Employee mapped = employeeMapper.toEmployee(
+                    new EmployeeDTO((long) i, "Warm-up " + i, 30, 1000.0 + i, ""));
+            objectMapper.writeValueAsBytes(mapped);
+            if (i % 100 == 0) {
+                objectMapper.writeValueAsBytes(sample);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sends loopback requests through Tomcat, Spring MVC and Jackson.
+     * Only runs when the data is cached, so no external API call is triggered.
+     * The requests are served as interactive ones, since the priority does not
+     * cross the HTTP hop, but they never take a rate limiter permit.
+     */
+    private Void exerciseControllerPaths(List<Employee> employees) throws Exception {
+        if (!(applicationContext instanceof WebServerApplicationContext webContext)
+                || webContext.getWebServer() == null
+                || employees.isEmpty()
+                || !cacheWriter.hasAll()) {
+            log.debug("Skipping controller warm-up");
+            return null;
+        }
+
+        String baseUrl = "http://localhost:" + webContext.getWebServer().getPort() + contextPath + "/employees";
+        List<URI> uris = List.of(
+                URI.create(baseUrl),
+                URI.create(baseUrl + "/" + employees.get(0).id()));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(budgetMs))
+                .build();
+        for (int i = 0; i < controllerIterations; i++) {
+            for (URI uri : uris) {
+                client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+            }
+        }
+        return null;
+    }
+
+    private List<Employee> syntheticEmployees() {
+        List<Employee> employees = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            employees.add(employeeMapper.toEmployee(new EmployeeDTO(id, "Warm-up " + id, 30, 1000.0, "")));
+        }
+        return employees;
+    }
+
+    private <T> T step(String name, WarmupStep<T> step, T defaultValue) {
+        long start = System.nanoTime();
+        try {
+            T result = step.run();
+            log.debug("Warm-up step '{}' took {}ms", name, elapsedMs(start));
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return defaultValue;
+        } catch (Exception e) {
+            log.warn("Warm-up step '{}' failed: {}", name, e.getMessage());
+            return defaultValue;
+        }
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    @FunctionalInterface
+    private interface WarmupStep<T> {
+        T run() throws Exception;
+    }
+}
@@ -0,0 +1,216 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.exception.BadRequestException;
+import com.amaris.employee_management.exception.ConflictException;
+import com.amaris.employee_management.exception.EmployeeNotFoundException;
+import com.amaris.employee_management.exception.PreconditionFailedException;
+import com.amaris.employee_management.mapper.EmployeeRowMapper;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.VersionedEmployee;
+import com.amaris.employee_management.repository.EmployeeJdbcWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Creates, updates and deletes employees in the local database.
+ *
+ * Every change increments the version of the row. Updates and deletes may
+ * pass the version they were based on (If-Match); if the employee changed in
+ * the meantime, through another write or a sync with the external API, they
+ * fail with a 412 instead of overwriting it.
+ *
+ * Once committed, a change is written through to the per-ID cache, the
+ * cached full list, the known ID filter and the change stream, so the
+ * following reads see it without reloading the whole list. The external API
+ * remains the source of truth: a sync returning different values for the
+ * employee replaces the local change. Created employees are flagged local only
+ * until a sync returns them, so syncs keep them in the list.
+ */
+@Service
+@Slf4j
+public class EmployeeWriteService {
+    private final EmployeeJdbcWriter jdbcWriter;
+    private final EmployeeCacheWriter cacheWriter;
+    private final EmployeeIdFilter idFilter;
+    private final EmployeeChangeFeed changeFeed;
+    private final EmployeeMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+
+    public EmployeeWriteService(EmployeeJdbcWriter jdbcWriter,
+                                EmployeeCacheWriter cacheWriter,
+                                EmployeeIdFilter idFilter,
+                                EmployeeChangeFeed changeFeed,
+                                EmployeeMetrics metrics,
+                                PlatformTransactionManager transactionManager) {
+        this.jdbcWriter = jdbcWriter;
+        this.cacheWriter = cacheWriter;
+        this.idFilter = idFilter;
+        this.changeFeed = changeFeed;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Creates an employee with the ID of the body.
+     *
+     * @param body JSON employee, with the properties of the responses
+     * @return Created employee, with version 0
+     * @throws BadRequestException if the body is invalid
+     * @throws ConflictException if the ID already exists
+     */
+    public VersionedEmployee create(JsonNode body) {
+        Employee employee = toEmployee(body, null);
+        long start = System.nanoTime();
+        try {
+            jdbcWriter.insert(employee);
+        } catch (DuplicateKeyException e) {
+            throw new ConflictException("Employee already exists with ID: " + employee.id());
+        }
+        metrics.recordWrite("create", System.nanoTime() - start);
+        log.info("Created employee with ID: {}", employee.id());
+
+        written(employee);
+        return new VersionedEmployee(employee, 0);
+    }
+
+    /**
+     * Replaces the values of an employee.
+     *
+     * @param id Employee ID
+     * @param body JSON employee; an id property must match the path
+     * @param ifMatch ETag of the version the update is based on, null or "*" for any version
+     * @return Updated employee with its new version
+     * @throws BadRequestException if the body is invalid
+     * @throws EmployeeNotFoundException if the employee does not exist
+     * @throws PreconditionFailedException if the employee is no longer at the If-Match version
+     */
+    public VersionedEmployee update(String id, JsonNode body, String ifMatch) {
+        long employeeId = parseId(id);
+        Employee employee = toEmployee(body, employeeId);
+        Long expectedVersion = parseVersion(ifMatch);
+
+        long start = System.nanoTime();
+        long version = transactionTemplate.execute(status -> {
+            if (!jdbcWriter.update(employee, expectedVersion)) {
+                throw notFoundOrChanged(employeeId);
+            }
+            // The updated row stays locked until the commit, so this is the version just written
+            return jdbcWriter.findVersion(employeeId).orElseThrow();
+        });
+        metrics.recordWrite("update", System.nanoTime() - start);
+        log.info("Updated employee with ID: {} to version {}", employeeId, version);
+
+        written(employee);
+        return new VersionedEmployee(employee, version);
+    }
+
+    /**
+     * Deletes an employee.
+     *
+     * @param id Employee ID
+     * @param ifMatch ETag of the version the deletion is based on, null or "*" for any version
+     * @throws EmployeeNotFoundException if the employee does not exist
+     * @throws PreconditionFailedException if the employee is no longer at the If-Match version
+     */
+    public void delete(String id, String ifMatch) {
+        long employeeId = parseId(id);
+        Long expectedVersion = parseVersion(ifMatch);
+
+        long start = System.nanoTime();
+        if (!jdbcWriter.delete(employeeId, expectedVersion)) {
+            throw notFoundOrChanged(employeeId);
+        }
+        metrics.recordWrite("delete", System.nanoTime() - start);
+        log.info("Deleted employee with ID: {}", employeeId);
+
+        cacheWriter.evict(employeeId);
+        idFilter.markMissing(String.valueOf(employeeId));
+        changeFeed.removed(employeeId);
+    }
+
+    /**
+     * @return Strong ETag of a version
+     */
+    public static String etag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Writes a committed change through to the caches and the derived indexes.
+     */
+    private void written(Employee employee) {
+        cacheWriter.put(employee);
+        cacheWriter.putInList(employee);
+        idFilter.add(employee.id());
+        changeFeed.synced(employee);
+    }
+
+    private RuntimeException notFoundOrChanged(long id) {
+        if (jdbcWriter.findVersion(id).isEmpty()) {
+            return new EmployeeNotFoundException(String.valueOf(id));
+        }
+        return new PreconditionFailedException("Employee with ID: " + id + " was changed, reload it and retry");
+    }
+
+    /**
+     * Maps a request body, the update time being the time of the write.
+     *
+     * @param pathId ID from the path, null when creating
+     */
+    private static Employee toEmployee(JsonNode body, Long pathId) {
+        if (body == null || !body.isObject()) {
+            throw new BadRequestException("Expected a JSON object");
+        }
+        EmployeeRowMapper.Row row = EmployeeRowMapper.of(body);
+        try {
+            Employee employee = EmployeeRowMapper.toEmployee(name -> switch (name) {
+                case "id" -> pathId != null && row.get("id") == null ? String.valueOf(pathId) : row.get("id");
+                case "lastUpdated" -> null;
+                default -> row.get(name);
+            }, System.currentTimeMillis());
+            if (pathId != null && employee.id() != pathId) {
+                throw new BadRequestException("Body id " + employee.id() + " does not match the path id " + pathId);
+            }
+            return employee;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage());
+        }
+    }
+
+    private static long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new EmployeeNotFoundException(id);
+        }
+    }
+
+    /**
+     * Parses an If-Match header holding a single ETag.
+     *
+     * @return Expected version, null if any version matches
+     * @throws PreconditionFailedException if the ETag is not a version, so it cannot match
+     */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        if (etag.startsWith("W/")) {
+            etag = etag.substring(2);
+        }
+        if (etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            etag = etag.substring(1, etag.length() - 1);
+        }
+        try {
+            return Long.parseLong(etag);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match any version: " + ifMatch);
+        }
+    }
+}
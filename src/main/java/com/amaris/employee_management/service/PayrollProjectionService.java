@@ -0,0 +1,365 @@
+package com.amaris.employee_management.service;
+
+import com.amaris.employee_management.exception.BadRequestException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.PayrollProjection;
+import com.amaris.employee_management.model.PayrollRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Projects the payroll of the employees over several years, under raise,
+ * bonus and headcount scenarios.
+ *
+ * Annual salaries are the monthly salary times 12, as in
+ * {@link EmployeeService#calculateAnnualSalary(String)}.
+ *
+ * The employees are the ones of {@link EmployeeService#findAllEmployees()}, not
+ * a scan of the local table. That list holds the employees of the last full
+ * sync, the employees only stored locally, and every change made through the
+ * write endpoints since. Employees imported after the last sync are not in the
+ * list until the next one, since imports leave the caches alone. Their IDs,
+ * ages and salaries are copied once per list into primitive arrays, which are
+ * reused until the list is replaced.
+ *
+ * An employee without a salary counts as earning nothing, and one without an
+ * age is only selected when no age range is given. A raise or a bonus applies
+ * to every salary alike, so the payroll of every scenario and year is the sum
+ * of the selected salaries times a factor. The sum runs on the common
+ * fork-join pool, split in ranges of {@code employee.payroll.fork-threshold}
+ * salaries, and the per-employee results are computed as they are streamed.
+ */
+@Service
+@Slf4j
+public class PayrollProjectionService {
+    /** Most years a request can project */
+    public static final int MAX_YEARS = 50;
+
+    /** Most scenarios a request can project */
+    public static final int MAX_SCENARIOS = 20;
+
+    private static final PayrollRequest.Scenario BASE = new PayrollRequest.Scenario("base", 0, 0, 0);
+
+    /** Age stored for employees without one */
+    private static final int UNKNOWN_AGE = -1;
+
+    private final EmployeeService employeeService;
+    private final EmployeeMetrics metrics;
+    private final JsonFactory jsonFactory;
+
+    /** Salaries summed by a single fork-join task, larger selections are split */
+    @Value("${employee.payroll.fork-threshold:65536}")
+    private int forkThreshold;
+
+    /** Primitive copy of the last employee list */
+    private volatile Salaries salaries;
+
+    public PayrollProjectionService(EmployeeService employeeService,
+                                    EmployeeMetrics metrics,
+                                    ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.metrics = metrics;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Projects the total payroll of the selected employees.
+     *
+     * @param request Employees to select and scenarios to project
+     * @return Payroll of every scenario and year
+     * @throws BadRequestException if the request is invalid
+     */
+    public PayrollProjection project(PayrollRequest request) {
+        int years = years(request);
+        List<PayrollRequest.Scenario> scenarios = scenarios(request);
+        long[] ids = ids(request);
+
+        Salaries all = salaries(employeeService.findAllEmployees());
+        long start = System.nanoTime();
+        Selection selection = select(all, request, ids);
+        double annualSalaries = sum(selection.annualSalaries());
+        int headcount = selection.annualSalaries().length;
+
+        List<PayrollProjection.ScenarioProjection> projections = new ArrayList<>(scenarios.size());
+        for (PayrollRequest.Scenario scenario : scenarios) {
+            List<PayrollProjection.Year> projected = new ArrayList<>(years);
+            double total = 0;
+            for (int year = 1; year <= years; year++) {
+                double growth = Math.pow(1 + scenario.headcountPercent() / 100, year - 1);
+                double salaries = annualSalaries * raiseFactor(scenario, year) * growth;
+                double bonuses = salaries * scenario.bonusPercent() / 100;
+                projected.add(new PayrollProjection.Year(year, Math.round(headcount * growth),
+                        round(salaries), round(bonuses), round(salaries + bonuses)));
+                total += salaries + bonuses;
+            }
+            projections.add(new PayrollProjection.ScenarioProjection(scenario.name(), projected, round(total)));
+        }
+
+        long nanos = System.nanoTime() - start;
+        metrics.recordPayroll("summary", headcount, nanos);
+        log.debug("Projected the payroll of {} employees in {} scenarios over {} years",
+                headcount, scenarios.size(), years);
+        return new PayrollProjection(headcount, round(annualSalaries), projections, nanos / 1_000_000);
+    }
+
+    /**
+     * Writes the projected yearly cost of every selected employee as NDJSON,
+     * one line per employee with the salary and bonus of each year by scenario:
+     * {@code {"id":1,"name":"...","annualSalary":60000.0,"scenarios":{"base":[66000.0,67980.0]}}}.
+     * Headcount changes do not apply to single employees.
+     *
+     * @param request Employees to select and scenarios to project
+     * @param output Opens the destination, only called once the request is validated
+     * @return Number of employees written
+     * @throws BadRequestException if the request is invalid
+     */
+    public long writeEmployees(PayrollRequest request, EmployeeExportService.ExportOutput output) throws IOException {
+        int years = years(request);
+        List<PayrollRequest.Scenario> scenarios = scenarios(request);
+        long[] ids = ids(request);
+
+        Salaries all = salaries(employeeService.findAllEmployees());
+        long start = System.nanoTime();
+        Selection selection = select(all, request, ids);
+        double[][] factors = new double[scenarios.size()][years];
+        for (int s = 0; s < scenarios.size(); s++) {
+            PayrollRequest.Scenario scenario = scenarios.get(s);
+            for (int year = 1; year <= years; year++) {
+                factors[s][year - 1] = raiseFactor(scenario, year) * (1 + scenario.bonusPercent() / 100);
+            }
+        }
+
+        int written = 0;
+        try (JsonGenerator generator = jsonFactory.createGenerator(output.open())) {
+            // Lines are separated by the newline below, not the default space between root values
+            generator.setRootValueSeparator(null);
+            double[] annualSalaries = selection.annualSalaries();
+            for (int i = 0; i < annualSalaries.length; i++) {
+                Employee employee = selection.employee(i);
+                generator.writeStartObject();
+                generator.writeNumberField("id", employee.id());
+                if (employee.name() != null) {
+                    generator.writeStringField("name", employee.name());
+                }
+                generator.writeNumberField("annualSalary", annualSalaries[i]);
+                generator.writeObjectFieldStart("scenarios");
+                for (int s = 0; s < factors.length; s++) {
+                    generator.writeArrayFieldStart(scenarios.get(s).name());
+                    for (double factor : factors[s]) {
+                        generator.writeNumber(round(annualSalaries[i] * factor));
+                    }
+                    generator.writeEndArray();
+                }
+                generator.writeEndObject();
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                written++;
+            }
+        } finally {
+            metrics.recordPayroll("employees", written, System.nanoTime() - start);
+        }
+        log.debug("Wrote the projected payroll of {} employees", written);
+        return written;
+    }
+
+    /**
+     * Sums the salaries on the common fork-join pool.
+     */
+    private double sum(double[] values) {
+        if (values.length <= forkThreshold) {
+            return SumTask.sum(values, 0, values.length);
+        }
+        return ForkJoinPool.commonPool().invoke(new SumTask(values, 0, values.length, forkThreshold));
+    }
+
+    /**
+     * Selects the employees matching the filters of the request.
+     */
+    private Selection select(Salaries all, PayrollRequest request, long[] ids) {
+        if (ids == null && request.minAge() == null && request.maxAge() == null
+                && request.minSalary() == null && request.maxSalary() == null) {
+            return new Selection(all.employees(), null, all.annualSalaries());
+        }
+
+        int minAge = request.minAge() != null ? request.minAge() : Integer.MIN_VALUE;
+        int maxAge = request.maxAge() != null ? request.maxAge() : Integer.MAX_VALUE;
+        double minSalary = request.minSalary() != null ? request.minSalary() : Double.NEGATIVE_INFINITY;
+        double maxSalary = request.maxSalary() != null ? request.maxSalary() : Double.POSITIVE_INFINITY;
+        int[] indexes = new int[all.ids().length];
+        int selected = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            double salary = all.annualSalaries()[i] / 12;
+            int age = all.ages()[i];
+            boolean ageMatches = age == UNKNOWN_AGE
+                    ? request.minAge() == null && request.maxAge() == null
+                    : age >= minAge && age <= maxAge;
+            if (ageMatches
+                    && salary >= minSalary && salary <= maxSalary
+                    && (ids == null || Arrays.binarySearch(ids, all.ids()[i]) >= 0)) {
+                indexes[selected++] = i;
+            }
+        }
+        indexes = Arrays.copyOf(indexes, selected);
+        double[] annualSalaries = new double[selected];
+        for (int i = 0; i < selected; i++) {
+            annualSalaries[i] = all.annualSalaries()[indexes[i]];
+        }
+        return new Selection(all.employees(), indexes, annualSalaries);
+    }
+
+    /**
+     * @return Primitive copy of the list, reused while the cached list is the same instance
+     */
+    private Salaries salaries(List<Employee> employees) {
+        Salaries current = salaries;
+        if (current != null && current.employees() == employees) {
+            return current;
+        }
+        long[] ids = new long[employees.size()];
+        int[] ages = new int[employees.size()];
+        double[] annualSalaries = new double[employees.size()];
+        for (int i = 0; i < ids.length; i++) {
+            Employee employee = employees.get(i);
+            ids[i] = employee.id();
+            ages[i] = employee.age() != null ? employee.age() : UNKNOWN_AGE;
+            annualSalaries[i] = employee.salary() != null ? employee.salary() * 12 : 0;
+        }
+        current = new Salaries(employees, ids, ages, annualSalaries);
+        salaries = current;
+        return current;
+    }
+
+    private static int years(PayrollRequest request) {
+        int years = request.years() != null ? request.years() : 1;
+        if (years < 1 || years > MAX_YEARS) {
+            throw new BadRequestException("years must be between 1 and " + MAX_YEARS);
+        }
+        return years;
+    }
+
+    /**
+     * @return Sorted IDs to select, null to select every ID
+     */
+    private static long[] ids(PayrollRequest request) {
+        if (request.ids() == null) {
+            return null;
+        }
+        long[] ids = new long[request.ids().size()];
+        for (int i = 0; i < ids.length; i++) {
+            Long id = request.ids().get(i);
+            if (id == null) {
+                throw new BadRequestException("ids must not contain null");
+            }
+            ids[i] = id;
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private static List<PayrollRequest.Scenario> scenarios(PayrollRequest request) {
+        if (request.scenarios() == null || request.scenarios().isEmpty()) {
+            return List.of(BASE);
+        }
+        if (request.scenarios().size() > MAX_SCENARIOS) {
+            throw new BadRequestException("At most " + MAX_SCENARIOS + " scenarios can be projected");
+        }
+        Set<String> names = new HashSet<>();
+        for (PayrollRequest.Scenario scenario : request.scenarios()) {
+            if (scenario == null || scenario.name() == null || scenario.name().isBlank()) {
+                throw new BadRequestException("Every scenario needs a name");
+            }
+            if (!names.add(scenario.name())) {
+                throw new BadRequestException("Duplicate scenario: " + scenario.name());
+            }
+            if (!(scenario.raisePercent() > -100) || !(scenario.headcountPercent() > -100)
+                    || !(scenario.bonusPercent() >= 0) || !Double.isFinite(scenario.raisePercent())
+                    || !Double.isFinite(scenario.headcountPercent()) || !Double.isFinite(scenario.bonusPercent())) {
+                throw new BadRequestException("Invalid percentages in scenario: " + scenario.name());
+            }
+        }
+        return request.scenarios();
+    }
+
+    /**
+     * @return Salary of the year relative to the current one, raises applying from year 2
+     */
+    private static double raiseFactor(PayrollRequest.Scenario scenario, int year) {
+        return Math.pow(1 + scenario.raisePercent() / 100, year - 1);
+    }
+
+    /**
+     * Rounds an amount to cents.
+     */
+    private static double round(double amount) {
+        return Math.round(amount * 100) / 100.0;
+    }
+
+    /**
+     * IDs, ages and annual salaries of a list of employees, at the same index as in the list.
+     */
+    private record Salaries(List<Employee> employees, long[] ids, int[] ages, double[] annualSalaries) {
+    }
+
+    /**
+     * Annual salaries of the selected employees.
+     *
+     * @param indexes Index in the list of each selected employee, null if every employee is selected
+     */
+    private record Selection(List<Employee> employees, int[] indexes, double[] annualSalaries) {
+
+        Employee employee(int i) {
+            return employees.get(indexes != null ? indexes[i] : i);
+        }
+    }
+
+    /**
+     * Sums a range of values, splitting it in halves until it holds at most threshold values.
+     */
+    private static final class SumTask extends RecursiveTask<Double> {
+        private final double[] values;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        SumTask(double[] values, int from, int to, int threshold) {
+            this.values = values;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Double compute() {
+            if (to - from <= threshold) {
+                return sum(values, from, to);
+            }
+            int middle = (from + to) >>> 1;
+            SumTask left = new SumTask(values, from, middle, threshold);
+            left.fork();
+            double right = new SumTask(values, middle, to, threshold).compute();
+            return left.join() + right;
+        }
+
+        static double sum(double[] values, int from, int to) {
+            double sum = 0;
+            for (int i = from; i < to; i++) {
+                sum += values[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.amaris.employee_management.simulator;
+
+import java.util.Random;
+
+/**
+ * Distribution of the artificial latency added by {@link UpstreamSimulator} to each response.
+ *
+ * Distributions are written as specs so they can be set from configuration:
+ * <ul>
+ *     <li>{@code none} no added latency</li>
+ *     <li>{@code fixed:50} always 50ms</li>
+ *     <li>{@code uniform:10-200} uniformly between 10ms and 200ms</li>
+ *     <li>{@code lognormal:40,400} long-tailed, median 40ms and p99 400ms</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /** Normal quantile of the 99th percentile, used to derive the lognormal sigma */
+    double Z_99 = 2.3263;
+
+    /**
+     * Draws a latency.
+     *
+     * @param random Random source
+     * @return Latency in milliseconds
+     */
+    long sampleMillis(Random random);
+
+    static LatencyDistribution none() {
+        return random -> 0;
+    }
+
+    static LatencyDistribution fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyDistribution uniform(long minMillis, long maxMillis) {
+        if (maxMillis < minMillis) {
+            throw new IllegalArgumentException("Max latency must not be lower than min latency");
+        }
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis + 1));
+    }
+
+    static LatencyDistribution logNormal(long medianMillis, long p99Millis) {
+        if (medianMillis <= 0 || p99Millis < medianMillis) {
+            throw new IllegalArgumentException("Lognormal latency needs 0 < median <= p99");
+        }
+        double mu = Math.log(medianMillis);
+        double sigma = Math.log((double) p99Millis / medianMillis) / Z_99;
+        return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    /**
+     * Parses a distribution spec such as {@code uniform:10-200}.
+     *
+     * @param spec Distribution spec
+     * @return Parsed distribution
+     */
+    static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.trim().equals("none")) {
+            return none();
+        }
+        String[] parts = spec.trim().split(":", 2);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec);
+        }
+        String type = parts[0].trim();
+        String args = parts[1].trim();
+        try {
+            switch (type) {
+                case "fixed":
+                    return fixed(Long.parseLong(args));
+                case "uniform": {
+                    String[] bounds = args.split("-");
+                    return uniform(Long.parseLong(bounds[0].trim()), Long.parseLong(bounds[1].trim()));
+                }
+                case "lognormal": {
+                    String[] values = args.split(",");
+                    return logNormal(Long.parseLong(values[0].trim()), Long.parseLong(values[1].trim()));
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown latency distribution: " + type);
+            }
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec, e);
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.amaris.employee_management.simulator;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load driver for the service endpoints.
+ *
+ * Runs a fixed number of workers against a list of paths for a given duration and
+ * reports throughput and latency percentiles per path. A {@code {id}} placeholder in a
+ * path is replaced by a random ID between 1 and {@code maxId} on every request.
+ *
+ * With a target rate, requests are sent on a fixed schedule and latency is measured
+ * from the scheduled send time, so a slow server cannot hide its queueing delay by
+ * slowing down the driver. Without it, each worker sends as fast as responses arrive.
+ *
+ * Run against a started service with:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.amaris.employee_management.simulator.LoadDriver \
+ *     -Dexec.args="--url=http://localhost:8080/api --concurrency=16 --duration=30 --paths=/employees,/employees/{id}"
+ * </pre>
+ */
+public class LoadDriver {
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int ratePerSecond;
+    private final int maxId;
+    private final HttpClient httpClient;
+
+    /**
+     * @param baseUrl Base URL of the service, e.g. http://localhost:8080/api
+     * @param concurrency Number of concurrent workers
+     * @param warmup Time to send requests before recording starts
+     * @param duration Time during which requests are recorded
+     * @param ratePerSecond Total target rate, 0 to send as fast as possible
+     * @param maxId Highest ID used to fill the {@code {id}} placeholder
+     */
+    public LoadDriver(String baseUrl, int concurrency, Duration warmup, Duration duration,
+                      int ratePerSecond, int maxId) {
+        this.baseUrl = baseUrl;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.ratePerSecond = ratePerSecond;
+        this.maxId = maxId;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Sends requests to the given paths in turn until the duration has elapsed.
+     *
+     * @param paths Paths relative to the base URL
+     * @return Statistics per path
+     */
+    public Report run(List<String> paths) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            long startNanos = System.nanoTime();
+            long recordFrom = startNanos + warmup.toNanos();
+            long endNanos = recordFrom + duration.toNanos();
+            long intervalNanos = ratePerSecond > 0 ? 1_000_000_000L * concurrency / ratePerSecond : 0;
+
+            List<Future<Map<String, Recorder>>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                int offset = i;
+                workers.add(executor.submit(() ->
+                        work(paths, offset, startNanos, recordFrom, endNanos, intervalNanos)));
+            }
+
+            Map<String, Recorder> merged = new LinkedHashMap<>();
+            paths.forEach(path -> merged.put(path, new Recorder()));
+            for (Future<Map<String, Recorder>> worker : workers) {
+                try {
+                    worker.get().forEach((path, recorder) -> merged.get(path).merge(recorder));
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Load driver worker failed", e.getCause());
+                }
+            }
+
+            double seconds = duration.toNanos() / 1e9;
+            List<EndpointStats> endpoints = new ArrayList<>();
+            merged.forEach((path, recorder) -> endpoints.add(recorder.toStats(path, seconds)));
+            return new Report(duration, endpoints);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Recorder> work(List<String> paths, int offset, long startNanos, long recordFrom,
+                                       long endNanos, long intervalNanos) throws InterruptedException {
+        Map<String, Recorder> recorders = new HashMap<>();
+        paths.forEach(path -> recorders.put(path, new Recorder()));
+        // Spread the scheduled send times of the workers over one interval
+        long scheduled = startNanos + (intervalNanos * offset) / Math.max(concurrency, 1);
+
+        for (long n = offset; ; n++) {
+            if (intervalNanos > 0) {
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+                }
+            }
+            long sent = intervalNanos > 0 ? scheduled : System.nanoTime();
+            if (sent >= endNanos) {
+                return recorders;
+            }
+
+            String path = paths.get((int) (n % paths.size()));
+            int status = send(path);
+            long latency = System.nanoTime() - sent;
+            if (sent >= recordFrom) {
+                recorders.get(path).record(status, latency);
+            }
+            scheduled += intervalNanos;
+        }
+    }
+
+    private int send(String path) throws InterruptedException {
+        String resolved = path.replace("{id}",
+                String.valueOf(ThreadLocalRandom.current().nextInt(1, maxId + 1)));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + resolved))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(option[0], option.length > 1 ? option[1] : "true");
+        }
+
+        LoadDriver driver = new LoadDriver(
+                options.getOrDefault("url", "http://localhost:8080/api"),
+                Integer.parseInt(options.getOrDefault("concurrency", "16")),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))),
+                Integer.parseInt(options.getOrDefault("rate", "0")),
+                Integer.parseInt(options.getOrDefault("max-id", "24")));
+        List<String> paths = Arrays.asList(options.getOrDefault("paths", "/employees,/employees/{id}").split(","));
+
+        System.out.println(driver.run(paths).format());
+    }
+
+    /**
+     * Latencies and status codes recorded for one path.
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        void record(int status, long latencyNanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        void merge(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            other.statuses.forEach((status, n) -> statuses.merge(status, n, Long::sum));
+        }
+
+        EndpointStats toStats(String path, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            long errors = statuses.entrySet().stream()
+                    .filter(entry -> entry.getKey() < 200 || entry.getKey() >= 300)
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            return new EndpointStats(path, count, errors, count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                    new TreeMap<>(statuses));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(index, 0)] / 1e6;
+        }
+    }
+
+    /**
+     * Statistics for one path.
+     *
+     * @param path Requested path
+     * @param requests Number of recorded requests
+     * @param errors Requests without a 2xx response, including connection failures (status -1)
+     * @param throughput Requests per second
+     * @param p50Ms Median latency in milliseconds
+     * @param p99Ms 99th percentile latency in milliseconds
+     * @param p999Ms 99.9th percentile latency in milliseconds
+     * @param statuses Number of responses by status code
+     */
+    public record EndpointStats(String path, long requests, long errors, double throughput,
+                                double p50Ms, double p99Ms, double p999Ms, Map<Integer, Long> statuses) {
+    }
+
+    /**
+     * Result of a load run.
+     *
+     * @param duration Recorded duration
+     * @param endpoints Statistics per path
+     */
+    public record Report(Duration duration, List<EndpointStats> endpoints) {
+
+        /**
+         * @return Table with one row per path
+         */
+        public String format() {
+            StringBuilder table = new StringBuilder(String.format("%-32s %9s %7s %10s %9s %9s %9s  %s%n",
+                    "path", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "statuses"));
+            for (EndpointStats stats : endpoints) {
+                table.append(String.format("%-32s %9d %7d %10.1f %9.2f %9.2f %9.2f  %s%n",
+                        stats.path(), stats.requests(), stats.errors(), stats.throughput(),
+                        stats.p50Ms(), stats.p99Ms(), stats.p999Ms(), stats.statuses()));
+            }
+            return table.toString();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.amaris.employee_management.simulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Starts the {@link UpstreamSimulator} when the "simulator" profile is active.
+ *
+ * The profile also points {@code employee.api.url} at the simulator
+ * (see application-simulator.yml), so no call leaves the machine.
+ */
+@Configuration
+@Profile("simulator")
+public class SimulatorConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public UpstreamSimulator upstreamSimulator(
+            ObjectMapper objectMapper,
+            @Value("${employee.simulator.port:8089}") int port,
+            @Value("${employee.simulator.size:24}") int size,
+            @Value("${employee.simulator.threads:32}") int threads,
+            @Value("${employee.simulator.latency:none}") String latency,
+            @Value("${employee.simulator.too-many-requests-rate:0}") double tooManyRequestsRate,
+            @Value("${employee.simulator.server-error-rate:0}") double serverErrorRate,
+            @Value("${employee.simulator.server-error-status:503}") int serverErrorStatus,
+            @Value("${employee.simulator.retry-after-seconds:1}") int retryAfterSeconds) {
+        UpstreamSimulator simulator = new UpstreamSimulator(port, size, threads, objectMapper);
+        simulator.setLatency(LatencyDistribution.parse(latency));
+        simulator.setTooManyRequestsRate(tooManyRequestsRate);
+        simulator.setServerErrorRate(serverErrorRate);
+        simulator.setServerErrorStatus(serverErrorStatus);
+        simulator.setRetryAfterSeconds(retryAfterSeconds);
+        return simulator;
+    }
+}
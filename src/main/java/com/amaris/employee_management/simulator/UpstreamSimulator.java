@@ -0,0 +1,267 @@
+package com.amaris.employee_management.simulator;
+
+import com.amaris.employee_management.client.dto.EmployeeDTO;
+import com.amaris.employee_management.client.dto.ResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Embedded stand-in for the external employee API.
+ *
+ * Serves {@code GET /employees} and {@code GET /employee/{id}} with the same JSON
+ * shape as the real API, from a synthetic dataset of employees with IDs 1..size.
+ * Responses are gzip-compressed when the client accepts it.
+ * Latency, 429 and 5xx responses can be injected, and changed while it is running,
+ * so the rate limiter, cache and fallback can be exercised offline and repeatably.
+ */
+@Slf4j
+public class UpstreamSimulator {
+    private final int port;
+    private final int threads;
+    private final ObjectMapper objectMapper;
+
+    private volatile byte[] allEmployees;
+    private volatile List<byte[]> employeesById;
+    private volatile byte[] missingEmployee;
+
+    private volatile LatencyDistribution latency = LatencyDistribution.none();
+    private volatile double tooManyRequestsRate;
+    private volatile double serverErrorRate;
+    private volatile int serverErrorStatus = 503;
+    private volatile int retryAfterSeconds = 1;
+
+    private final LongAdder requests = new LongAdder();
+    private final Map<Integer, LongAdder> responses = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * @param port Port to listen on, 0 for a random free port
+     * @param size Number of synthetic employees to serve
+     * @param threads Number of threads handling requests
+     * @param objectMapper Mapper used to write responses
+     */
+    public UpstreamSimulator(int port, int size, int threads, ObjectMapper objectMapper) {
+        this.port = port;
+        this.threads = threads;
+        this.objectMapper = objectMapper;
+        setSize(size);
+    }
+
+    /**
+     * Starts listening on the loopback interface.
+     */
+    public synchronized void start() throws IOException {
+        if (server != null) {
+            return;
+        }
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "upstream-simulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("Upstream simulator serving {} employees at {}", employeesById.size(), getUrl());
+    }
+
+    /**
+     * Stops the server, giving in-flight requests no time to complete.
+     */
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+            log.info("Upstream simulator stopped");
+        }
+    }
+
+    /**
+     * @return Base URL to use as {@code employee.api.url}
+     */
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Replaces the synthetic dataset.
+     *
+     * @param size Number of employees, with IDs 1..size
+     */
+    public void setSize(int size) {
+        List<EmployeeDTO> employees = new ArrayList<>(size);
+        List<byte[]> byId = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            EmployeeDTO employee = new EmployeeDTO(id, "Employee " + id, 20 + (int) (id % 45),
+                    1000.0 + id * 10, "");
+            employees.add(employee);
+            byId.add(write(new ResponseDTO<>("success", employee, "Successfully! Record has been fetched.")));
+        }
+        allEmployees = write(new ResponseDTO<>("success", employees, "Successfully! All records has been fetched."));
+        missingEmployee = write(new ResponseDTO<>("success", null, "Successfully! Record has been fetched."));
+        employeesById = byId;
+    }
+
+    public void setLatency(LatencyDistribution latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * @param rate Fraction of requests, between 0 and 1, answered with 429 Too Many Requests
+     */
+    public void setTooManyRequestsRate(double rate) {
+        this.tooManyRequestsRate = rate;
+    }
+
+    /**
+     * @param rate Fraction of requests, between 0 and 1, answered with a server error
+     */
+    public void setServerErrorRate(double rate) {
+        this.serverErrorRate = rate;
+    }
+
+    /**
+     * @param status Status of injected server errors (500, 502, 503 or 504)
+     */
+    public void setServerErrorStatus(int status) {
+        this.serverErrorStatus = status;
+    }
+
+    /**
+     * @param seconds Retry-After value sent with injected 429 and 503 responses
+     */
+    public void setRetryAfterSeconds(int seconds) {
+        this.retryAfterSeconds = seconds;
+    }
+
+    /**
+     * @return Number of requests received since start or the last reset
+     */
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * @return Number of responses sent by status code
+     */
+    public Map<Integer, Long> getResponseCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        responses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    /**
+     * Clears the request and response counters.
+     */
+    public void resetCounts() {
+        requests.reset();
+        responses.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.increment();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = latency.sampleMillis(random);
+            if (delay > 0) {
+                Thread.sleep(delay);
+            }
+
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, null);
+            } else if (random.nextDouble() < tooManyRequestsRate) {
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+                send(exchange, 429, "{\"message\":\"Too Many Attempts.\"}".getBytes(StandardCharsets.UTF_8));
+            } else if (random.nextDouble() < serverErrorRate) {
+                if (serverErrorStatus == 503) {
+                    exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+                }
+                send(exchange, serverErrorStatus, "{\"message\":\"Server Error\"}".getBytes(StandardCharsets.UTF_8));
+            } else {
+                route(exchange);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.endsWith("/employees")) {
+            send(exchange, 200, allEmployees);
+            return;
+        }
+
+        int index = path.lastIndexOf("/employee/");
+        if (index < 0) {
+            send(exchange, 404, null);
+            return;
+        }
+
+        List<byte[]> byId = employeesById;
+        try {
+            long id = Long.parseLong(path.substring(index + "/employee/".length()));
+            send(exchange, 200, id >= 1 && id <= byId.size() ? byId.get((int) id - 1) : missingEmployee);
+        } catch (NumberFormatException e) {
+            send(exchange, 200, missingEmployee);
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        responses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            body = gzip(body);
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize simulator dataset", e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+-- Employee table as created by Hibernate before migrations were introduced,
+-- existing databases are baselined at this version
+CREATE TABLE employees (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255),
+    age INTEGER,
+    salary DOUBLE PRECISION,
+    profile_image VARCHAR(255),
+    annual_salary DOUBLE PRECISION,
+    last_updated TIMESTAMP(6)
+);
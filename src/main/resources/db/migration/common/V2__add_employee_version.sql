@@ -0,0 +1,2 @@
+-- Incremented by every change, for optimistic locking
+ALTER TABLE employees ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
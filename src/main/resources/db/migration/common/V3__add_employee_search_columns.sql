@@ -0,0 +1,9 @@
+-- Lower-case name for indexed name searches, kept up to date by the application
+ALTER TABLE employees ADD COLUMN name_lower VARCHAR(255);
+UPDATE employees SET name_lower = LOWER(name);
+
+-- Hash of the stored values, compared by syncs to skip unchanged rows;
+-- existing rows have none and are rewritten once by the next sync
+ALTER TABLE employees ADD COLUMN content_hash BIGINT;
+
+CREATE INDEX idx_employees_last_updated ON employees (last_updated);
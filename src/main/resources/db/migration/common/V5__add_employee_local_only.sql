@@ -0,0 +1,3 @@
+-- Set for employees created or imported locally that the external API has not
+-- returned, so full syncs keep them in the list and the known ID filter
+ALTER TABLE employees ADD COLUMN local_only BOOLEAN DEFAULT FALSE NOT NULL;
@@ -0,0 +1,2 @@
+-- Prefix searches (LIKE 'abc%') on the lower-case name
+CREATE INDEX idx_employees_name_lower ON employees (name_lower);
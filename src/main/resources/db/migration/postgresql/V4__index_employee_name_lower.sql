@@ -0,0 +1,3 @@
+-- Prefix searches (LIKE 'abc%') on the lower-case name; the pattern operator
+-- class makes LIKE usable with the index whatever the collation of the database
+CREATE INDEX idx_employees_name_lower ON employees (name_lower varchar_pattern_ops);
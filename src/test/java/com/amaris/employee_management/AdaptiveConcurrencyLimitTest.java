@@ -0,0 +1,101 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.config.AdaptiveConcurrencyLimit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    @Test
+    @DisplayName("Requests over the limit should be rejected, cache hits may use the headroom")
+    void tryAcquire_ShouldRejectOverLimitExceptPriority() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 0.2, 2.0);
+
+        // Act & Assert
+        assertTrue(limit.tryAcquire(false));
+        assertTrue(limit.tryAcquire(false));
+        assertFalse(limit.tryAcquire(false));
+        assertTrue(limit.tryAcquire(true));
+        assertTrue(limit.tryAcquire(true));
+        assertFalse(limit.tryAcquire(true));
+        assertEquals(4, limit.getInflight());
+
+        // Act - one request completes
+        limit.release(RTT, false);
+
+        // Assert
+        assertEquals(3, limit.getInflight());
+        assertFalse(limit.tryAcquire(false));
+        assertTrue(limit.tryAcquire(true));
+    }
+
+    @Test
+    @DisplayName("The limit should grow while latency is stable and the limit is in use")
+    void release_WithStableLatency_ShouldGrowLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 5, 100, 1.5, 0.2, 2.0);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            sample(limit, RTT, 10);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() > 10);
+    }
+
+    @Test
+    @DisplayName("The limit should not grow while it is mostly unused")
+    void release_WhenUnderused_ShouldKeepLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 5, 100, 1.5, 0.2, 2.0);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire(false);
+            limit.release(RTT, true);
+        }
+
+        // Assert
+        assertEquals(10, limit.getLimit());
+    }
+
+    @Test
+    @DisplayName("The limit should shrink towards the minimum when latency rises")
+    void release_WhenLatencyRises_ShouldShrinkLimit() {
+        // Arrange
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(50, 5, 100, 1.5, 0.2, 2.0);
+        for (int i = 0; i < 20; i++) {
+            sample(limit, RTT, 50);
+        }
+        int before = limit.getLimit();
+
+        // Act - requests start queueing and take ten times longer
+        for (int i = 0; i < 100; i++) {
+            sample(limit, RTT * 10, 50);
+        }
+
+        // Assert
+        assertTrue(limit.getLimit() < before);
+        assertEquals(5, limit.getLimit());
+    }
+
+    /** Completes one request while up to {@code inflight} requests are running */
+    private static void sample(AdaptiveConcurrencyLimit limit, long rtt, int inflight) {
+        int acquired = 0;
+        while (acquired < inflight && limit.tryAcquire(true)) {
+            acquired++;
+        }
+        limit.release(rtt, true);
+        for (int i = 1; i < acquired; i++) {
+            limit.release(rtt, false);
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.config.AdaptiveRetryer;
+import com.amaris.employee_management.config.Deadline;
+import com.amaris.employee_management.config.FeignRateLimitInterceptor;
+import com.amaris.employee_management.config.RetryBudget;
+import com.amaris.employee_management.exception.FeignErrorDecoder;
+import com.amaris.employee_management.exception.FeignErrorDecoder.ApiException;
+import com.amaris.employee_management.exception.FeignErrorDecoder.RateLimitExceededException;
+import com.amaris.employee_management.exception.FeignErrorDecoder.ResourceNotFoundException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdaptiveRetryerTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private MeterRegistry meterRegistry;
+    private EmployeeMetrics metrics;
+    private FeignRateLimitInterceptor rateLimiter;
+    private List<Long> sleeps;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new EmployeeMetrics(meterRegistry, List.of(100L));
+        rateLimiter = mock(FeignRateLimitInterceptor.class);
+        sleeps = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Should wait for the Retry-After sent by the external API")
+    void shouldHonourRetryAfter() {
+        // Arrange
+        Retryer retryer = retryer(3, 2000, new RetryBudget(1.0, 10, 10)).clone();
+
+        // Act
+        retryer.continueOrPropagate(retryable(Request.HttpMethod.GET, NOW + 1500));
+
+        // Assert
+        assertEquals(List.of(1500L), sleeps);
+        assertEquals(1, meterRegistry.get("employee.upstream.retries").counter().count());
+        verify(rateLimiter, times(1)).releasePermit();
+    }
+
+    @Test
+    @DisplayName("Should use jittered delays between the base and max delay")
+    void shouldUseJitteredDelays() {
+        // Arrange
+        Retryer retryer = retryer(50, 2000, new RetryBudget(1.0, 100, 10)).clone();
+
+        // Act
+        for (int i = 0; i < 40; i++) {
+            retryer.continueOrPropagate(retryable(Request.HttpMethod.GET, null));
+        }
+
+        // Assert
+        assertTrue(sleeps.stream().allMatch(delay -> delay >= 100 && delay <= 1000), sleeps.toString());
+        assertTrue(sleeps.stream().distinct().count() > 1, "Delays should not all be equal");
+    }
+
+    @Test
+    @DisplayName("Should refuse to retry non-idempotent requests, long Retry-After and exhausted attempts")
+    void shouldRefuseRetries() {
+        // Arrange
+        RetryBudget budget = new RetryBudget(1.0, 10, 10);
+
+        // Act & Assert
+        assertThrows(RetryableException.class, () -> retryer(3, 2000, budget).clone()
+                .continueOrPropagate(retryable(Request.HttpMethod.POST, null)));
+        assertThrows(RetryableException.class, () -> retryer(3, 2000, budget).clone()
+                .continueOrPropagate(retryable(Request.HttpMethod.GET, NOW + 60_000)));
+
+        Retryer retryer = retryer(2, 2000, budget).clone();
+        retryer.continueOrPropagate(retryable(Request.HttpMethod.GET, null));
+        assertThrows(RetryableException.class,
+                () -> retryer.continueOrPropagate(retryable(Request.HttpMethod.GET, null)));
+
+        assertEquals(1, refused("not_idempotent"));
+        assertEquals(1, refused("retry_after"));
+        assertEquals(1, refused("exhausted"));
+        assertEquals(1, sleeps.size());
+    }
+
+    @Test
+    @DisplayName("Should refuse a retry whose delay reaches past the request deadline")
+    void retryer_WhenDelayPastDeadline_ShouldRefuse() {
+        // Arrange - 500ms left for the external API
+        Retryer retryer = retryer(3, 2000, new RetryBudget(1.0, 10, 10)).clone();
+        Deadline.set(Deadline.after(550, 50));
+
+        // Act & Assert
+        try {
+            assertThrows(RetryableException.class,
+                    () -> retryer.continueOrPropagate(retryable(Request.HttpMethod.GET, NOW + 1000)));
+        } finally {
+            Deadline.set(null);
+        }
+        assertEquals(1, refused("deadline"));
+        assertTrue(sleeps.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Retry budget should cap retries at a fraction of requests")
+    void budget_ShouldCapRetries() {
+        // Arrange - 10% of requests, at least 1 retry per second over 2 seconds
+        long[] second = {100};
+        RetryBudget budget = new RetryBudget(0.1, 1, 2) {
+            @Override
+            protected long currentSecond() {
+                return second[0];
+            }
+        };
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        // Act
+        int allowed = 0;
+        while (budget.tryAcquire()) {
+            allowed++;
+        }
+
+        // Assert
+        assertEquals(10, allowed);
+
+        // Act - the window moves past the recorded traffic
+        second[0] += 2;
+
+        // Assert - only the floor is left
+        assertTrue(budget.tryAcquire());
+        assertTrue(budget.tryAcquire());
+        assertFalse(budget.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Retries refused by the budget should be counted")
+    void retryer_WhenBudgetExhausted_ShouldRefuse() {
+        // Arrange
+        Retryer retryer = retryer(5, 2000, new RetryBudget(0.0, 0, 10)).clone();
+
+        // Act & Assert
+        assertThrows(RetryableException.class,
+                () -> retryer.continueOrPropagate(retryable(Request.HttpMethod.GET, null)));
+        assertEquals(1, refused("budget"));
+        assertTrue(sleeps.isEmpty());
+        verify(rateLimiter, never()).releasePermit();
+    }
+
+    @Test
+    @DisplayName("Decoder should make transient errors of idempotent requests retryable")
+    void decoder_ShouldReturnRetryableForTransientErrors() {
+        // Arrange
+        FeignErrorDecoder decoder = new FeignErrorDecoder();
+
+        // Act
+        Exception unavailable = decoder.decode("get", response(503, Request.HttpMethod.GET, "2"));
+        Exception limited = decoder.decode("get", response(429, Request.HttpMethod.GET, null));
+        Exception limitedPost = decoder.decode("post", response(429, Request.HttpMethod.POST, null));
+        Exception notFound = decoder.decode("get", response(404, Request.HttpMethod.GET, null));
+        Exception serverError = decoder.decode("get", response(500, Request.HttpMethod.GET, null));
+
+        // Assert
+        RetryableException retryable = assertInstanceOf(RetryableException.class, unavailable);
+        assertInstanceOf(ApiException.class, retryable.getCause());
+        long retryIn = retryable.retryAfter() - System.currentTimeMillis();
+        assertTrue(retryIn > 1000 && retryIn <= 2000, "Retry in " + retryIn);
+
+        assertInstanceOf(RateLimitExceededException.class, limited.getCause());
+        assertNull(((RetryableException) limited).retryAfter());
+        assertInstanceOf(RateLimitExceededException.class, limitedPost);
+        assertInstanceOf(ResourceNotFoundException.class, notFound);
+        assertInstanceOf(ApiException.class, serverError);
+    }
+
+    private AdaptiveRetryer retryer(int maxAttempts, long maxRetryAfterMs, RetryBudget budget) {
+        return new AdaptiveRetryer(maxAttempts, 100, 1000, maxRetryAfterMs, budget, rateLimiter, metrics) {
+            @Override
+            public Retryer clone() {
+                budget.recordRequest();
+                return this;
+            }
+
+            @Override
+            protected long currentTimeMillis() {
+                return NOW;
+            }
+
+            @Override
+            protected void sleep(long millis) {
+                sleeps.add(millis);
+            }
+        };
+    }
+
+    private static RetryableException retryable(Request.HttpMethod method, Long retryAfter) {
+        return new RetryableException(503, "Service Unavailable", method, retryAfter, request(method));
+    }
+
+    private static Response response(int status, Request.HttpMethod method, String retryAfter) {
+        Map<String, Collection<String>> headers = retryAfter == null
+                ? Collections.emptyMap()
+                : Map.of("Retry-After", List.of(retryAfter));
+        return Response.builder()
+                .status(status)
+                .request(request(method))
+                .headers(headers)
+                .body("error", StandardCharsets.UTF_8)
+                .build();
+    }
+
+    private static Request request(Request.HttpMethod method) {
+        return Request.create(method, "http://localhost/employees", Collections.emptyMap(),
+                null, StandardCharsets.UTF_8, null);
+    }
+
+    private double refused(String reason) {
+        return meterRegistry.get("employee.upstream.retries.refused").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,97 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.service.Bulkhead;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    private MeterRegistry meterRegistry;
+    private EmployeeMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new EmployeeMetrics(meterRegistry, List.of(100L));
+    }
+
+    @Test
+    @DisplayName("Calls beyond the limit should be rejected immediately when waiting is disabled")
+    void tryEnter_WhenFullWithoutWaiting_ShouldReject() {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("test", 2, 0, 0, metrics);
+        metrics.bindBulkhead(bulkhead);
+
+        // Act
+        boolean first = bulkhead.tryEnter();
+        boolean second = bulkhead.tryEnter();
+        boolean third = bulkhead.tryEnter();
+
+        // Assert
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertEquals(2.0, meterRegistry.get("employee.bulkhead.active").tag("bulkhead", "test").gauge().value());
+        assertEquals(1, meterRegistry.get("employee.bulkhead.wait")
+                .tag("bulkhead", "test").tag("accepted", "false").timer().count());
+
+        // Act - a slot is freed
+        bulkhead.exit();
+
+        // Assert
+        assertTrue(bulkhead.tryEnter());
+    }
+
+    @Test
+    @DisplayName("A waiting call should enter once a slot is freed")
+    void tryEnter_WhenSlotFreedWhileWaiting_ShouldEnter() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, 5000, metrics);
+        bulkhead.tryEnter();
+
+        // Act
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(bulkhead::tryEnter);
+        while (bulkhead.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+        bulkhead.exit();
+
+        // Assert
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.getWaiting());
+    }
+
+    @Test
+    @DisplayName("Calls beyond the waiting limit should be rejected without waiting")
+    void tryEnter_WhenWaitingLimitReached_ShouldReject() throws Exception {
+        // Arrange
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, 5000, metrics);
+        bulkhead.tryEnter();
+        CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(bulkhead::tryEnter);
+        while (bulkhead.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        long start = System.nanoTime();
+        boolean rejected = !bulkhead.tryEnter();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertTrue(rejected);
+        assertTrue(elapsedMs < 1000);
+
+        bulkhead.exit();
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+    }
+}
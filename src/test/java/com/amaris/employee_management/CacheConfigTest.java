@@ -0,0 +1,155 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.config.CacheConfig;
+import com.amaris.employee_management.metrics.EmployeeCacheMetrics;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheConfigTest {
+
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig config = new CacheConfig();
+        ReflectionTestUtils.setField(config, "maxHeapPercent", 0.0001);
+        ReflectionTestUtils.setField(config, "expireAfterMinutes", 30);
+        ReflectionTestUtils.setField(config, "expireAfterAccessMinutes", 15);
+        ReflectionTestUtils.setField(config, "listMaxHeapPercent", 5.0);
+        ReflectionTestUtils.setField(config, "listExpireAfterMinutes", 60);
+        ReflectionTestUtils.setField(config, "listExpireAfterAccessMinutes", 30);
+        ReflectionTestUtils.setField(config, "missingMaxSize", 100);
+        ReflectionTestUtils.setField(config, "missingExpireAfterSeconds", 60);
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cacheManager = config.cacheManager(
+                new EmployeeCacheMetrics(meterRegistry, new EmployeeMetrics(meterRegistry, List.of(100L))));
+    }
+
+    @Test
+    @DisplayName("Employee caches should be bounded by heap share and honour both expirations")
+    void employeeCaches_ShouldUseWeightBudgetAndExpirations() {
+        // Act
+        Policy<Object, Object> policy = nativeCache(EmployeeCacheWriter.CACHE_NAME).policy();
+        Policy<Object, Object> listPolicy = nativeCache(EmployeeCacheWriter.LIST_CACHE_NAME).policy();
+
+        // Assert
+        assertTrue(policy.eviction().orElseThrow().isWeighted());
+        assertEquals((long) (Runtime.getRuntime().maxMemory() * 5.0 / 100),
+                listPolicy.eviction().orElseThrow().getMaximum());
+        assertEquals(Duration.ofMinutes(30), policy.expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertEquals(Duration.ofMinutes(15), policy.expireAfterAccess().orElseThrow().getExpiresAfter());
+        assertEquals(Duration.ofMinutes(60), listPolicy.expireAfterWrite().orElseThrow().getExpiresAfter());
+        assertEquals(Duration.ofMinutes(30), listPolicy.expireAfterAccess().orElseThrow().getExpiresAfter());
+    }
+
+    @Test
+    @DisplayName("Filling the per-ID cache should not evict the employee list")
+    void perIdEntries_ShouldNotEvictList() {
+        // Arrange
+        List<Employee> employees = LongStream.rangeClosed(1, 5000).mapToObj(this::employee).toList();
+        EmployeeCacheWriter writer = new EmployeeCacheWriter(cacheManager);
+
+        // Act
+        writer.putAll(employees);
+        nativeCache(EmployeeCacheWriter.CACHE_NAME).cleanUp();
+
+        // Assert
+        Cache<Object, Object> cache = nativeCache(EmployeeCacheWriter.CACHE_NAME);
+        assertTrue(cache.estimatedSize() < employees.size());
+        assertTrue(cache.policy().eviction().orElseThrow().weightedSize().orElseThrow()
+                <= cache.policy().eviction().orElseThrow().getMaximum());
+        assertTrue(writer.hasAll());
+    }
+
+    @Test
+    @DisplayName("Peeking at single employees should not count cache hits or misses")
+    void peek_ShouldNotRecordStats() {
+        // Arrange
+        EmployeeCacheWriter writer = new EmployeeCacheWriter(cacheManager);
+        writer.put(employee(1));
+
+        // Act
+        Employee found = writer.peek("1");
+        Employee missing = writer.peek("2");
+
+        // Assert
+        assertEquals(1L, found.id());
+        assertNull(missing);
+        CacheStats stats = nativeCache(EmployeeCacheWriter.CACHE_NAME).stats();
+        assertEquals(0, stats.hitCount());
+        assertEquals(0, stats.missCount());
+    }
+
+    @Test
+    @DisplayName("Writing through to the cached list should not count cache hits or misses")
+    void putInListAndEvict_ShouldNotRecordStats() {
+        // Arrange
+        EmployeeCacheWriter writer = new EmployeeCacheWriter(cacheManager);
+        writer.putAll(List.of(employee(1), employee(2)));
+
+        // Act
+        writer.putInList(employee(3));
+        writer.evict(1);
+
+        // Assert
+        Cache<Object, Object> listCache = nativeCache(EmployeeCacheWriter.LIST_CACHE_NAME);
+        assertEquals(List.of(2L, 3L), ((List<?>) listCache.asMap().get(EmployeeCacheWriter.ALL_KEY)).stream()
+                .map(employee -> ((Employee) employee).id()).toList());
+        assertEquals(0, listCache.stats().hitCount());
+        assertEquals(0, listCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Checking for the cached list should not count cache hits or misses")
+    void hasAll_ShouldNotRecordStats() {
+        // Arrange
+        EmployeeCacheWriter writer = new EmployeeCacheWriter(cacheManager);
+        boolean before = writer.hasAll();
+        writer.putAll(List.of(employee(1)));
+
+        // Act
+        boolean after = writer.hasAll();
+
+        // Assert
+        assertFalse(before);
+        assertTrue(after);
+        Cache<Object, Object> listCache = nativeCache(EmployeeCacheWriter.LIST_CACHE_NAME);
+        assertEquals(0, listCache.stats().hitCount());
+        assertEquals(0, listCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Unknown cache names should not be created on demand")
+    void unknownCache_ShouldNotBeCreated() {
+        // Act & Assert
+        assertNull(cacheManager.getCache("other"));
+        assertNotNull(cacheManager.getCache("missingEmployees"));
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+
+    private Employee employee(long id) {
+        return new Employee(id, "Employee " + id, 30, 1000.0, "", 12000.0, 0);
+    }
+}
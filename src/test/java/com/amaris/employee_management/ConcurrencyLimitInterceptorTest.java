@@ -0,0 +1,97 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.config.AdaptiveConcurrencyLimit;
+import com.amaris.employee_management.config.ConcurrencyLimitInterceptor;
+import com.amaris.employee_management.exception.ServiceUnavailableException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitInterceptorTest {
+
+    @Mock
+    private EmployeeCacheWriter cacheWriter;
+
+    @Mock
+    private EmployeeMetrics metrics;
+
+    private AdaptiveConcurrencyLimit limit;
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        limit = new AdaptiveConcurrencyLimit(1, 1, 10, 1.5, 0.2, 2.0);
+        interceptor = new ConcurrencyLimitInterceptor(limit, cacheWriter, metrics);
+        ReflectionTestUtils.setField(interceptor, "enabled", true);
+        ReflectionTestUtils.setField(interceptor, "retryAfterSeconds", 2L);
+    }
+
+    @Test
+    @DisplayName("Uncached requests over the limit should get a 503 with Retry-After")
+    void preHandle_WhenLimitReached_ShouldRejectUncached() {
+        // Arrange
+        MockHttpServletRequest first = request("1");
+        interceptor.preHandle(first, new MockHttpServletResponse(), new Object());
+
+        // Act & Assert
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> interceptor.preHandle(request("2"), new MockHttpServletResponse(), new Object()));
+        assertEquals("2", exception.getHeaders().getFirst("Retry-After"));
+        verify(metrics).recordAdmission(false, false);
+
+        // Act - the first request completes
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), new Object(), null);
+
+        // Assert
+        assertEquals(0, limit.getInflight());
+        assertTrue(interceptor.preHandle(request("2"), new MockHttpServletResponse(), new Object()));
+    }
+
+    @Test
+    @DisplayName("Cached requests should be admitted within the priority headroom")
+    void preHandle_WhenCached_ShouldUseHeadroom() {
+        // Arrange
+        interceptor.preHandle(request("1"), new MockHttpServletResponse(), new Object());
+        when(cacheWriter.isCached("2")).thenReturn(true);
+
+        // Act
+        boolean admitted = interceptor.preHandle(request("2"), new MockHttpServletResponse(), new Object());
+
+        // Assert
+        assertTrue(admitted);
+        assertEquals(2, limit.getInflight());
+        verify(metrics).recordAdmission(true, true);
+    }
+
+    @Test
+    @DisplayName("The full list request should be classified with the 'all' cache key")
+    void preHandle_WithoutId_ShouldCheckAllKey() {
+        // Act
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/employees"), new MockHttpServletResponse(),
+                new Object());
+
+        // Assert
+        verify(cacheWriter).isCached(EmployeeCacheWriter.ALL_KEY);
+    }
+
+    private static MockHttpServletRequest request(String id) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/" + id);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", id));
+        return request;
+    }
+}
@@ -0,0 +1,128 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.config.Deadline;
+import com.amaris.employee_management.config.DeadlineCapability;
+import com.amaris.employee_management.config.DeadlineCapability.DeadlineExceededException;
+import com.amaris.employee_management.config.DeadlineFilter;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineTest {
+
+    private MeterRegistry meterRegistry;
+    private DeadlineFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new DeadlineFilter();
+        ReflectionTestUtils.setField(filter, "defaultMs", 5000L);
+        ReflectionTestUtils.setField(filter, "maxMs", 30000L);
+        ReflectionTestUtils.setField(filter, "fallbackReserveMs", 50L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Deadline.set(null);
+    }
+
+    @Test
+    @DisplayName("The filter should use the client timeout header, the default otherwise, and clear the deadline")
+    void filter_ShouldSetDeadlineFromHeader() throws Exception {
+        // Arrange
+        AtomicLong remaining = new AtomicLong();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/1");
+        request.addHeader(DeadlineFilter.TIMEOUT_HEADER, "300");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> remaining.set(Deadline.current().upstreamRemainingMillis()));
+
+        // Assert
+        assertTrue(remaining.get() > 200 && remaining.get() <= 250, "Remaining " + remaining.get());
+        assertNull(Deadline.current());
+
+        // Act - an invalid header falls back to the default
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/employees/1");
+        invalid.addHeader(DeadlineFilter.TIMEOUT_HEADER, "soon");
+        filter.doFilter(invalid, new MockHttpServletResponse(),
+                (req, res) -> remaining.set(Deadline.current().remainingMillis()));
+
+        // Assert
+        assertTrue(remaining.get() > 4900, "Remaining " + remaining.get());
+    }
+
+    @Test
+    @DisplayName("Upstream timeouts should be capped by the budget left for the external API")
+    void capability_ShouldCapTimeouts() throws Exception {
+        // Arrange
+        AtomicReference<Request.Options> used = new AtomicReference<>();
+        Client client = new DeadlineCapability(new EmployeeMetrics(meterRegistry, List.of(100L)))
+                .enrich((Client) (request, options) -> {
+                    used.set(options);
+                    return Response.builder().status(200).request(request).headers(Collections.emptyMap()).build();
+                });
+        Deadline.set(Deadline.after(300, 50));
+
+        // Act
+        client.execute(request(), new Request.Options(5, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true));
+
+        // Assert
+        assertTrue(used.get().readTimeoutMillis() <= 250);
+        assertTrue(used.get().connectTimeoutMillis() <= 250);
+        assertTrue(used.get().readTimeoutMillis() > 200);
+    }
+
+    @Test
+    @DisplayName("The external API should not be called once only the fallback reserve is left")
+    void capability_WhenBudgetSpent_ShouldNotCall() {
+        // Arrange
+        AtomicLong calls = new AtomicLong();
+        Client client = new DeadlineCapability(new EmployeeMetrics(meterRegistry, List.of(100L)))
+                .enrich((Client) (request, options) -> {
+                    calls.incrementAndGet();
+                    return null;
+                });
+        Deadline.set(Deadline.after(40, 50));
+
+        // Act & Assert
+        assertThrows(DeadlineExceededException.class, () -> client.execute(request(), new Request.Options()));
+        assertEquals(0, calls.get());
+        assertEquals(1, meterRegistry.get("employee.deadline.exceeded").counter().count());
+    }
+
+    @Test
+    @DisplayName("Without a deadline the configured timeouts should be kept")
+    void upstreamTimeout_WithoutDeadline_ShouldKeepTimeout() {
+        // Act & Assert
+        assertEquals(2000, Deadline.upstreamTimeout(2000));
+
+        Deadline.set(Deadline.after(100, 50));
+        assertTrue(Deadline.upstreamTimeout(2000) <= 50);
+    }
+
+    private static Request request() {
+        return Request.create(Request.HttpMethod.GET, "http://localhost/employees/1", Collections.emptyMap(),
+                null, StandardCharsets.UTF_8, null);
+    }
+}
@@ -0,0 +1,180 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.exception.EmployeeNotFoundException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.service.EmployeeBatchLoader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeBatchLoaderTest {
+
+    private MeterRegistry meterRegistry;
+    private EmployeeBatchLoader loader;
+    private ExecutorService callers;
+
+    /** IDs of every batch loaded, in order */
+    private final List<Set<String>> batches = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loader = new EmployeeBatchLoader(new EmployeeMetrics(meterRegistry, List.of(100L)));
+        ReflectionTestUtils.setField(loader, "enabled", true);
+        ReflectionTestUtils.setField(loader, "windowMs", 50L);
+        ReflectionTestUtils.setField(loader, "maxBatchSize", 1000);
+        ReflectionTestUtils.setField(loader, "timeoutMs", 5000L);
+        ReflectionTestUtils.invokeMethod(loader, "start");
+        callers = Executors.newFixedThreadPool(20);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        ReflectionTestUtils.invokeMethod(loader, "stop");
+    }
+
+    @Test
+    @DisplayName("Concurrent lookups should share one batch, and lookups of the same ID one answer")
+    void load_WithConcurrentLookups_ShouldLoadOneBatch() throws Exception {
+        // Act
+        List<Future<Employee>> results = lookUp(List.of("1", "2", "3", "2", "1"), this::loadAll);
+
+        // Assert
+        for (Future<Employee> result : results) {
+            assertNotNull(result.get(5, TimeUnit.SECONDS));
+        }
+        assertSame(results.get(0).get(), results.get(4).get());
+        assertEquals(List.of(Set.of("1", "2", "3")), batches);
+        assertEquals(3.0, meterRegistry.get("employee.batch.ids").tag("outcome", "success").counter().count());
+    }
+
+    @Test
+    @DisplayName("A full batch should be loaded at once, and later lookups form the next batch")
+    void load_WhenBatchFull_ShouldLoadWithoutWaitingForWindow() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(loader, "windowMs", 5000L);
+        ReflectionTestUtils.setField(loader, "maxBatchSize", 2);
+
+        // Act
+        long start = System.nanoTime();
+        List<Future<Employee>> results = lookUp(List.of("1", "2"), this::loadAll);
+        for (Future<Employee> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        lookUp(List.of("3", "4"), this::loadAll).get(1).get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(elapsedMs < 2000, "Took " + elapsedMs + "ms");
+        assertEquals(List.of(Set.of("1", "2"), Set.of("3", "4")), batches);
+    }
+
+    @Test
+    @DisplayName("IDs missing from the batch result should be reported as not found")
+    void load_WhenIdMissing_ShouldThrowNotFound() throws Exception {
+        // Act
+        List<Future<Employee>> results = lookUp(List.of("1", "404"), ids -> {
+            Map<String, Employee> found = loadAll(ids);
+            found.remove("404");
+            return found;
+        });
+
+        // Assert
+        assertEquals(1L, results.get(0).get(5, TimeUnit.SECONDS).id());
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> results.get(1).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(EmployeeNotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("A failing batch should fail every lookup waiting for it")
+    void load_WhenBatchFails_ShouldFailEveryLookup() {
+        // Act
+        List<Future<Employee>> results = lookUp(List.of("1", "2"), ids -> {
+            throw new IllegalStateException("API Error");
+        });
+
+        // Assert
+        for (Future<Employee> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class,
+                    () -> result.get(5, TimeUnit.SECONDS));
+            assertEquals("API Error", exception.getCause().getMessage());
+        }
+        assertEquals(1, meterRegistry.get("employee.batch.loads").tag("outcome", "error").timer().count());
+    }
+
+    @Test
+    @DisplayName("A lookup should be answered on its own when its batch takes longer than the timeout")
+    void load_WhenBatchSlow_ShouldAnswerOnItsOwn() {
+        // Arrange
+        ReflectionTestUtils.setField(loader, "timeoutMs", 100L);
+        CountDownLatch release = new CountDownLatch(1);
+        Employee local = new Employee(1L, "Local", 30, 5000.0, null, 60000.0, 0);
+
+        // Act
+        Employee result = loader.load("1", ids -> {
+            await(release);
+            return loadAll(ids);
+        }, () -> local);
+        release.countDown();
+
+        // Assert
+        assertSame(local, result);
+        assertEquals(1.0, meterRegistry.get("employee.batch.timeouts").counter().count());
+    }
+
+    /**
+     * Looks up every ID from its own thread, all at once.
+     */
+    private List<Future<Employee>> lookUp(List<String> ids, Function<Set<String>, Map<String, Employee>> batch) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Employee>> results = new ArrayList<>();
+        for (String id : ids) {
+            results.add(callers.submit(() -> {
+                await(start);
+                return loader.load(id, batch, () -> fail("Timed out"));
+            }));
+        }
+        start.countDown();
+        return results;
+    }
+
+    private Map<String, Employee> loadAll(Set<String> ids) {
+        batches.add(Set.copyOf(ids));
+        Map<String, Employee> found = new HashMap<>();
+        for (String id : ids) {
+            found.put(id, new Employee(Long.parseLong(id), "Employee " + id, 30, 5000.0, null, 60000.0, 0));
+        }
+        return found;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
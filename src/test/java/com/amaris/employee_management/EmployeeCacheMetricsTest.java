@@ -0,0 +1,145 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.metrics.EmployeeCacheMetrics;
+import com.amaris.employee_management.metrics.EmployeeCacheMetrics.HotKey;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.metrics.InstrumentedCaffeineCache;
+import com.amaris.employee_management.model.Employee;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeCacheMetricsTest {
+
+    private MeterRegistry meterRegistry;
+    private EmployeeCacheMetrics cacheMetrics;
+    private InstrumentedCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheMetrics = new EmployeeCacheMetrics(meterRegistry, new EmployeeMetrics(meterRegistry, List.of(100L)));
+        cache = new InstrumentedCaffeineCache("employees", Caffeine.newBuilder()
+                .executor(Runnable::run)
+                .removalListener((key, value, cause) -> cacheMetrics.recordRemoval("employees", key, value, cause))
+                .build(), false, cacheMetrics);
+    }
+
+    @Test
+    @DisplayName("Lookups should be counted by key class")
+    void lookups_ShouldBeSplitByKeyClass() {
+        // Arrange
+        cache.put("all", List.of(employee(1L)));
+
+        // Act
+        cache.get("all");
+        cache.get("all");
+        cache.get("1");
+
+        // Assert
+        assertEquals(2, count("all", "hit"));
+        assertEquals(0, count("all", "miss"));
+        assertEquals(0, count("id", "hit"));
+        assertEquals(1, count("id", "miss"));
+        assertEquals(2, meterRegistry.get("employee.responses")
+                .tag("source", "cache").tag("operation", "all").counter().count());
+    }
+
+    @Test
+    @DisplayName("A put following a miss should record the load time")
+    void putAfterMiss_ShouldRecordLoad() {
+        // Act
+        cache.get("1");
+        cache.put("1", employee(1L));
+        cache.put("2", employee(2L));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("employee.cache.loads").tag("key.class", "id").timer().count());
+        assertEquals(0, meterRegistry.get("employee.cache.loads").tag("key.class", "all").timer().count());
+    }
+
+    @Test
+    @DisplayName("Size and weight gauges should be reported by key class")
+    void gauges_ShouldReportSizeAndWeight() {
+        // Act
+        cache.put("all", List.of(employee(1L), employee(2L)));
+        cache.put("1", employee(1L));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("employee.cache.size").tag("key.class", "all").gauge().value());
+        assertEquals(1.0, meterRegistry.get("employee.cache.size").tag("key.class", "id").gauge().value());
+        double allWeight = meterRegistry.get("employee.cache.weight").tag("key.class", "all").gauge().value();
+        double idWeight = meterRegistry.get("employee.cache.weight").tag("key.class", "id").gauge().value();
+        assertTrue(allWeight > idWeight);
+        assertTrue(idWeight > 0);
+    }
+
+    @Test
+    @DisplayName("Size and weight gauges should follow replacements and removals")
+    void gauges_ShouldFollowReplacementsAndRemovals() {
+        // Arrange
+        cache.put("1", employee(1L));
+        double weight = meterRegistry.get("employee.cache.weight").tag("key.class", "id").gauge().value();
+
+        // Act
+        cache.put("1", employee(1L));
+        cache.put("2", employee(2L));
+        cache.evict("2");
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("employee.cache.size").tag("key.class", "id").gauge().value());
+        assertEquals(weight, meterRegistry.get("employee.cache.weight").tag("key.class", "id").gauge().value());
+
+        // Act
+        cache.clear();
+
+        // Assert
+        assertEquals(0.0, meterRegistry.get("employee.cache.size").tag("key.class", "id").gauge().value());
+        assertEquals(0.0, meterRegistry.get("employee.cache.weight").tag("key.class", "id").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Hot keys should be ordered by hits and forgotten when evicted")
+    void hotKeys_ShouldBeOrderedAndClearedOnRemoval() {
+        // Arrange
+        cache.put("1", employee(1L));
+        cache.put("2", employee(2L));
+        cache.get("1");
+        cache.get("2");
+        cache.get("2");
+
+        // Act
+        List<HotKey> hotKeys = cacheMetrics.hotKeys(10);
+
+        // Assert
+        assertEquals(2, hotKeys.size());
+        assertEquals("2", hotKeys.get(0).key());
+        assertEquals(2, hotKeys.get(0).hits());
+        assertEquals("id", hotKeys.get(0).keyClass());
+
+        // Act - remove the hottest key
+        cache.evict("2");
+
+        // Assert
+        assertEquals(List.of("1"), cacheMetrics.hotKeys(10).stream().map(HotKey::key).toList());
+    }
+
+    private double count(String keyClass, String result) {
+        return meterRegistry.get("employee.cache.gets")
+                .tag("key.class", keyClass)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private static Employee employee(Long id) {
+        return new Employee(id, "Employee " + id, null, 1000.0, null, null, 0);
+    }
+}
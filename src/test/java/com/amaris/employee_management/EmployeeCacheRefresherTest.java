@@ -0,0 +1,125 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.config.FeignRateLimitInterceptor;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.service.EmployeeCacheRefresher;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.amaris.employee_management.service.EmployeeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeCacheRefresherTest {
+
+    @Mock
+    private EmployeeService employeeService;
+
+    @Mock
+    private FeignRateLimitInterceptor rateLimiter;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private MeterRegistry meterRegistry;
+    private EmployeeCacheRefresher refresher;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("employees", "employeeList");
+        meterRegistry = new SimpleMeterRegistry();
+        refresher = new EmployeeCacheRefresher(employeeService, new EmployeeCacheWriter(cacheManager),
+                rateLimiter, taskScheduler, meterRegistry);
+
+        ReflectionTestUtils.setField(refresher, "enabled", true);
+        ReflectionTestUtils.setField(refresher, "intervalMs", 60000L);
+        ReflectionTestUtils.setField(refresher, "jitterMs", 10000L);
+        ReflectionTestUtils.setField(refresher, "minFreePermits", 2);
+
+        employee = new Employee(1L, "John Doe", null, 5000.0, null, null, 0);
+    }
+
+    @Test
+    @DisplayName("Refresh should replace cached entries in place")
+    void refresh_WhenSuccessful_ShouldReplaceCachedEntries() {
+        // Arrange
+        Cache listCache = cacheManager.getCache("employeeList");
+        listCache.put("all", List.of());
+        when(rateLimiter.availablePermits()).thenReturn(5);
+        when(employeeService.refreshAllEmployees()).thenReturn(List.of(employee));
+
+        // Act
+        String outcome = refresher.refresh();
+
+        // Assert
+        assertEquals("success", outcome);
+        assertEquals(List.of(employee), listCache.get("all").get());
+        assertEquals(employee, cacheManager.getCache("employees").get("1").get());
+        assertEquals(1, meterRegistry.get("employee.cache.refresh").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Refresh should keep cached entries when the API fails")
+    void refresh_WhenApiFails_ShouldKeepCachedEntries() {
+        // Arrange
+        Cache listCache = cacheManager.getCache("employeeList");
+        listCache.put("all", List.of(employee));
+        when(rateLimiter.availablePermits()).thenReturn(5);
+        when(employeeService.refreshAllEmployees()).thenThrow(new RuntimeException("API down"));
+
+        // Act
+        String outcome = refresher.refresh();
+
+        // Assert
+        assertEquals("failure", outcome);
+        assertEquals(List.of(employee), listCache.get("all").get());
+        assertEquals(1, meterRegistry.get("employee.cache.refresh").tag("outcome", "failure").timer().count());
+    }
+
+    @Test
+    @DisplayName("Refresh should be skipped when the rate limiter is busy")
+    void refresh_WhenRateLimiterBusy_ShouldSkip() {
+        // Arrange
+        when(rateLimiter.availablePermits()).thenReturn(1);
+
+        // Act
+        String outcome = refresher.refresh();
+
+        // Assert
+        assertEquals("skipped", outcome);
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    @DisplayName("Start should schedule the first refresh within the jitter window")
+    void start_ShouldScheduleWithJitter() {
+        // Arrange
+        Instant before = Instant.now();
+
+        // Act
+        refresher.start();
+
+        // Assert
+        verify(taskScheduler).schedule(any(Runnable.class), argThat((Instant next) ->
+                !next.isBefore(before.plusMillis(60000)) && next.isBefore(Instant.now().plusMillis(70000))));
+    }
+}
@@ -0,0 +1,214 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.controller.EmployeeController;
+import com.amaris.employee_management.exception.ServiceUnavailableException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.service.EmployeeChangeFeed;
+import com.amaris.employee_management.service.EmployeeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class EmployeeChangeFeedTest {
+
+    private ThreadPoolTaskScheduler scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeMetrics metrics;
+    private EmployeeChangeFeed changeFeed;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new EmployeeMetrics(meterRegistry, List.of(100L));
+        start(new EmployeeChangeFeed(scheduler, metrics));
+    }
+
+    private void start(EmployeeChangeFeed feed) {
+        changeFeed = feed;
+        ReflectionTestUtils.setField(changeFeed, "bufferSize", 3);
+        ReflectionTestUtils.setField(changeFeed, "maxSubscribers", 4);
+        ReflectionTestUtils.setField(changeFeed, "heartbeatMs", 60000L);
+        ReflectionTestUtils.setField(changeFeed, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(changeFeed, "maxPending", 100);
+        ReflectionTestUtils.setField(changeFeed, "senderThreads", 2);
+        ReflectionTestUtils.invokeMethod(changeFeed, "start");
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new EmployeeController(mock(EmployeeService.class), null, changeFeed, null, null, null, null))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(changeFeed, "stop");
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Full syncs should publish created, updated and removed employees after the baseline")
+    void syncedAll_ShouldPublishDifferences() throws Exception {
+        // Arrange
+        changeFeed.syncedAll(List.of(employee(1, 1000.0, 1), employee(2, 2000.0, 1)), List.of());
+        MockHttpServletResponse stream = subscribe(null);
+
+        // Act - employee 1 is synced again unchanged, 2 is removed, 3 is new and 4 only exists locally
+        changeFeed.synced(employee(4, 4000.0, 1));
+        changeFeed.syncedAll(List.of(employee(1, 1000.0, 2), employee(3, 3000.0, 2)), List.of(employee(4, 4000.0, 1)));
+        changeFeed.synced(employee(3, 3500.0, 3));
+
+        // Assert
+        String content = await(stream, c -> c.contains("event:updated\ndata:{\"id\":3"));
+        int created = content.indexOf("event:created\ndata:{\"id\":3");
+        int removed = content.indexOf("event:removed\ndata:{\"id\":2}");
+        int updated = content.indexOf("event:updated\ndata:{\"id\":3");
+        assertTrue(created >= 0 && created < removed && removed < updated, content);
+        assertFalse(content.contains("\"id\":1,"), content);
+        assertFalse(content.contains("event:removed\ndata:{\"id\":4}"), content);
+    }
+
+    @Test
+    @DisplayName("Subscribers should resume after Last-Event-ID, or get a reset once it left the buffer")
+    void subscribe_WithLastEventId_ShouldReplayOrReset() throws Exception {
+        // Arrange - four events with a buffer of three
+        changeFeed.syncedAll(List.of(), List.of());
+        for (int id = 1; id <= 4; id++) {
+            changeFeed.synced(employee(id, 1000.0, 1));
+        }
+        String all = await(subscribe("0"), c -> c.contains("event:reset"));
+        long lastId = Long.parseLong(all.substring(all.indexOf("id:") + 3, all.indexOf('\n')));
+
+        // Act - the buffer holds the events lastId - 2 to lastId
+        String resumed = await(subscribe(String.valueOf(lastId - 2)), c -> c.contains("\"id\":4"));
+        String oldest = await(subscribe(String.valueOf(lastId - 3)), c -> c.contains("\"id\":4"));
+        String reset = await(subscribe(String.valueOf(lastId - 4)), c -> c.contains("event:reset"));
+
+        // Assert - a reset carries the ID of the last event
+        assertFalse(resumed.contains("\"id\":2,"), resumed);
+        assertTrue(resumed.contains("\"id\":3,") && !resumed.contains("event:reset"), resumed);
+        assertTrue(oldest.contains("\"id\":2,") && !oldest.contains("event:reset"), oldest);
+        assertTrue(reset.startsWith("id:" + lastId + "\nevent:reset"), reset);
+    }
+
+    @Test
+    @DisplayName("A subscriber that stops reading should be dropped without delaying the others")
+    void publish_WithStalledSubscriber_ShouldDropItAndKeepSending() throws Exception {
+        // Arrange - the first subscriber's sends block, like writes to a client that stopped reading
+        CountDownLatch release = new CountDownLatch(1);
+        ReflectionTestUtils.invokeMethod(changeFeed, "stop");
+        start(new EmployeeChangeFeed(scheduler, metrics) {
+            private boolean first = true;
+
+            @Override
+            protected SseEmitter createEmitter(long timeoutMs) {
+                if (!first) {
+                    return super.createEmitter(timeoutMs);
+                }
+                first = false;
+                return new SseEmitter(timeoutMs) {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        throw new IOException("Broken pipe");
+                    }
+                };
+            }
+        });
+        ReflectionTestUtils.setField(changeFeed, "maxPending", 2);
+        changeFeed.syncedAll(List.of(), List.of());
+        changeFeed.subscribe(null);
+        awaitSubscribers(1);
+        MockHttpServletResponse healthy = subscribe(null);
+
+        try {
+            // Act - one event is being sent to the stalled subscriber, two wait, the fourth overflows
+            for (int id = 1; id <= 5; id++) {
+                changeFeed.synced(employee(id, 1000.0, 1));
+                String expected = "\"id\":" + id + ",";
+                await(healthy, c -> c.contains(expected));
+            }
+
+            // Assert
+            awaitSubscribers(1);
+            assertEquals(1.0, meterRegistry.get("employee.stream.dropped").counter().count());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("Subscriptions over the limit should be rejected with a 503")
+    void subscribe_OverLimit_ShouldThrowServiceUnavailable() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            changeFeed.subscribe(null);
+        }
+        awaitSubscribers(4);
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> changeFeed.subscribe(null));
+    }
+
+    private MockHttpServletResponse subscribe(String lastEventId) throws Exception {
+        var builder = get("/employees/stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        int subscribers = changeFeed.getSubscribers();
+        MockHttpServletResponse response = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+        awaitSubscribers(subscribers + 1);
+        return response;
+    }
+
+    private void awaitSubscribers(int expected) {
+        long end = System.currentTimeMillis() + 5000;
+        while (changeFeed.getSubscribers() != expected && System.currentTimeMillis() < end) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, changeFeed.getSubscribers());
+    }
+
+    private static String await(MockHttpServletResponse response, Predicate<String> condition) throws Exception {
+        long end = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!condition.test(content) && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+            content = response.getContentAsString();
+        }
+        assertTrue(condition.test(content), content);
+        return content;
+    }
+
+    private static Employee employee(long id, double salary, long updated) {
+        return new Employee(id, "Employee " + id, 30, salary, "", salary * 12, updated);
+    }
+}
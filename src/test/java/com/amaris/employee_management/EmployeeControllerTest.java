@@ -1,22 +1,46 @@
 package com.amaris.employee_management.controller;
 
+import com.amaris.employee_management.exception.BadRequestException;
 import com.amaris.employee_management.exception.FeignErrorDecoder.ResourceNotFoundException;
-import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.mapper.EmployeeJsonWriter;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.amaris.employee_management.model.EmployeeImportReport;
+import com.amaris.employee_management.model.VersionedEmployee;
+import com.amaris.employee_management.service.EmployeeChangeFeed;
+import com.amaris.employee_management.service.EmployeeExportService;
+import com.amaris.employee_management.service.EmployeeImportService;
 import com.amaris.employee_management.service.EmployeeService;
+import com.amaris.employee_management.service.EmployeeWriteService;
+import com.amaris.employee_management.service.PayrollProjectionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.http.ResponseEntity;
 
-import java.time.LocalDateTime;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,31 +51,36 @@ class EmployeeControllerTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private EmployeeChangeFeed changeFeed;
+
+    @Mock
+    private EmployeeExportService exportService;
+
+    @Mock
+    private EmployeeImportService importService;
+
+    @Mock
+    private EmployeeWriteService writeService;
+
+    @Mock
+    private PayrollProjectionService payrollService;
+
+    @Spy
+    private EmployeeJsonWriter jsonWriter = new EmployeeJsonWriter(new ObjectMapper().registerModule(new JavaTimeModule()));
+
     @InjectMocks
     private EmployeeController employeeController;
 
-    private EmployeeEntity employee1;
-    private EmployeeEntity employee2;
-    private List<EmployeeEntity> employeeList;
+    private Employee employee1;
+    private Employee employee2;
+    private List<Employee> employeeList;
 
     @BeforeEach
     void setUp() {
         // Set up test data
-        employee1 = new EmployeeEntity();
-        employee1.setId(1L);
-        employee1.setName("John Doe");
-        employee1.setAge(30);
-        employee1.setSalary(5000.0);
-        employee1.setAnnualSalary(60000.0);
-        employee1.setLastUpdated(LocalDateTime.now());
-
-        employee2 = new EmployeeEntity();
-        employee2.setId(2L);
-        employee2.setName("Jane Smith");
-        employee2.setAge(35);
-        employee2.setSalary(6000.0);
-        employee2.setAnnualSalary(72000.0);
-        employee2.setLastUpdated(LocalDateTime.now());
+        employee1 = new Employee(1L, "John Doe", 30, 5000.0, null, 60000.0, System.currentTimeMillis());
+        employee2 = new Employee(2L, "Jane Smith", 35, 6000.0, null, 72000.0, System.currentTimeMillis());
 
         employeeList = Arrays.asList(employee1, employee2);
     }
@@ -63,7 +92,7 @@ class EmployeeControllerTest {
         when(employeeService.findAllEmployees()).thenReturn(employeeList);
 
         // Act
-        ResponseEntity<List<EmployeeEntity>> response = employeeController.getAllEmployees();
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -79,7 +108,7 @@ class EmployeeControllerTest {
         when(employeeService.findAllEmployees()).thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<EmployeeEntity>> response = employeeController.getAllEmployees();
+        ResponseEntity<List<Employee>> response = employeeController.getAllEmployees();
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -96,7 +125,7 @@ class EmployeeControllerTest {
         when(employeeService.findEmployeeById(employeeId)).thenReturn(employee1);
 
         // Act
-        ResponseEntity<EmployeeEntity> response = employeeController.getEmployeeById(employeeId);
+        ResponseEntity<Employee> response = employeeController.getEmployeeById(employeeId);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -112,7 +141,7 @@ class EmployeeControllerTest {
         when(employeeService.findEmployeeById(employeeId)).thenReturn(null);
 
         // Act
-        ResponseEntity<EmployeeEntity> response = employeeController.getEmployeeById(employeeId);
+        ResponseEntity<Employee> response = employeeController.getEmployeeById(employeeId);
 
         // Assert
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -120,6 +149,153 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).findEmployeeById(employeeId);
     }
 
+    @Test
+    @DisplayName("Should return only the requested fields of all employees")
+    void getAllEmployees_WithFields_ShouldReturnRequestedFields() {
+        // Arrange
+        EmployeeFields fields = EmployeeFields.parse("name,id");
+        when(employeeService.findAllEmployees(fields)).thenReturn(employeeList);
+
+        // Act
+        ResponseEntity<byte[]> response = employeeController.getAllEmployees("name,id");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("[{\"id\":1,\"name\":\"John Doe\"},{\"id\":2,\"name\":\"Jane Smith\"}]",
+                new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should return only the requested fields of an employee, leaving out null values")
+    void getEmployeeById_WithFields_ShouldReturnRequestedFields() {
+        // Arrange
+        EmployeeFields fields = EmployeeFields.parse("salary,profileImage");
+        when(employeeService.findEmployeeById("1", fields)).thenReturn(employee1);
+
+        // Act
+        ResponseEntity<byte[]> response = employeeController.getEmployeeById("1", "salary,profileImage");
+
+        // Assert
+        assertEquals("{\"salary\":5000.0}", new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields without calling the service")
+    void getAllEmployees_WithUnknownField_ShouldThrowBadRequest() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> employeeController.getAllEmployees("id,password"));
+        verifyNoInteractions(employeeService);
+    }
+
+    @Test
+    @DisplayName("Should gzip the export when the client accepts it")
+    void exportEmployees_WhenGzipAccepted_ShouldCompress() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(exportService.writeCsv(eq(EmployeeFields.parse("id")), any())).thenAnswer(invocation -> {
+            try (OutputStream output = invocation.<EmployeeExportService.ExportOutput>getArgument(1).open()) {
+                output.write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            }
+            return 1L;
+        });
+
+        // Act
+        employeeController.exportEmployees("id", "deflate, gzip;q=0.8", response);
+
+        // Assert
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("text/csv;charset=UTF-8", response.getContentType());
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals("id\r\n1\r\n", new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @DisplayName("A failed export should be reset before the response is committed")
+    void exportEmployees_WhenExportFailsBeforeCommit_ShouldResetResponse() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(exportService.writeCsv(eq(EmployeeFields.ALL), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.<EmployeeExportService.ExportOutput>getArgument(1).open();
+            output.write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            throw new IllegalStateException("Connection lost");
+        });
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> employeeController.exportEmployees(null, "gzip", response));
+        assertNull(response.getHeader("Content-Encoding"));
+        assertNull(response.getHeader("Content-Disposition"));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    @DisplayName("A failed export should leave a committed response unfinished")
+    void exportEmployees_WhenExportFailsAfterCommit_ShouldNotFinishResponse() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(exportService.writeCsv(eq(EmployeeFields.ALL), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.<EmployeeExportService.ExportOutput>getArgument(1).open();
+            output.write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            response.flushBuffer();
+            throw new IllegalStateException("Connection lost");
+        });
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> employeeController.exportEmployees(null, "gzip", response));
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            // The gzip trailer was never written
+            assertThrows(EOFException.class, input::readAllBytes);
+        }
+    }
+
+    @Test
+    @DisplayName("Should import a gzip compressed NDJSON body")
+    void importEmployees_WithGzipNdjson_ShouldDecompress() throws Exception {
+        // Arrange
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (OutputStream output = new GZIPOutputStream(body)) {
+            output.write("{\"id\":1,\"name\":\"John Doe\"}\n".getBytes(StandardCharsets.UTF_8));
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/employees/import");
+        request.setContent(body.toByteArray());
+        EmployeeImportReport report = new EmployeeImportReport(1, 0, List.of(), 5);
+        when(importService.importEmployees(eq(EmployeeImportService.Format.NDJSON), any())).thenAnswer(invocation -> {
+            assertEquals("{\"id\":1,\"name\":\"John Doe\"}\n",
+                    new String(invocation.<InputStream>getArgument(1).readAllBytes(), StandardCharsets.UTF_8));
+            return report;
+        });
+
+        // Act
+        ResponseEntity<EmployeeImportReport> response =
+                employeeController.importEmployees("application/x-ndjson", "gzip", request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(report, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should pass If-Match to the update and return the new version as ETag")
+    void updateEmployee_ShouldReturnEtagOfNewVersion() {
+        // Arrange
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode body = objectMapper.createObjectNode().put("name", "John Doe").put("salary", 5000);
+        when(writeService.update("1", body, "\"3\"")).thenReturn(new VersionedEmployee(employee1, 4));
+
+        // Act
+        ResponseEntity<Employee> response = employeeController.updateEmployee("1", "\"3\"", body);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+        assertEquals(employee1, response.getBody());
+    }
+
     @Test
     @DisplayName("Should return annual salary for employee")
     void calculateAnnualSalary_ShouldReturnAnnualSalary() {
@@ -162,7 +338,8 @@ class EmployeeControllerTest {
         EmployeeService mockedService = mock(EmployeeService.class);
 
         // Act
-        EmployeeController controller = new EmployeeController(mockedService);
+        EmployeeController controller = new EmployeeController(mockedService, jsonWriter, changeFeed, exportService,
+                importService, writeService, payrollService);
 
         // Assert - verify that controller is created without exceptions
         assertNotNull(controller);
@@ -0,0 +1,117 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.exception.ServiceUnavailableException;
+import com.amaris.employee_management.mapper.EmployeeCsvWriter;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.amaris.employee_management.repository.EmployeeRepository;
+import com.amaris.employee_management.service.EmployeeExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EmployeeExportServiceTest {
+
+    private EmployeeRepository employeeRepository;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository = mock(EmployeeRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new EmployeeMetrics(meterRegistry, List.of(100L));
+    }
+
+    @Test
+    @DisplayName("writeCsv should write a header and one escaped row per employee, then close the cursor")
+    void writeCsv_ShouldWriteRowsAndCloseStream() throws Exception {
+        // Arrange
+        EmployeeExportService exportService = exportService(2);
+        long updated = LocalDateTime.of(2025, 3, 31, 10, 15).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(employeeRepository.streamAllProjected(EmployeeFields.ALL, 500)).thenReturn(Stream.of(
+                new Employee(1L, "Doe, \"John\"", 30, 5000.0, null, 60000.0, updated),
+                new Employee(2L, "Jane Smith", null, null, "", null, 0)).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long rows = exportService.writeCsv(EmployeeFields.ALL, () -> output);
+
+        // Assert
+        assertEquals(2, rows);
+        assertEquals("id,name,age,salary,profileImage,annualSalary,lastUpdated\r\n"
+                        + "1,\"Doe, \"\"John\"\"\",30,5000.0,,60000.0,2025-03-31T10:15:00\r\n"
+                        + "2,Jane Smith,,,,,\r\n",
+                output.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("writeCsv should leave the output open when the cursor fails after some rows")
+    void writeCsv_WhenCursorFails_ShouldNotCloseOutput() {
+        // Arrange
+        EmployeeExportService exportService = exportService(2);
+        when(employeeRepository.streamAllProjected(EmployeeFields.ALL, 500)).thenReturn(
+                Stream.iterate(1L, id -> id + 1).map(id -> {
+                    if (id > 3) {
+                        throw new DataAccessResourceFailureException("Connection lost");
+                    }
+                    return new Employee(id, "Employee " + id, 30, 5000.0, null, 60000.0, 0);
+                }));
+        AtomicBoolean outputClosed = new AtomicBoolean();
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                outputClosed.set(true);
+            }
+        };
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> exportService.writeCsv(EmployeeFields.ALL, () -> output));
+        assertFalse(outputClosed.get());
+        verify(transactionManager).rollback(any());
+        assertEquals(1, meterRegistry.get("employee.export").tag("outcome", "error").timer().count());
+        assertEquals(3.0, meterRegistry.get("employee.export.rows").counter().count());
+    }
+
+    @Test
+    @DisplayName("writeCsv should reject exports over the limit without opening the output")
+    void writeCsv_WhenTooManyExports_ShouldThrowServiceUnavailable() {
+        // Arrange
+        EmployeeExportService exportService = exportService(0);
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> exportService.writeCsv(EmployeeFields.ALL, () -> {
+            throw new AssertionError("Output opened");
+        }));
+        verify(employeeRepository, never()).streamAllProjected(any(), eq(500));
+    }
+
+    private EmployeeExportService exportService(int maxConcurrent) {
+        EmployeeExportService exportService = new EmployeeExportService(
+                employeeRepository, new EmployeeCsvWriter(), metrics, transactionManager, maxConcurrent);
+        ReflectionTestUtils.setField(exportService, "fetchSize", 500);
+        return exportService;
+    }
+}
@@ -0,0 +1,145 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.service.EmployeeIdFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeIdFilterTest {
+
+    private MeterRegistry meterRegistry;
+    private EmployeeIdFilter idFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        idFilter = new EmployeeIdFilter(new ConcurrentMapCacheManager("employees", EmployeeIdFilter.MISSING_CACHE_NAME),
+                new EmployeeMetrics(meterRegistry, List.of(100L)));
+        ReflectionTestUtils.setField(idFilter, "enabled", true);
+        ReflectionTestUtils.setField(idFilter, "headroom", 10L);
+        ReflectionTestUtils.setField(idFilter, "falsePositiveRate", 0.01);
+    }
+
+    @Test
+    @DisplayName("Invalid IDs should always be missing")
+    void invalidIds_ShouldBeMissing() {
+        // Act & Assert
+        assertTrue(idFilter.isKnownMissing("abc"));
+        assertTrue(idFilter.isKnownMissing("0"));
+        assertTrue(idFilter.isKnownMissing("-1"));
+        assertFalse(idFilter.isKnownMissing("1"));
+        assertEquals(3, rejections("invalid"));
+    }
+
+    @Test
+    @DisplayName("Before the first sync only the negative cache should be used")
+    void beforeSync_ShouldOnlyUseNegativeCache() {
+        // Act
+        idFilter.markMissing("5");
+
+        // Assert
+        assertTrue(idFilter.isKnownMissing("5"));
+        assertFalse(idFilter.isKnownMissing("123456"));
+        assertEquals(1, rejections("negative_cache"));
+    }
+
+    @Test
+    @DisplayName("After a sync, IDs not in it should be missing unless just above the highest ID")
+    void afterSync_ShouldRejectUnknownIds() {
+        // Arrange - even IDs from 2 to 2000
+        idFilter.rebuild(LongStream.rangeClosed(1, 1000).map(i -> i * 2).boxed().collect(Collectors.toList()));
+
+        // Act & Assert
+        for (long id = 2; id <= 2000; id += 2) {
+            assertFalse(idFilter.isKnownMissing(String.valueOf(id)), "Known ID " + id);
+        }
+        long falsePositives = LongStream.rangeClosed(0, 999)
+                .map(i -> i * 2 + 1)
+                .filter(id -> !idFilter.isKnownMissing(String.valueOf(id)))
+                .count();
+        assertTrue(falsePositives < 50, "False positives: " + falsePositives);
+
+        assertFalse(idFilter.isKnownMissing("2010"));
+        assertTrue(idFilter.isKnownMissing("2011"));
+        assertTrue(idFilter.isKnownMissing("999999"));
+    }
+
+    @Test
+    @DisplayName("Employees found after the sync should be accepted and cleared from the negative cache")
+    void add_ShouldAcceptNewIds() {
+        // Arrange
+        idFilter.rebuild(List.of(1L, 2L, 3L));
+        idFilter.markMissing("50");
+
+        // Act
+        idFilter.add(50L);
+
+        // Assert
+        assertFalse(idFilter.isKnownMissing("50"));
+        assertFalse(idFilter.isKnownMissing("60"));
+    }
+
+    @Test
+    @DisplayName("IDs added since the last rebuild should be kept by the next one")
+    void rebuild_ShouldKeepIdsAddedSinceLastRebuild() {
+        // Arrange
+        idFilter.rebuild(List.of(1L, 2L, 3L));
+        idFilter.add(500L);
+
+        // Act - the IDs of this sync were read before 500 was added
+        idFilter.rebuild(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertFalse(idFilter.isKnownMissing("500"));
+        assertTrue(idFilter.isKnownMissing("400"));
+    }
+
+    @Test
+    @DisplayName("A suspended filter should let every ID through until resumed")
+    void suspend_ShouldOnlyUseNegativeCache() {
+        // Arrange
+        idFilter.rebuild(List.of(1L, 2L, 3L));
+        idFilter.markMissing("7");
+
+        // Act
+        idFilter.suspend();
+
+        // Assert
+        assertFalse(idFilter.isKnownMissing("5000"));
+        assertTrue(idFilter.isKnownMissing("7"));
+
+        // Act
+        idFilter.resume();
+
+        // Assert
+        assertTrue(idFilter.isKnownMissing("5000"));
+    }
+
+    @Test
+    @DisplayName("An empty sync should keep the previous filter")
+    void emptySync_ShouldKeepPreviousFilter() {
+        // Arrange
+        idFilter.rebuild(List.of(1L, 3L));
+
+        // Act
+        idFilter.rebuild(List.of());
+
+        // Assert
+        assertTrue(idFilter.isKnownMissing("2"));
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("employee.missing.rejections").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,153 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.exception.BadRequestException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.EmployeeImportReport;
+import com.amaris.employee_management.model.EmployeeImportReport.Rejection;
+import com.amaris.employee_management.repository.EmployeeJdbcWriter;
+import com.amaris.employee_management.service.EmployeeIdFilter;
+import com.amaris.employee_management.service.EmployeeImportService;
+import com.amaris.employee_management.service.EmployeeImportService.Format;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EmployeeImportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private EmployeeIdFilter idFilter;
+    private EmployeeImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:import;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+        // Ages of 99 are refused by the database, to make a batch fail
+        jdbcTemplate.execute("ALTER TABLE employees ADD CONSTRAINT no_age_99 CHECK (age <> 99)");
+        idFilter = mock(EmployeeIdFilter.class);
+        importService = new EmployeeImportService(new EmployeeJdbcWriter(jdbcTemplate), new ObjectMapper(), idFilter,
+                new EmployeeMetrics(new SimpleMeterRegistry(), List.of(100L)),
+                new DataSourceTransactionManager(dataSource), 1);
+        ReflectionTestUtils.setField(importService, "batchSize", 2);
+        ReflectionTestUtils.setField(importService, "queueCapacity", 1);
+        ReflectionTestUtils.setField(importService, "progressInterval", 1000L);
+        ReflectionTestUtils.setField(importService, "maxReportedRejections", 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("CSV imports should replace existing rows, keep the last duplicate and report invalid rows by line")
+    void importEmployees_WithCsv_ShouldWriteValidRowsAndReportRejected() throws Exception {
+        // Arrange - columns in any order, a quoted name spanning two lines
+        jdbcTemplate.update("INSERT INTO employees (id, name, age) VALUES (1, 'Old Name', 20)");
+        String csv = "name,id,salary,age,lastUpdated\r\n"
+                + "\"Doe,\n John\",1,5000,30,2025-03-31T10:15:00\r\n"
+                + "Jane Smith,2,,,\r\n"
+                + "No Age,3,1000,abc,\r\n"
+                + ",4,1000,30,\r\n"
+                + "Too Few,5\r\n"
+                + "Jane Replaced,2,7000,40,\r\n";
+
+        // Act
+        EmployeeImportReport report = importService.importEmployees(Format.CSV, input(csv));
+
+        // Assert
+        assertEquals(3, report.imported());
+        assertEquals(3, report.rejected());
+        assertEquals(List.of(
+                new Rejection(5, "Invalid age: abc"),
+                new Rejection(6, "Missing name"),
+                new Rejection(7, "Expected 5 values, found 2")), report.rejections());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class));
+        Map<String, Object> john = jdbcTemplate.queryForMap("SELECT * FROM employees WHERE id = 1");
+        assertEquals("Doe,\n John", john.get("NAME"));
+        assertEquals(60000.0, john.get("ANNUAL_SALARY"));
+        assertEquals("2025-03-31 10:15:00.0", john.get("LAST_UPDATED").toString());
+        Map<String, Object> jane = jdbcTemplate.queryForMap("SELECT * FROM employees WHERE id = 2");
+        assertEquals("Jane Replaced", jane.get("NAME"));
+        assertEquals(40, jane.get("AGE"));
+        assertEquals(false, john.get("LOCAL_ONLY"));
+        assertEquals(true, jane.get("LOCAL_ONLY"));
+        InOrder filter = inOrder(idFilter);
+        filter.verify(idFilter).suspend();
+        filter.verify(idFilter).rebuild(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L))));
+        filter.verify(idFilter).resume();
+        verify(idFilter, never()).add(anyLong());
+    }
+
+    @Test
+    @DisplayName("NDJSON imports should skip malformed lines and failed batches, and keep importing")
+    void importEmployees_WithNdjson_ShouldContinueAfterFailures() throws Exception {
+        // Arrange - the second batch holds an age the database refuses
+        String ndjson = "{\"id\":1,\"name\":\"John Doe\",\"age\":30}\n"
+                + "{\"id\":2,\"name\":\"Jane Smith\"}\n"
+                + "\n"
+                + "{\"id\":3,\"name\":\"Refused\",\"age\":99}\n"
+                + "{\"id\":4,\"name\":\"Same Batch\"}\n"
+                + "{\"id\":5,\"name\":\n"
+                + "[1]\n"
+                + "{\"id\":6,\"name\":\"Last\",\"salary\":1000.5}\n";
+
+        // Act
+        EmployeeImportReport report = importService.importEmployees(Format.NDJSON, input(ndjson));
+
+        // Assert
+        assertEquals(3, report.imported());
+        assertEquals(4, report.rejected());
+        // The writer reports failed batches while the parser goes on, so only the lines are ordered
+        List<Rejection> rejections = report.rejections().stream()
+                .sorted(Comparator.comparingLong(Rejection::line))
+                .toList();
+        assertEquals(3, rejections.size());
+        assertTrue(rejections.get(0).line() == 4
+                && rejections.get(0).reason().startsWith("Batch of lines 4 to 5 failed"), report.toString());
+        assertTrue(rejections.get(1).line() == 6
+                && rejections.get(1).reason().startsWith("Malformed JSON"), report.toString());
+        assertEquals(new Rejection(7, "Expected a JSON object"), rejections.get(2));
+        assertEquals(List.of(1L, 2L, 6L), jdbcTemplate.queryForList("SELECT id FROM employees ORDER BY id", Long.class));
+        verify(idFilter).forgetMissing(6L);
+        verify(idFilter, never()).forgetMissing(3L);
+    }
+
+    @Test
+    @DisplayName("CSV headers with unknown columns should be rejected as a whole and release the import slot")
+    void importEmployees_WithUnknownColumn_ShouldThrowBadRequest() throws Exception {
+        // Act & Assert
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> importService.importEmployees(Format.CSV, input("id,name,password\r\n1,John,secret\r\n")));
+        assertTrue(exception.getMessage().contains("password"));
+        assertEquals(1, importService.importEmployees(Format.CSV, input("id,name\r\n1,John\r\n")).imported());
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,10 +2,14 @@ package com.amaris.employee_management;
 
 import com.amaris.employee_management.client.dto.EmployeeDTO;
 import com.amaris.employee_management.mapper.EmployeeMapper;
+import com.amaris.employee_management.config.EmployeeCacheWeigher;
+import com.amaris.employee_management.model.Employee;
 import com.amaris.employee_management.model.EmployeeEntity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class EmployeeMapperTest {
@@ -24,26 +28,78 @@ class EmployeeMapperTest {
         dto.setProfileImage("image.jpg");
 
         // Act
-        EmployeeEntity entity = mapper.toEmployee(dto);
+        Employee employee = mapper.toEmployee(dto);
+
+        // Assert
+        assertNotNull(employee);
+        assertEquals(1L, employee.id());
+        assertEquals("John Doe", employee.name());
+        assertEquals(30, employee.age());
+        assertEquals(5000.0, employee.salary());
+        assertEquals("image.jpg", employee.profileImage());
+        assertNull(employee.annualSalary()); // Should not be mapped automatically
+        assertNull(employee.lastUpdated()); // Should not be mapped automatically
+    }
+
+    @Test
+    @DisplayName("Should keep missing DTO numbers null and share equal strings")
+    void toEmployee_WithMissingValues_ShouldKeepNullAndDeduplicateStrings() {
+        // Arrange
+        EmployeeDTO dto = new EmployeeDTO(1L, "John Doe", null, null, new String("image.jpg"));
+        EmployeeDTO other = new EmployeeDTO(2L, "Jane Smith", 35, 6000.0, new String("image.jpg"));
+
+        // Act
+        Employee employee = mapper.toEmployee(dto);
+        Employee otherEmployee = mapper.toEmployee(other);
+
+        // Assert
+        assertNull(employee.age());
+        assertNull(employee.salary());
+        assertSame(employee.profileImage(), otherEmployee.profileImage());
+    }
+
+    @Test
+    @DisplayName("Should map between employee and entity without losing values")
+    void entity_ShouldRoundTripEmployee() {
+        // Arrange
+        LocalDateTime lastUpdated = LocalDateTime.of(2025, 3, 31, 10, 15, 30);
+        EmployeeEntity entity = EmployeeEntity.builder()
+                .id(1L).name("John Doe").age(30).salary(5000.0).profileImage("")
+                .annualSalary(60000.0).lastUpdated(lastUpdated).build();
+
+        // Act
+        Employee employee = entity.toEmployee();
+        EmployeeEntity saved = EmployeeEntity.fromEmployee(employee);
+
+        // Assert
+        assertEquals(lastUpdated, employee.lastUpdated());
+        assertEquals(entity, saved);
+        assertNotSame(entity, saved);
+    }
+
+    @Test
+    @DisplayName("Cached employee values should be smaller than entities")
+    void employee_ShouldWeighLessThanEntity() {
+        // Arrange
+        EmployeeEntity entity = EmployeeEntity.builder()
+                .id(1L).name("John Doe").age(30).salary(5000.0).profileImage("")
+                .annualSalary(60000.0).lastUpdated(LocalDateTime.now()).build();
+
+        // Act
+        long entitySize = EmployeeCacheWeigher.estimate(entity);
+        long employeeSize = EmployeeCacheWeigher.estimate(entity.toEmployee());
 
         // Assert
-        assertNotNull(entity);
-        assertEquals(1L, entity.getId());
-        assertEquals("John Doe", entity.getName());
-        assertEquals(30, entity.getAge());
-        assertEquals(5000.0, entity.getSalary());
-        assertEquals("image.jpg", entity.getProfileImage());
-        assertNull(entity.getAnnualSalary()); // Should not be mapped automatically
-        assertNull(entity.getLastUpdated()); // Should not be mapped automatically
+        assertTrue(employeeSize < entitySize);
     }
 
     @Test
     @DisplayName("Should handle null DTO")
     void toEmployee_WithNullDto_ShouldReturnNull() {
         // Act
-        EmployeeEntity entity = mapper.toEmployee(null);
+        Employee employee = mapper.toEmployee(null);
 
         // Assert
-        assertNull(entity);
+        assertNull(employee);
     }
 }
\ No newline at end of file
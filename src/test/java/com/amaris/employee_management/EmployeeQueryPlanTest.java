@@ -0,0 +1,137 @@
+package com.amaris.employee_management.repository;
+
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.EmployeeFields;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the hot queries of the local database use an index, on the schema
+ * built by the migrations. The SQL of the repository methods is the one Hibernate
+ * actually sends, captured by {@link StatementCapture}, and its plan is read with
+ * EXPLAIN on H2 in PostgreSQL mode.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plans;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.amaris.employee_management.repository.EmployeeQueryPlanTest$StatementCapture"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(EmployeeJdbcWriter.class)
+class EmployeeQueryPlanTest {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    private static final long START = LocalDateTime.of(2025, 1, 1, 0, 0)
+            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeJdbcWriter jdbcWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        // Enough distinct rows for a scan to cost more than an index lookup
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            employees.add(new Employee(i, "Employee " + i, 20 + i % 45, 1000.0 + i, null, 12 * (1000.0 + i),
+                    START + i * 60_000L));
+        }
+        jdbcWriter.upsertAll(employees);
+        jdbcTemplate.execute("ANALYZE");
+        STATEMENTS.clear();
+    }
+
+    @Test
+    @DisplayName("Finding employees updated after a time should use the last_updated index")
+    void findByLastUpdatedAfter_ShouldUseIndex() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(START + 4990 * 60_000L),
+                ZoneId.systemDefault());
+
+        // Act
+        int found = employeeRepository.findByLastUpdatedAfter(since).size();
+        String plan = explain(lastSelect(), Timestamp.valueOf(since));
+
+        // Assert
+        assertEquals(10, found);
+        assertUsesIndex(plan, "idx_employees_last_updated");
+    }
+
+    @Test
+    @DisplayName("Searching names by prefix should use the lower-case name index")
+    void findByNameStartingWithIgnoreCase_ShouldUseIndex() {
+        // Act
+        int found = employeeRepository.findByNameStartingWithIgnoreCase("EMPLOYEE 499").size();
+        String plan = explain(lastSelect(), "employee 499%");
+
+        // Assert
+        assertEquals(11, found);
+        assertUsesIndex(plan, "idx_employees_name_lower");
+    }
+
+    @Test
+    @DisplayName("Reading an employee and the hashes of a sync should go through the primary key")
+    void lookupsById_ShouldUsePrimaryKey() {
+        // Act
+        assertTrue(employeeRepository.findProjectedById(42L, EmployeeFields.parse("id,name")).isPresent());
+        String byId = explain(lastSelect(), 42L);
+        String hashes = explain(EmployeeJdbcWriter.findContentHashesSql(3), 1L, 2L, 3L);
+
+        // Assert
+        assertUsesIndex(byId, "primary_key");
+        assertUsesIndex(hashes, "primary_key");
+    }
+
+    private String lastSelect() {
+        for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+            if (STATEMENTS.get(i).trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                return STATEMENTS.get(i);
+            }
+        }
+        throw new AssertionError("No query captured: " + STATEMENTS);
+    }
+
+    private String explain(String sql, Object... args) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, args);
+    }
+
+    private static void assertUsesIndex(String plan, String index) {
+        String normalized = plan.toLowerCase(Locale.ROOT);
+        assertTrue(normalized.contains(index), () -> "Expected " + index + " in plan:\n" + plan);
+        assertFalse(normalized.contains("tablescan"), () -> "Full scan in plan:\n" + plan);
+    }
+
+    /** Records every SQL statement Hibernate prepares */
+    public static class StatementCapture implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
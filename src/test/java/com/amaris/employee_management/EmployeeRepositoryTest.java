@@ -1,21 +1,27 @@
 package com.amaris.employee_management.repository;
 
+import com.amaris.employee_management.model.Employee;
 import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.model.EmployeeFields;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(EmployeeJdbcWriter.class)
 class EmployeeRepositoryTest {
 
     @Autowired
@@ -24,6 +30,9 @@ class EmployeeRepositoryTest {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private EmployeeJdbcWriter jdbcWriter;
+
     @Test
     @DisplayName("Should find employee by ID")
     void findById_ShouldReturnEmployee() {
@@ -84,6 +93,58 @@ class EmployeeRepositoryTest {
         assertEquals(2, employees.size());
     }
 
+    @Test
+    @DisplayName("Should read only the requested columns")
+    void findProjected_ShouldReturnRequestedColumns() {
+        // Arrange
+        EmployeeEntity employee = new EmployeeEntity();
+        employee.setName("John Doe");
+        employee.setAge(30);
+        employee.setSalary(5000.0);
+        employee.setLastUpdated(LocalDateTime.now());
+        entityManager.persistAndFlush(employee);
+        EmployeeFields fields = EmployeeFields.parse("id,name,lastUpdated");
+
+        // Act
+        List<Employee> all = employeeRepository.findAllProjected(fields);
+        Optional<Employee> found = employeeRepository.findProjectedById(employee.getId(), fields);
+
+        // Assert
+        assertEquals(1, all.size());
+        assertEquals(all.get(0), found.orElseThrow());
+        assertEquals(employee.getId(), found.get().id());
+        assertEquals("John Doe", found.get().name());
+        assertNotEquals(0, found.get().lastUpdatedMillis());
+        assertNull(found.get().age());
+        assertNull(found.get().salary());
+        assertTrue(employeeRepository.findProjectedById(999L, fields).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stream the requested columns of every employee ordered by ID")
+    void streamAllProjected_ShouldReturnEmployeesInIdOrder() {
+        // Arrange
+        for (String name : List.of("Third", "First", "Second")) {
+            EmployeeEntity employee = new EmployeeEntity();
+            employee.setName(name);
+            employee.setSalary(1000.0);
+            entityManager.persist(employee);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<Employee> employees;
+        try (Stream<Employee> stream = employeeRepository.streamAllProjected(EmployeeFields.parse("id,name"), 2)) {
+            employees = stream.toList();
+        }
+
+        // Assert
+        assertEquals(List.of("Third", "First", "Second"), employees.stream().map(Employee::name).toList());
+        assertTrue(employees.get(0).id() < employees.get(1).id() && employees.get(1).id() < employees.get(2).id());
+        assertNull(employees.get(0).salary());
+    }
+
     @Test
     @DisplayName("Should find employees updated after timestamp")
     void findByLastUpdatedAfter_ShouldReturnUpdatedEmployees() {
@@ -263,4 +324,41 @@ class EmployeeRepositoryTest {
         // Assert
         assertTrue(nonExistentEmployees.isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should upsert employees with their own IDs, only bumping the version of changed rows")
+    void upsertAll_ShouldKeepIdsAndVersionUnchangedRows() {
+        // Arrange
+        Employee john = new Employee(100L, "John Doe", 30, 5000.0, null, 60000.0, System.currentTimeMillis());
+        Employee jane = new Employee(200L, "Jane Smith", 35, 6000.0, null, 72000.0, System.currentTimeMillis());
+        assertEquals(2, jdbcWriter.upsertAll(List.of(john, jane)));
+
+        // Act
+        int written = jdbcWriter.upsertAll(List.of(john, new Employee(200L, "Jane Smith", 36, 6000.0, null, 72000.0,
+                System.currentTimeMillis())));
+
+        // Assert
+        assertEquals(1, written);
+        assertEquals(Optional.of(0L), jdbcWriter.findVersion(100L));
+        assertEquals(Optional.of(1L), jdbcWriter.findVersion(200L));
+        assertEquals(36, employeeRepository.findById(200L).orElseThrow().getAge());
+        assertThrows(DuplicateKeyException.class, () -> jdbcWriter.insert(john));
+    }
+
+    @Test
+    @DisplayName("Should only update or delete an employee at the expected version")
+    void updateAndDelete_WithExpectedVersion_ShouldCheckVersion() {
+        // Arrange
+        Employee john = new Employee(100L, "John Doe", 30, 5000.0, null, 60000.0, System.currentTimeMillis());
+        jdbcWriter.insert(john);
+        Employee renamed = new Employee(100L, "John Smith", 30, 5000.0, null, 60000.0, System.currentTimeMillis());
+
+        // Act & Assert
+        assertTrue(jdbcWriter.update(renamed, 0L));
+        assertFalse(jdbcWriter.update(renamed, 0L));
+        assertFalse(jdbcWriter.delete(100L, 0L));
+        assertTrue(jdbcWriter.delete(100L, 1L));
+        assertTrue(jdbcWriter.findVersion(100L).isEmpty());
+        assertFalse(jdbcWriter.update(renamed, null));
+    }
+}
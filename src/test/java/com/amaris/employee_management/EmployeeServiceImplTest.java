@@ -4,27 +4,49 @@ import com.amaris.employee_management.client.EmployeeFeignClient;
 import com.amaris.employee_management.client.dto.EmployeeDTO;
 import com.amaris.employee_management.client.dto.ResponseDTO;
 import com.amaris.employee_management.config.FeignRateLimitInterceptor;
+import com.amaris.employee_management.exception.EmployeeNotFoundException;
 import com.amaris.employee_management.exception.FeignErrorDecoder.RateLimitExceededException;
 import com.amaris.employee_management.exception.FeignErrorDecoder.ResourceNotFoundException;
+import com.amaris.employee_management.exception.ServiceUnavailableException;
 import com.amaris.employee_management.mapper.EmployeeMapper;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
 import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.model.EmployeeFields;
+import com.amaris.employee_management.repository.EmployeeJdbcWriter;
 import com.amaris.employee_management.repository.EmployeeRepository;
+import com.amaris.employee_management.service.EmployeeBatchLoader;
+import com.amaris.employee_management.service.EmployeeBulkheads;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.amaris.employee_management.service.EmployeeChangeFeed;
+import com.amaris.employee_management.service.EmployeeIdFilter;
 import com.amaris.employee_management.service.EmployeeServiceImpl;
+import com.amaris.employee_management.service.EmployeeSourceRacer;
 import feign.FeignException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -45,11 +67,39 @@ class EmployeeServiceImplTest {
     @Mock
     private FeignRateLimitInterceptor rateLimiter;
 
+    @Mock
+    private EmployeeMetrics metrics;
+
+    @Mock
+    private EmployeeIdFilter idFilter;
+
+    @Mock
+    private EmployeeSourceRacer racer;
+
+    @Mock
+    private EmployeeCacheWriter cacheWriter;
+
+    @Mock
+    private EmployeeChangeFeed changeFeed;
+
+    @Mock
+    private EmployeeJdbcWriter jdbcWriter;
+
+    @Mock
+    private EmployeeBatchLoader batchLoader;
+
+    /** One call per bulkhead and no waiting, so a test can fill a bulkhead by entering it */
+    @Spy
+    private EmployeeBulkheads bulkheads = new EmployeeBulkheads(
+            new EmployeeMetrics(new SimpleMeterRegistry(), List.of(100L)), 1, 0, 0, 1, 0, 0, 1, 0, 0);
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
     private EmployeeDTO employeeDTO1;
     private EmployeeDTO employeeDTO2;
+    private Employee employee1;
+    private Employee employee2;
     private EmployeeEntity employeeEntity1;
     private EmployeeEntity employeeEntity2;
     private ResponseDTO<List<EmployeeDTO>> listResponseDTO;
@@ -70,6 +120,10 @@ class EmployeeServiceImplTest {
         employeeDTO2.setAge(35);
         employeeDTO2.setSalary(6000.0);
 
+        // Set up mapped employees
+        employee1 = new Employee(1L, "John Doe", 30, 5000.0, null, null, 0);
+        employee2 = new Employee(2L, "Jane Smith", 35, 6000.0, null, null, 0);
+
         // Set up test Entities
         employeeEntity1 = new EmployeeEntity();
         employeeEntity1.setId(1L);
@@ -100,25 +154,25 @@ class EmployeeServiceImplTest {
     void findAllEmployees_WhenApiSuccessful_ShouldReturnEmployees() {
         // Arrange
         when(feignClient.getAllEmployees()).thenReturn(listResponseDTO);
-        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employeeEntity1);
-        when(employeeMapper.toEmployee(employeeDTO2)).thenReturn(employeeEntity2);
-        when(employeeRepository.saveAll(anyList())).thenReturn(Arrays.asList(employeeEntity1, employeeEntity2));
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employee1);
+        when(employeeMapper.toEmployee(employeeDTO2)).thenReturn(employee2);
+        when(jdbcWriter.upsertAll(anyList())).thenReturn(2);
 
         // Act
-        List<EmployeeEntity> result = employeeService.findAllEmployees();
+        List<Employee> result = employeeService.findAllEmployees();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
         verify(feignClient, times(1)).getAllEmployees();
         verify(employeeMapper, times(2)).toEmployee(any(EmployeeDTO.class));
-        verify(employeeRepository, times(1)).saveAll(anyList());
+        verify(jdbcWriter, times(1)).upsertAll(anyList());
         verify(rateLimiter, times(1)).releasePermit();
 
         // Verify that annual salary was calculated
-        assertTrue(result.stream().allMatch(e -> e.getAnnualSalary() != null));
+        assertTrue(result.stream().allMatch(e -> e.annualSalary() != 0));
         // Verify that lastUpdated was set
-        assertTrue(result.stream().allMatch(e -> e.getLastUpdated() != null));
+        assertTrue(result.stream().allMatch(e -> e.lastUpdated() != null));
     }
 
     @Test
@@ -129,7 +183,7 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findAll()).thenReturn(Arrays.asList(employeeEntity1, employeeEntity2));
 
         // Act
-        List<EmployeeEntity> result = employeeService.findAllEmployees();
+        List<Employee> result = employeeService.findAllEmployees();
 
         // Assert
         assertNotNull(result);
@@ -151,7 +205,7 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findAll()).thenReturn(Arrays.asList(employeeEntity1, employeeEntity2));
 
         // Act
-        List<EmployeeEntity> result = employeeService.findAllEmployees();
+        List<Employee> result = employeeService.findAllEmployees();
 
         // Assert
         assertNotNull(result);
@@ -169,7 +223,7 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findAll()).thenReturn(Arrays.asList(employeeEntity1, employeeEntity2));
 
         // Act
-        List<EmployeeEntity> result = employeeService.findAllEmployees();
+        List<Employee> result = employeeService.findAllEmployees();
 
         // Assert
         assertNotNull(result);
@@ -187,7 +241,7 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findAll()).thenReturn(Arrays.asList(employeeEntity1, employeeEntity2));
 
         // Act
-        List<EmployeeEntity> result = employeeService.findAllEmployees();
+        List<Employee> result = employeeService.findAllEmployees();
 
         // Assert
         assertNotNull(result);
@@ -205,7 +259,7 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findAll()).thenReturn(Collections.emptyList());
 
         // Act
-        List<EmployeeEntity> result = employeeService.findAllEmployees();
+        List<Employee> result = employeeService.findAllEmployees();
 
         // Assert
         assertNotNull(result);
@@ -221,24 +275,24 @@ class EmployeeServiceImplTest {
         // Arrange
         String id = "1";
         when(feignClient.getEmployeeById(id)).thenReturn(singleResponseDTO);
-        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employeeEntity1);
-        when(employeeRepository.save(any(EmployeeEntity.class))).thenReturn(employeeEntity1);
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employee1);
 
         // Act
-        EmployeeEntity result = employeeService.findEmployeeById(id);
+        Employee result = employeeService.findEmployeeById(id);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1L, result.getId());
-        assertEquals("John Doe", result.getName());
-        assertEquals(30, result.getAge());
-        assertEquals(5000.0, result.getSalary());
-        assertNotNull(result.getAnnualSalary());
-        assertEquals(60000.0, result.getAnnualSalary()); // 5000 * 12
-        assertNotNull(result.getLastUpdated());
+        assertEquals(1L, result.id());
+        assertEquals("John Doe", result.name());
+        assertEquals(30, result.age());
+        assertEquals(5000.0, result.salary());
+        assertEquals(60000.0, result.annualSalary()); // 5000 * 12
+        assertNotNull(result.lastUpdated());
         verify(feignClient, times(1)).getEmployeeById(id);
         verify(employeeMapper, times(1)).toEmployee(any(EmployeeDTO.class));
-        verify(employeeRepository, times(1)).save(any(EmployeeEntity.class));
+        verify(jdbcWriter, times(1)).upsertAll(anyList());
+        verify(jdbcWriter).upsertAll(argThat(employees -> employees.size() == 1 && employees.get(0).id() == 1L
+                && employees.get(0).annualSalary() == 60000.0 && employees.get(0).lastUpdated() != null));
         verify(rateLimiter, times(1)).releasePermit();
     }
 
@@ -251,11 +305,11 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employeeEntity1));
 
         // Act
-        EmployeeEntity result = employeeService.findEmployeeById(id);
+        Employee result = employeeService.findEmployeeById(id);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1L, result.getId());
+        assertEquals(1L, result.id());
         verify(feignClient, times(1)).getEmployeeById(id);
         verify(employeeRepository, times(1)).findById(1L);
         verify(rateLimiter, times(1)).releasePermit();
@@ -274,11 +328,11 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employeeEntity1));
 
         // Act
-        EmployeeEntity result = employeeService.findEmployeeById(id);
+        Employee result = employeeService.findEmployeeById(id);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1L, result.getId());
+        assertEquals(1L, result.id());
         verify(feignClient, times(1)).getEmployeeById(id);
         verify(employeeRepository, times(1)).findById(1L);
         verify(rateLimiter, times(1)).releasePermit();
@@ -293,11 +347,11 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employeeEntity1));
 
         // Act
-        EmployeeEntity result = employeeService.findEmployeeById(id);
+        Employee result = employeeService.findEmployeeById(id);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1L, result.getId());
+        assertEquals(1L, result.id());
         verify(feignClient, times(1)).getEmployeeById(id);
         verify(employeeRepository, times(1)).findById(1L);
         verify(rateLimiter, times(1)).releasePermit();
@@ -313,11 +367,11 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employeeEntity1));
 
         // Act
-        EmployeeEntity result = employeeService.findEmployeeById(id);
+        Employee result = employeeService.findEmployeeById(id);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1L, result.getId());
+        assertEquals(1L, result.id());
         verify(feignClient, times(1)).getEmployeeById(id);
         verify(employeeRepository, times(1)).findById(1L);
         verify(rateLimiter, times(1)).releasePermit();
@@ -332,11 +386,11 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employeeEntity1));
 
         // Act
-        EmployeeEntity result = employeeService.findEmployeeById(id);
+        Employee result = employeeService.findEmployeeById(id);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1L, result.getId());
+        assertEquals(1L, result.id());
         verify(feignClient, times(1)).getEmployeeById(id);
         verify(employeeRepository, times(1)).findById(1L);
         verify(rateLimiter, times(1)).releasePermit();
@@ -351,11 +405,11 @@ class EmployeeServiceImplTest {
         when(employeeRepository.findById(1L)).thenReturn(Optional.of(employeeEntity1));
 
         // Act
-        EmployeeEntity result = employeeService.findEmployeeById(id);
+        Employee result = employeeService.findEmployeeById(id);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1L, result.getId());
+        assertEquals(1L, result.id());
         verify(feignClient, times(1)).getEmployeeById(id);
         verify(employeeRepository, times(1)).findById(1L);
         verify(rateLimiter, times(1)).releasePermit();
@@ -383,16 +437,172 @@ class EmployeeServiceImplTest {
         verify(rateLimiter, times(1)).releasePermit();
     }
 
+    @Test
+    @DisplayName("findEmployeeById with some fields should read only those columns when falling back to database")
+    void findEmployeeById_WithFieldsWhenApiFails_ShouldReadProjection() {
+        // Arrange
+        String id = "1";
+        EmployeeFields fields = EmployeeFields.parse("id,name");
+        Employee projected = new Employee(1L, "John Doe", null, null, null, null, 0);
+        when(feignClient.getEmployeeById(id)).thenThrow(new RuntimeException("Generic error"));
+        when(employeeRepository.findProjectedById(1L, fields)).thenReturn(Optional.of(projected));
+
+        // Act
+        Employee result = employeeService.findEmployeeById(id, fields);
+
+        // Assert
+        assertEquals(projected, result);
+        verify(employeeRepository, never()).findById(any());
+        verify(cacheWriter, never()).put(any());
+    }
+
+    @Test
+    @DisplayName("findAllEmployees with some fields should cache the complete employees loaded from API")
+    void findAllEmployees_WithFieldsWhenApiSuccessful_ShouldCacheCompleteEmployees() {
+        // Arrange
+        when(feignClient.getAllEmployees()).thenReturn(listResponseDTO);
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employee1);
+        when(employeeMapper.toEmployee(employeeDTO2)).thenReturn(employee2);
+
+        // Act
+        List<Employee> result = employeeService.findAllEmployees(EmployeeFields.parse("name"));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(30, result.get(0).age());
+        verify(cacheWriter).putAll(result);
+        verify(employeeRepository, never()).findAllProjected(any());
+    }
+
+    @Test
+    @DisplayName("findAllEmployees should record upstream latency and response source")
+    void findAllEmployees_WhenApiSuccessful_ShouldRecordMetrics() {
+        // Arrange
+        when(feignClient.getAllEmployees()).thenReturn(listResponseDTO);
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employee1);
+        when(employeeMapper.toEmployee(employeeDTO2)).thenReturn(employee2);
+
+        // Act
+        employeeService.findAllEmployees();
+
+        // Assert
+        verify(metrics, times(1)).recordUpstream(eq("all"), eq("success"), anyLong());
+        verify(metrics, times(1)).recordWrite(eq("saveAll"), anyLong());
+        verify(metrics, times(1)).recordResponse("upstream", "all");
+        verify(metrics, never()).recordFallback(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("findEmployeeById should record rate limited outcome and fallback response")
+    void findEmployeeById_WhenRateLimitExceeded_ShouldRecordMetrics() {
+        // Arrange
+        String id = "1";
+        when(feignClient.getEmployeeById(id)).thenThrow(new RateLimitExceededException("Rate limit exceeded"));
+        when(employeeRepository.findById(1L)).thenReturn(Optional.of(employeeEntity1));
+
+        // Act
+        employeeService.findEmployeeById(id);
+
+        // Assert
+        verify(metrics, times(1)).recordUpstream(eq("id"), eq("rate_limited"), anyLong());
+        verify(metrics, times(1)).recordFallback(eq("id"), anyLong());
+        verify(metrics, times(1)).recordResponse("fallback", "id");
+    }
+
+    @Test
+    @DisplayName("findEmployeeById should answer known missing IDs without calling the API or database")
+    void findEmployeeById_WhenKnownMissing_ShouldThrowWithoutLookups() {
+        // Arrange
+        String id = "abc";
+        when(idFilter.isKnownMissing(id)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> employeeService.findEmployeeById(id));
+        verifyNoInteractions(feignClient, employeeRepository);
+        verify(rateLimiter, never()).releasePermit();
+    }
+
+    @Test
+    @DisplayName("findEmployeeById should remember IDs missing from both the API and the database")
+    void findEmployeeById_WhenMissingEverywhere_ShouldMarkMissing() {
+        // Arrange
+        String id = "999";
+        when(feignClient.getEmployeeById(id)).thenReturn(new ResponseDTO<>("success", null, null));
+        when(employeeRepository.findById(999L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.findEmployeeById(id));
+        verify(employeeRepository, times(1)).findById(999L);
+        verify(idFilter, times(1)).markMissing(id);
+    }
+
+    @Test
+    @DisplayName("findEmployeeById should not remember IDs as missing when the API failed")
+    void findEmployeeById_WhenApiFailsAndDatabaseEmpty_ShouldNotMarkMissing() {
+        // Arrange
+        String id = "1";
+        when(feignClient.getEmployeeById(id)).thenThrow(new RuntimeException("Generic error"));
+        when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EmployeeNotFoundException.class, () -> employeeService.findEmployeeById(id));
+        verify(idFilter, never()).markMissing(anyString());
+    }
+
+    @Test
+    @DisplayName("findAllEmployees should rebuild the known ID filter from the API response")
+    void findAllEmployees_WhenApiSuccessful_ShouldRebuildIdFilter() {
+        // Arrange
+        when(feignClient.getAllEmployees()).thenReturn(listResponseDTO);
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employee1);
+        when(employeeMapper.toEmployee(employeeDTO2)).thenReturn(employee2);
+
+        // Act
+        employeeService.findAllEmployees();
+
+        // Assert
+        verify(idFilter, times(1)).rebuild(List.of(employee1.id(), employee2.id()));
+    }
+
+    @Test
+    @DisplayName("refreshAllEmployees should return and save employees from API")
+    void refreshAllEmployees_WhenApiSuccessful_ShouldSaveEmployees() {
+        // Arrange
+        when(feignClient.getAllEmployees()).thenReturn(listResponseDTO);
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employee1);
+        when(employeeMapper.toEmployee(employeeDTO2)).thenReturn(employee2);
+
+        // Act
+        List<Employee> result = employeeService.refreshAllEmployees();
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(jdbcWriter, times(1)).upsertAll(anyList());
+        verify(employeeRepository, never()).findAll();
+        verify(rateLimiter, times(1)).releasePermit();
+    }
+
+    @Test
+    @DisplayName("refreshAllEmployees should propagate API errors without falling back to database")
+    void refreshAllEmployees_WhenApiFails_ShouldPropagateException() {
+        // Arrange
+        when(feignClient.getAllEmployees()).thenThrow(new RateLimitExceededException("Rate limit exceeded"));
+
+        // Act & Assert
+        assertThrows(RateLimitExceededException.class, () -> employeeService.refreshAllEmployees());
+        verify(employeeRepository, never()).findAll();
+        verify(rateLimiter, times(1)).releasePermit();
+    }
+
     @Test
     @DisplayName("calculateAnnualSalary should return correct annual salary")
     void calculateAnnualSalary_ShouldReturnCorrectAnnualSalary() {
         // Arrange
         String id = "1";
-        employeeEntity1.setSalary(5000.0);
 
         // Configurar el comportamiento del repositorio y el cliente para que findEmployeeById retorne nuestro empleado
         when(feignClient.getEmployeeById(id)).thenReturn(singleResponseDTO);
-        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employeeEntity1);
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employee1);
 
         // Act
         Double result = employeeService.calculateAnnualSalary(id);
@@ -401,6 +611,21 @@ class EmployeeServiceImplTest {
         assertEquals(60000.0, result); // 5000 * 12
     }
 
+    @Test
+    @DisplayName("calculateAnnualSalary should accept a zero salary")
+    void calculateAnnualSalary_WithZeroSalary_ShouldReturnZero() {
+        // Arrange
+        String id = "1";
+        when(feignClient.getEmployeeById(id)).thenReturn(singleResponseDTO);
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(new Employee(1L, "John Doe", 30, 0.0, null, null, 0));
+
+        // Act
+        Double result = employeeService.calculateAnnualSalary(id);
+
+        // Assert
+        assertEquals(0.0, result);
+    }
+
     @Test
     @DisplayName("calculateAnnualSalary should throw ResourceNotFoundException when employee not found")
     void calculateAnnualSalary_WhenEmployeeNotFound_ShouldThrowException() {
@@ -423,11 +648,11 @@ class EmployeeServiceImplTest {
     }
 
     @Test
-    @DisplayName("calculateAnnualSalary should throw ResourceNotFoundException when salary is null")
-    void calculateAnnualSalary_WhenSalaryNull_ShouldThrowException() {
+    @DisplayName("calculateAnnualSalary should throw ResourceNotFoundException when salary is missing")
+    void calculateAnnualSalary_WhenSalaryMissing_ShouldThrowException() {
         // Arrange
         String id = "1";
-        employeeEntity1.setSalary(null);
+        employeeDTO1.setSalary(null);
 
         // Configurar el comportamiento del repositorio y el cliente Feign
         ResponseDTO<EmployeeDTO> response = new ResponseDTO<>();
@@ -435,7 +660,7 @@ class EmployeeServiceImplTest {
         response.setData(employeeDTO1);
 
         when(feignClient.getEmployeeById(id)).thenReturn(response);
-        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employeeEntity1);
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(new Employee(1L, "John Doe", 30, null, null, null, 0));
 
         // Act & Assert
         Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -459,30 +684,27 @@ class EmployeeServiceImplTest {
     @Test
     @DisplayName("addAnnualSalary should calculate correct annual salary")
     void addAnnualSalary_ShouldCalculateCorrectAnnualSalary() {
-        // Arrange
-        EmployeeEntity employee = new EmployeeEntity();
-        employee.setSalary(5000.0);
-
         // Use reflection to access private method
-        EmployeeEntity result = (EmployeeEntity) ReflectionTestUtils.invokeMethod(
+        Employee result = (Employee) ReflectionTestUtils.invokeMethod(
                 employeeService,
                 "addAnnualSalary",
-                employee
+                employee1
         );
 
         // Assert
         assertNotNull(result);
-        assertEquals(60000.0, result.getAnnualSalary()); // 5000 * 12
+        assertEquals(60000.0, result.annualSalary()); // 5000 * 12
+        assertNull(employee1.annualSalary()); // The original value is not modified
     }
 
     @Test
     @DisplayName("addAnnualSalary should handle null employee")
     void addAnnualSalary_WithNullEmployee_ShouldReturnNull() {
         // Use reflection to access private method
-        EmployeeEntity result = (EmployeeEntity) ReflectionTestUtils.invokeMethod(
+        Employee result = (Employee) ReflectionTestUtils.invokeMethod(
                 employeeService,
                 "addAnnualSalary",
-                (EmployeeEntity) null
+                (Employee) null
         );
 
         // Assert
@@ -490,14 +712,31 @@ class EmployeeServiceImplTest {
     }
 
     @Test
-    @DisplayName("addAnnualSalary should handle null salary")
-    void addAnnualSalary_WithNullSalary_ShouldNotSetAnnualSalary() {
+    @DisplayName("addAnnualSalary should handle missing salary")
+    void addAnnualSalary_WithMissingSalary_ShouldNotSetAnnualSalary() {
+        // Arrange
+        Employee employee = new Employee(1L, "John Doe", 30, null, null, null, 0);
+
+        // Use reflection to access private method
+        Employee result = (Employee) ReflectionTestUtils.invokeMethod(
+                employeeService,
+                "addAnnualSalary",
+                employee
+        );
+
+        // Assert
+        assertNotNull(result);
+        assertNull(result.annualSalary());
+    }
+
+    @Test
+    @DisplayName("addAnnualSalary should calculate a zero salary")
+    void addAnnualSalary_WithZeroSalary_ShouldSetZeroAnnualSalary() {
         // Arrange
-        EmployeeEntity employee = new EmployeeEntity();
-        employee.setSalary(null);
+        Employee employee = new Employee(1L, "John Doe", 30, 0.0, null, null, 0);
 
         // Use reflection to access private method
-        EmployeeEntity result = (EmployeeEntity) ReflectionTestUtils.invokeMethod(
+        Employee result = (Employee) ReflectionTestUtils.invokeMethod(
                 employeeService,
                 "addAnnualSalary",
                 employee
@@ -505,42 +744,159 @@ class EmployeeServiceImplTest {
 
         // Assert
         assertNotNull(result);
-        assertNull(result.getAnnualSalary());
+        assertEquals(0.0, result.annualSalary());
     }
 
     @Test
     @DisplayName("addLastUpdated should set current timestamp")
     void addLastUpdated_ShouldSetTimestamp() {
         // Arrange
-        EmployeeEntity employee = new EmployeeEntity();
-        LocalDateTime beforeTest = LocalDateTime.now();
+        long beforeTest = System.currentTimeMillis();
 
         // Use reflection to access private method
-        EmployeeEntity result = (EmployeeEntity) ReflectionTestUtils.invokeMethod(
+        Employee result = (Employee) ReflectionTestUtils.invokeMethod(
                 employeeService,
                 "addLastUpdated",
-                employee
+                employee1
         );
 
         // Assert
         assertNotNull(result);
-        assertNotNull(result.getLastUpdated());
+        assertNotNull(result.lastUpdated());
         // Verify timestamp is after or equal to the time before test
-        assertTrue(result.getLastUpdated().isEqual(beforeTest) ||
-                result.getLastUpdated().isAfter(beforeTest));
+        assertTrue(result.lastUpdatedMillis() >= beforeTest);
+        assertEquals(0, employee1.lastUpdatedMillis()); // The original value is not modified
     }
 
     @Test
     @DisplayName("addLastUpdated should handle null employee")
     void addLastUpdated_WithNullEmployee_ShouldReturnNull() {
         // Use reflection to access private method
-        EmployeeEntity result = (EmployeeEntity) ReflectionTestUtils.invokeMethod(
+        Employee result = (Employee) ReflectionTestUtils.invokeMethod(
                 employeeService,
                 "addLastUpdated",
-                (EmployeeEntity) null
+                (Employee) null
         );
 
         // Assert
         assertNull(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findAllEmployees should use the database without calling the API when the upstream bulkhead is full")
+    void findAllEmployees_WhenUpstreamBulkheadFull_ShouldFallbackToDatabase() {
+        // Arrange
+        bulkheads.upstream().tryEnter();
+        when(employeeRepository.findAll()).thenReturn(Arrays.asList(employeeEntity1, employeeEntity2));
+
+        // Act
+        List<Employee> result = employeeService.findAllEmployees();
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(feignClient, never()).getAllEmployees();
+        verify(rateLimiter, never()).releasePermit();
+    }
+
+    @Test
+    @DisplayName("findAllEmployees should skip saving when the database write bulkhead is full")
+    void findAllEmployees_WhenWriteBulkheadFull_ShouldSkipSave() {
+        // Arrange
+        bulkheads.databaseWrite().tryEnter();
+        when(feignClient.getAllEmployees()).thenReturn(listResponseDTO);
+        when(employeeMapper.toEmployee(employeeDTO1)).thenReturn(employee1);
+        when(employeeMapper.toEmployee(employeeDTO2)).thenReturn(employee2);
+
+        // Act
+        List<Employee> result = employeeService.findAllEmployees();
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(jdbcWriter, never()).upsertAll(anyList());
+        assertEquals(0, bulkheads.upstream().getActive());
+    }
+
+    @Test
+    @DisplayName("findEmployeeById should answer 503 when the API fails and the database read bulkhead is full")
+    void findEmployeeById_WhenReadBulkheadFull_ShouldThrowServiceUnavailable() {
+        // Arrange
+        bulkheads.databaseRead().tryEnter();
+        when(feignClient.getEmployeeById("1")).thenThrow(new RuntimeException("API Error"));
+
+        // Act & Assert
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> employeeService.findEmployeeById("1"));
+        assertEquals("1", exception.getHeaders().getFirst("Retry-After"));
+        verify(employeeRepository, never()).findById(anyLong());
+        verify(rateLimiter, times(1)).releasePermit();
+        assertEquals(0, bulkheads.upstream().getActive());
+    }
+
+    @Test
+    @DisplayName("findEmployeeById should load a burst of distinct IDs with a few calls for the full list")
+    void findEmployeeById_WithBatchLoader_ShouldCollapseConcurrentMisses() throws Exception {
+        // Arrange
+        EmployeeBatchLoader loader = new EmployeeBatchLoader(
+                new EmployeeMetrics(new SimpleMeterRegistry(), List.of(100L)));
+        ReflectionTestUtils.setField(loader, "enabled", true);
+        ReflectionTestUtils.setField(loader, "windowMs", 20L);
+        ReflectionTestUtils.setField(loader, "maxBatchSize", 1000);
+        ReflectionTestUtils.setField(loader, "timeoutMs", 10_000L);
+        ReflectionTestUtils.invokeMethod(loader, "start");
+        ReflectionTestUtils.setField(employeeService, "batchLoader", loader);
+
+        List<EmployeeDTO> employeeDTOs = new ArrayList<>();
+        for (long i = 1; i <= 1000; i++) {
+            EmployeeDTO dto = new EmployeeDTO();
+            dto.setId(i);
+            dto.setName("Employee " + i);
+            dto.setAge(30);
+            dto.setSalary(5000.0);
+            employeeDTOs.add(dto);
+        }
+        listResponseDTO.setData(employeeDTOs);
+        when(feignClient.getAllEmployees()).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return listResponseDTO;
+        });
+        when(employeeMapper.toEmployee(any(EmployeeDTO.class))).thenAnswer(invocation -> {
+            EmployeeDTO dto = invocation.getArgument(0);
+            return new Employee(dto.getId(), dto.getName(), dto.getAge(), dto.getSalary(), null, null, 0);
+        });
+        // Per-ID cache filled by the full list, as the real cache writer does
+        Map<String, Employee> cache = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            List<Employee> employees = invocation.getArgument(0);
+            employees.forEach(employee -> cache.put(String.valueOf(employee.id()), employee));
+            return null;
+        }).when(cacheWriter).putAll(anyList());
+        when(cacheWriter.peek(anyString())).thenAnswer(invocation -> cache.get(invocation.<String>getArgument(0)));
+
+        ExecutorService callers = Executors.newFixedThreadPool(100);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Employee>> results = new ArrayList<>();
+        for (int i = 1; i <= 1000; i++) {
+            String id = String.valueOf(i);
+            results.add(callers.submit(() -> {
+                start.await();
+                return employeeService.findEmployeeById(id);
+            }));
+        }
+
+        // Act
+        start.countDown();
+        try {
+            for (int i = 1; i <= 1000; i++) {
+                assertEquals(i, results.get(i - 1).get(10, TimeUnit.SECONDS).id());
+            }
+        } finally {
+            callers.shutdownNow();
+            ReflectionTestUtils.invokeMethod(loader, "stop");
+        }
+
+        // Assert
+        verify(feignClient, atMost(2)).getAllEmployees();
+        verify(feignClient, never()).getEmployeeById(anyString());
+        verify(employeeRepository, never()).findAllById(anyIterable());
+    }
+}
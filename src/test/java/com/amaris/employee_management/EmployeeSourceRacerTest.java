@@ -0,0 +1,111 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.exception.EmployeeNotFoundException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.service.EmployeeSourceRacer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmployeeSourceRacerTest {
+
+    private MeterRegistry meterRegistry;
+    private EmployeeSourceRacer racer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        racer = new EmployeeSourceRacer(new EmployeeMetrics(meterRegistry, List.of(100L)));
+        ReflectionTestUtils.setField(racer, "enabled", true);
+        ReflectionTestUtils.setField(racer, "budgetMs", 100L);
+        ReflectionTestUtils.setField(racer, "threads", 2);
+        ReflectionTestUtils.invokeMethod(racer, "start");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(racer, "stop");
+    }
+
+    @Test
+    @DisplayName("The upstream answer should win when it arrives within the budget")
+    void race_WhenUpstreamFast_ShouldReturnUpstream() {
+        // Act
+        String result = racer.race("id", () -> "upstream", () -> "local", late -> fail("Not late"));
+
+        // Assert
+        assertEquals("upstream", result);
+        assertEquals(1, winners("upstream"));
+    }
+
+    @Test
+    @DisplayName("The local answer should be returned when the upstream is slow, and the upstream one applied later")
+    void race_WhenUpstreamSlow_ShouldReturnLocalAndApplyUpstreamLater() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> late = new CompletableFuture<>();
+
+        // Act
+        long start = System.nanoTime();
+        String result = racer.race("id", () -> {
+            await(release);
+            return "upstream";
+        }, () -> "local", late::complete);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+
+        // Assert
+        assertEquals("local", result);
+        assertTrue(elapsedMs < 1000, "Took " + elapsedMs + "ms");
+        assertEquals("upstream", late.get(5, TimeUnit.SECONDS));
+        assertEquals(1, winners("fallback"));
+    }
+
+    @Test
+    @DisplayName("Without a local answer the request should wait for the upstream, and get its exception")
+    void race_WithoutLocal_ShouldWaitForUpstream() {
+        // Act
+        String result = racer.race("id", () -> {
+            sleep(300);
+            return "upstream";
+        }, () -> null, late -> fail("Not late"));
+
+        // Assert
+        assertEquals("upstream", result);
+        assertEquals(1, winners("wait"));
+        assertThrows(EmployeeNotFoundException.class, () -> racer.race("id", () -> {
+            throw new EmployeeNotFoundException("7");
+        }, () -> null, late -> fail("Not late")));
+    }
+
+    private double winners(String winner) {
+        return meterRegistry.get("employee.race.results").tag("winner", winner).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
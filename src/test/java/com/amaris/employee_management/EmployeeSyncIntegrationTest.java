@@ -0,0 +1,113 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.client.EmployeeFeignClient;
+import com.amaris.employee_management.client.dto.EmployeeDTO;
+import com.amaris.employee_management.client.dto.ResponseDTO;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.amaris.employee_management.service.EmployeeChangeFeed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Employees created through the write endpoints, which the external API does
+ * not know, must survive the full syncs with it.
+ */
+@SpringBootTest(properties = "employee.warmup.enabled=false")
+@AutoConfigureMockMvc
+class EmployeeSyncIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EmployeeChangeFeed changeFeed;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private EmployeeFeignClient feignClient;
+
+    @Test
+    @DisplayName("An employee created locally should still be found after a full sync")
+    void createdEmployee_AfterFullSync_ShouldStillBeFound() throws Exception {
+        // Arrange - a first sync builds the known ID filter from employees 1 and 2
+        ResponseDTO<List<EmployeeDTO>> response = new ResponseDTO<>();
+        response.setStatus("success");
+        response.setData(List.of(
+                new EmployeeDTO(1L, "John Doe", 30, 5000.0, ""),
+                new EmployeeDTO(2L, "Jane Smith", 35, 6000.0, "")));
+        when(feignClient.getAllEmployees()).thenReturn(response);
+        clearCaches();
+        mockMvc.perform(get("/employees")).andExpect(status().isOk());
+
+        mockMvc.perform(post("/employees")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":500,\"name\":\"Local Employee\",\"age\":40,\"salary\":0}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Location", "http://localhost/employees/500"));
+
+        // Act - a second full sync, which does not return employee 500
+        clearCaches();
+        mockMvc.perform(get("/employees"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", hasItem(500)));
+
+        // Assert
+        mockMvc.perform(get("/employees/500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Local Employee"))
+                .andExpect(jsonPath("$.salary").value(0.0));
+        mockMvc.perform(post("/employees/payroll")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[500]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.employees").value(1));
+
+        // Events are published in order, so once this one is counted the sync was compared
+        changeFeed.synced(new Employee(1L, "John Doe", 31, 5000.0, "", 60000.0, 0));
+        awaitCount(events("updated"), 1);
+        assertEquals(0.0, events("removed").count());
+    }
+
+    private void clearCaches() {
+        cacheManager.getCache(EmployeeCacheWriter.CACHE_NAME).clear();
+        cacheManager.getCache(EmployeeCacheWriter.LIST_CACHE_NAME).clear();
+    }
+
+    private Counter events(String type) {
+        return meterRegistry.counter("employee.stream.events", "type", type);
+    }
+
+    private static void awaitCount(Counter counter, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (counter.count() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, counter.count());
+    }
+}
@@ -0,0 +1,116 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.mapper.EmployeeMapper;
+import com.amaris.employee_management.model.EmployeeEntity;
+import com.amaris.employee_management.repository.EmployeeRepository;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.amaris.employee_management.service.EmployeeWarmupService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeWarmupServiceTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    private ConcurrentMapCacheManager cacheManager;
+    private EmployeeWarmupService warmupService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("employees", "employeeList");
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        warmupService = new EmployeeWarmupService(employeeRepository, new EmployeeMapper(),
+                new EmployeeCacheWriter(cacheManager), objectMapper, applicationContext);
+
+        ReflectionTestUtils.setField(warmupService, "enabled", true);
+        ReflectionTestUtils.setField(warmupService, "budgetMs", 5000L);
+        ReflectionTestUtils.setField(warmupService, "iterations", 10);
+        ReflectionTestUtils.setField(warmupService, "controllerIterations", 1);
+        ReflectionTestUtils.setField(warmupService, "upstreamConnections", 0);
+        ReflectionTestUtils.setField(warmupService, "apiUrl", "http://localhost:1");
+        ReflectionTestUtils.setField(warmupService, "contextPath", "/api");
+    }
+
+    @Test
+    @DisplayName("Warm-up should preload the cache from the local database")
+    void run_ShouldPreloadCacheFromDatabase() {
+        // Arrange
+        EmployeeEntity employee = EmployeeEntity.builder()
+                .id(1L)
+                .name("John Doe")
+                .salary(5000.0)
+                .lastUpdated(LocalDateTime.now())
+                .build();
+        when(employeeRepository.findAll()).thenReturn(List.of(employee));
+
+        // Act
+        warmupService.run(new DefaultApplicationArguments());
+
+        // Assert
+        Cache listCache = cacheManager.getCache("employeeList");
+        assertNotNull(listCache.get("all"));
+        assertEquals(List.of(employee.toEmployee()), listCache.get("all").get());
+        assertEquals(employee.toEmployee(), cacheManager.getCache("employees").get("1").get());
+        verify(employeeRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Warm-up should not cache an empty database")
+    void run_WhenDatabaseEmpty_ShouldNotCache() {
+        // Arrange
+        when(employeeRepository.findAll()).thenReturn(List.of());
+
+        // Act
+        warmupService.run(new DefaultApplicationArguments());
+
+        // Assert
+        assertNull(cacheManager.getCache("employeeList").get("all"));
+    }
+
+    @Test
+    @DisplayName("Warm-up should continue when the database is unavailable")
+    void run_WhenDatabaseFails_ShouldNotThrow() {
+        // Arrange
+        when(employeeRepository.findAll()).thenThrow(new RuntimeException("Database down"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> warmupService.run(new DefaultApplicationArguments()));
+        assertNull(cacheManager.getCache("employeeList").get("all"));
+    }
+
+    @Test
+    @DisplayName("Warm-up should do nothing when disabled")
+    void run_WhenDisabled_ShouldSkip() {
+        // Arrange
+        ReflectionTestUtils.setField(warmupService, "enabled", false);
+
+        // Act
+        warmupService.run(new DefaultApplicationArguments());
+
+        // Assert
+        verifyNoInteractions(employeeRepository);
+    }
+}
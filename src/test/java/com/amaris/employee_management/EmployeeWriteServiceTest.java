@@ -0,0 +1,139 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.exception.BadRequestException;
+import com.amaris.employee_management.exception.ConflictException;
+import com.amaris.employee_management.exception.EmployeeNotFoundException;
+import com.amaris.employee_management.exception.PreconditionFailedException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.VersionedEmployee;
+import com.amaris.employee_management.repository.EmployeeJdbcWriter;
+import com.amaris.employee_management.service.EmployeeCacheWriter;
+import com.amaris.employee_management.service.EmployeeChangeFeed;
+import com.amaris.employee_management.service.EmployeeIdFilter;
+import com.amaris.employee_management.service.EmployeeWriteService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmployeeWriteServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployeeJdbcWriter jdbcWriter;
+    private EmployeeIdFilter idFilter;
+    private EmployeeChangeFeed changeFeed;
+    private CacheManager cacheManager;
+    private EmployeeWriteService writeService;
+
+    private Employee john;
+    private Employee jane;
+
+    @BeforeEach
+    void setUp() {
+        jdbcWriter = mock(EmployeeJdbcWriter.class);
+        idFilter = mock(EmployeeIdFilter.class);
+        changeFeed = mock(EmployeeChangeFeed.class);
+        cacheManager = new ConcurrentMapCacheManager(EmployeeCacheWriter.CACHE_NAME, EmployeeCacheWriter.LIST_CACHE_NAME);
+        writeService = new EmployeeWriteService(jdbcWriter, new EmployeeCacheWriter(cacheManager), idFilter, changeFeed,
+                new EmployeeMetrics(new SimpleMeterRegistry(), List.of(100L)), mock(PlatformTransactionManager.class));
+
+        john = new Employee(1L, "John Doe", 30, 5000.0, null, 60000.0, 1000L);
+        jane = new Employee(2L, "Jane Smith", 35, 6000.0, null, 72000.0, 1000L);
+        new EmployeeCacheWriter(cacheManager).putAll(List.of(john, jane));
+    }
+
+    @Test
+    @DisplayName("An update should be written through to the per-ID cache, the list and the change stream")
+    void update_ShouldWriteThroughToCaches() {
+        // Arrange
+        when(jdbcWriter.update(any(), eq(3L))).thenReturn(true);
+        when(jdbcWriter.findVersion(1L)).thenReturn(Optional.of(4L));
+
+        // Act
+        VersionedEmployee updated = writeService.update("1", body("John Smith", 5500), "W/\"3\"");
+
+        // Assert
+        assertEquals(4, updated.version());
+        assertEquals("John Smith", updated.employee().name());
+        assertEquals(66000.0, updated.employee().annualSalary());
+        assertEquals(updated.employee(), cacheManager.getCache(EmployeeCacheWriter.CACHE_NAME).get("1").get());
+        assertEquals(List.of(updated.employee(), jane),
+                cacheManager.getCache(EmployeeCacheWriter.LIST_CACHE_NAME).get(EmployeeCacheWriter.ALL_KEY).get());
+        verify(idFilter).add(1L);
+        verify(changeFeed).synced(updated.employee());
+    }
+
+    @Test
+    @DisplayName("An update based on an older version should fail with 412 and leave the caches alone")
+    void update_WhenVersionChanged_ShouldThrowPreconditionFailed() {
+        // Arrange
+        when(jdbcWriter.update(any(), eq(3L))).thenReturn(false);
+        when(jdbcWriter.findVersion(1L)).thenReturn(Optional.of(5L));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class,
+                () -> writeService.update("1", body("John Smith", 5500), "\"3\""));
+        assertEquals(john, cacheManager.getCache(EmployeeCacheWriter.CACHE_NAME).get("1").get());
+        verifyNoInteractions(changeFeed);
+    }
+
+    @Test
+    @DisplayName("Updating a missing employee should fail with 404, an id not matching the path with 400")
+    void update_WhenMissingOrIdMismatch_ShouldThrow() {
+        // Arrange
+        when(jdbcWriter.update(any(), isNull())).thenReturn(false);
+        when(jdbcWriter.findVersion(9L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EmployeeNotFoundException.class, () -> writeService.update("9", body("John Smith", 5500), null));
+        assertThrows(BadRequestException.class,
+                () -> writeService.update("2", body("John Smith", 5500).put("id", 1), null));
+    }
+
+    @Test
+    @DisplayName("Creating an existing ID should fail with 409")
+    void create_WhenIdExists_ShouldThrowConflict() {
+        // Arrange
+        doThrow(new DuplicateKeyException("duplicate")).when(jdbcWriter).insert(any());
+
+        // Act & Assert
+        assertThrows(ConflictException.class, () -> writeService.create(body("John Smith", 5500).put("id", 1)));
+        verifyNoInteractions(changeFeed);
+    }
+
+    @Test
+    @DisplayName("A deletion should remove the employee from the caches and mark the ID missing")
+    void delete_ShouldEvictFromCaches() {
+        // Arrange
+        when(jdbcWriter.delete(1L, null)).thenReturn(true);
+
+        // Act
+        writeService.delete("1", "*");
+
+        // Assert
+        assertNull(cacheManager.getCache(EmployeeCacheWriter.CACHE_NAME).get("1"));
+        assertEquals(List.of(jane),
+                cacheManager.getCache(EmployeeCacheWriter.LIST_CACHE_NAME).get(EmployeeCacheWriter.ALL_KEY).get());
+        verify(idFilter).markMissing("1");
+        verify(changeFeed).removed(1L);
+    }
+
+    private ObjectNode body(String name, double salary) {
+        return objectMapper.createObjectNode().put("name", name).put("age", 30).put("salary", salary);
+    }
+}
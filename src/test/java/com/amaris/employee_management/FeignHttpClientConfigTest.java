@@ -0,0 +1,73 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.config.FeignHttpClientConfig;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.simulator.UpstreamSimulator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.FeignHttpClientProperties;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeignHttpClientConfigTest {
+
+    private MeterRegistry meterRegistry;
+    private UpstreamSimulator simulator;
+    private CloseableHttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        simulator = new UpstreamSimulator(0, 100, 2, new ObjectMapper());
+        simulator.start();
+
+        FeignHttpClientConfig config = new FeignHttpClientConfig();
+        ReflectionTestUtils.setField(config, "idleEvictionSeconds", 30L);
+        ReflectionTestUtils.setField(config, "keepAliveSeconds", 60L);
+        ReflectionTestUtils.setField(config, "validateAfterInactivityMs", 2000L);
+
+        HttpClientConnectionManager connectionManager = config.hc5ConnectionManager(new FeignHttpClientProperties(),
+                new EmployeeMetrics(meterRegistry, List.of(100L)), meterRegistry);
+        HttpClientBuilder builder = HttpClients.custom().setConnectionManager(connectionManager);
+        config.upstreamHttpClientCustomizer().customize(builder);
+        httpClient = builder.build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        simulator.stop();
+    }
+
+    @Test
+    @DisplayName("Connections should be reused and gzip responses decoded")
+    void shouldReuseConnectionsAndDecodeGzip() throws Exception {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            String body = httpClient.execute(new HttpGet(simulator.getUrl() + "/employees"),
+                    response -> EntityUtils.toString(response.getEntity()));
+            assertTrue(body.startsWith("{\"status\":\"success\""), body);
+        }
+
+        // Assert
+        assertEquals(1, meterRegistry.get("employee.upstream.connection.open").tag("success", "true").timer().count());
+        assertEquals(1, meterRegistry.get("employee.upstream.connection.lease").tag("result", "new").timer().count());
+        assertEquals(4, meterRegistry.get("employee.upstream.connection.lease").tag("result", "reused").timer().count());
+        assertEquals(1.0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "available").gauge().value());
+    }
+}
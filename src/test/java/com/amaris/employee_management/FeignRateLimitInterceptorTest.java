@@ -1,22 +1,34 @@
 package com.amaris.employee_management;
 
+import com.amaris.employee_management.config.Deadline;
 import com.amaris.employee_management.config.FeignRateLimitInterceptor;
+import com.amaris.employee_management.config.RequestPriority;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
 import feign.RequestTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class FeignRateLimitInterceptorTest {
 
+    @Mock
+    private EmployeeMetrics metrics;
+
     @InjectMocks
     private FeignRateLimitInterceptor interceptor;
 
@@ -71,8 +83,8 @@ class FeignRateLimitInterceptorTest {
     }
 
     @Test
-    @DisplayName("Release permit should increment available permits")
-    void releasePermit_ShouldIncrementAvailablePermits() {
+    @DisplayName("Release permit should not add a permit that was never acquired")
+    void releasePermit_WithoutPermit_ShouldNotAddPermit() {
         // Arrange - semaphore already has max permits
         Semaphore semaphore = (Semaphore) ReflectionTestUtils.getField(interceptor, "rateLimiter");
         int initialPermits = semaphore.availablePermits();
@@ -80,8 +92,31 @@ class FeignRateLimitInterceptorTest {
         // Act
         interceptor.releasePermit();
 
-        // Assert - should increase by one
-        assertEquals(initialPermits + 1, semaphore.availablePermits());
+        // Assert - should stay at max permits
+        assertEquals(initialPermits, semaphore.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Calls going ahead without a permit should not release permits held by others")
+    void releasePermit_AfterShortDeadlineTimeouts_ShouldKeepLimiterSaturated() {
+        // Arrange - every permit is held by calls in flight
+        Semaphore semaphore = (Semaphore) ReflectionTestUtils.getField(interceptor, "rateLimiter");
+        semaphore.acquireUninterruptibly(2);
+
+        // Act - requests with a short deadline give up waiting right away
+        for (int i = 0; i < 8; i++) {
+            Deadline.set(Deadline.after(50, 50));
+            try {
+                interceptor.apply(requestTemplate);
+            } finally {
+                interceptor.releasePermit();
+                Deadline.set(null);
+            }
+        }
+
+        // Assert - still saturated
+        assertEquals(0, semaphore.availablePermits());
+        verify(metrics, times(8)).recordRateLimiterWait(eq("interactive"), eq(false), anyLong());
     }
 
     @Test
@@ -112,4 +147,91 @@ class FeignRateLimitInterceptorTest {
         interceptor.releasePermit();
         assertEquals(2, semaphore.availablePermits());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Background calls should leave the reserved permits to interactive calls")
+    void apply_Background_ShouldLeaveReservedPermits() {
+        // Arrange
+        ReflectionTestUtils.setField(interceptor, "reservedInteractive", 1);
+        ReflectionTestUtils.setField(interceptor, "backgroundTimeoutMs", 50L);
+        Semaphore semaphore = (Semaphore) ReflectionTestUtils.getField(interceptor, "rateLimiter");
+
+        // Act
+        RequestPriority.BACKGROUND.call(() -> {
+            interceptor.apply(requestTemplate);
+            interceptor.apply(requestTemplate);
+            return null;
+        });
+
+        // Assert - the first call took a permit, the second one timed out leaving the reserved one
+        assertEquals(1, semaphore.availablePermits());
+        verify(metrics).recordRateLimiterWait(eq("background"), eq(false), anyLong());
+    }
+
+    @Test
+    @DisplayName("Background calls that timed out should not release a permit")
+    void releasePermit_AfterBackgroundTimeout_ShouldNotAddPermit() {
+        // Arrange - only the reserved permit is left
+        ReflectionTestUtils.setField(interceptor, "reservedInteractive", 1);
+        ReflectionTestUtils.setField(interceptor, "backgroundTimeoutMs", 50L);
+        Semaphore semaphore = (Semaphore) ReflectionTestUtils.getField(interceptor, "rateLimiter");
+        semaphore.acquireUninterruptibly();
+
+        // Act
+        RequestPriority.BACKGROUND.call(() -> {
+            try {
+                interceptor.apply(requestTemplate);
+            } finally {
+                interceptor.releasePermit();
+            }
+            return null;
+        });
+
+        // Assert - the reserved permit is still the only one
+        assertEquals(1, semaphore.availablePermits());
+        verify(metrics).recordRateLimiterWait(eq("background"), eq(false), anyLong());
+    }
+
+    @Test
+    @DisplayName("Background calls should wait for their turn while interactive calls are waiting")
+    void apply_BackgroundWithInteractiveWaiting_ShouldYield() {
+        // Arrange
+        ReflectionTestUtils.setField(interceptor, "interactiveWeight", 2);
+        ReflectionTestUtils.setField(interceptor, "backgroundTimeoutMs", 50L);
+        AtomicInteger waiting = (AtomicInteger) ReflectionTestUtils.getField(interceptor, "interactiveWaiting");
+        AtomicInteger grants = (AtomicInteger) ReflectionTestUtils.getField(interceptor, "interactiveGrants");
+        Semaphore semaphore = (Semaphore) ReflectionTestUtils.getField(interceptor, "rateLimiter");
+        waiting.set(1);
+
+        // Act - not its turn yet
+        RequestPriority.BACKGROUND.call(() -> {
+            interceptor.apply(requestTemplate);
+            return null;
+        });
+
+        // Assert
+        assertEquals(2, semaphore.availablePermits());
+
+        // Act - two interactive permits were granted, so the next one is for background
+        grants.set(2);
+        RequestPriority.BACKGROUND.call(() -> {
+            interceptor.apply(requestTemplate);
+            return null;
+        });
+
+        // Assert
+        assertEquals(1, semaphore.availablePermits());
+        assertEquals(0, grants.get());
+    }
+
+    @Test
+    @DisplayName("Priority should only apply to the work it wraps")
+    void call_ShouldRestorePreviousPriority() {
+        // Act
+        RequestPriority inside = RequestPriority.BACKGROUND.call(RequestPriority::current);
+
+        // Assert
+        assertEquals(RequestPriority.BACKGROUND, inside);
+        assertEquals(RequestPriority.INTERACTIVE, RequestPriority.current());
+    }
+}
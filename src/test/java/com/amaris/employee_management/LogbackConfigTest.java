@@ -0,0 +1,91 @@
+package com.amaris.employee_management;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.logging.LogFile;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Appenders of {@code logback-spring.xml} by profile: no log file unless one is configured.
+ */
+class LogbackConfigTest {
+
+    private final LoggingSystem loggingSystem = LoggingSystem.get(getClass().getClassLoader());
+    private final Path logFile = Path.of(System.getProperty("java.io.tmpdir"), "logback-config-test.log");
+
+    @AfterEach
+    void tearDown() throws IOException {
+        initialize(new MockEnvironment(), null);
+        Files.deleteIfExists(logFile);
+    }
+
+    @Test
+    @DisplayName("Profiles other than prod should only log to the console")
+    void defaultProfile_ShouldOnlyLogToConsole() {
+        // Act
+        initialize(new MockEnvironment(), null);
+
+        // Assert
+        assertEquals(List.of("CONSOLE"), rootAppenders());
+    }
+
+    @Test
+    @DisplayName("Prod without a log file should only log to the console, asynchronously")
+    void prodProfile_WithoutLogFile_ShouldOnlyLogToConsole() {
+        // Act
+        initialize(prod(), null);
+
+        // Assert
+        assertEquals(List.of("ASYNC_CONSOLE"), rootAppenders());
+    }
+
+    @Test
+    @DisplayName("Prod with a log file should also log to it, asynchronously")
+    void prodProfile_WithLogFile_ShouldLogToFile() {
+        // Arrange
+        MockEnvironment environment = prod().withProperty("logging.file.name", logFile.toString());
+
+        // Act
+        initialize(environment, LogFile.get(environment));
+
+        // Assert
+        assertEquals(List.of("ASYNC_CONSOLE", "ASYNC_FILE"), rootAppenders());
+    }
+
+    private static MockEnvironment prod() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setActiveProfiles("prod");
+        return environment;
+    }
+
+    private void initialize(MockEnvironment environment, LogFile logFile) {
+        loggingSystem.cleanUp();
+        loggingSystem.beforeInitialize();
+        loggingSystem.initialize(new LoggingInitializationContext(environment), null, logFile);
+    }
+
+    private static List<String> rootAppenders() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        List<String> names = new ArrayList<>();
+        Iterator<Appender<ILoggingEvent>> appenders = context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        appenders.forEachRemaining(appender -> names.add(appender.getName()));
+        return names;
+    }
+}
@@ -0,0 +1,143 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.exception.BadRequestException;
+import com.amaris.employee_management.metrics.EmployeeMetrics;
+import com.amaris.employee_management.model.Employee;
+import com.amaris.employee_management.model.PayrollProjection;
+import com.amaris.employee_management.model.PayrollRequest;
+import com.amaris.employee_management.service.EmployeeService;
+import com.amaris.employee_management.service.PayrollProjectionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PayrollProjectionServiceTest {
+
+    private EmployeeService employeeService;
+    private PayrollProjectionService payrollService;
+
+    @BeforeEach
+    void setUp() {
+        employeeService = mock(EmployeeService.class);
+        payrollService = new PayrollProjectionService(employeeService,
+                new EmployeeMetrics(new SimpleMeterRegistry(), List.of(100L)), new ObjectMapper());
+        ReflectionTestUtils.setField(payrollService, "forkThreshold", 65536);
+        when(employeeService.findAllEmployees()).thenReturn(List.of(
+                new Employee(1L, "John Doe", 30, 5000.0, null, 60000.0, 0),
+                new Employee(2L, "Jane Smith", 45, 6000.0, null, 72000.0, 0),
+                new Employee(3L, "Jim Brown", 60, 4000.0, null, 48000.0, 0)));
+    }
+
+    @Test
+    @DisplayName("Should project every year of every scenario, compounding raises and headcount changes")
+    void project_ShouldCompoundScenarios() {
+        // Arrange
+        PayrollRequest request = new PayrollRequest(3, null, null, null, null, null, List.of(
+                new PayrollRequest.Scenario("flat", 0, 0, 0),
+                new PayrollRequest.Scenario("growth", 10, 5, 100)));
+
+        // Act
+        PayrollProjection projection = payrollService.project(request);
+
+        // Assert
+        assertEquals(3, projection.employees());
+        assertEquals(180000.0, projection.annualSalaries());
+        PayrollProjection.ScenarioProjection flat = projection.scenarios().get(0);
+        assertEquals(540000.0, flat.total());
+        PayrollProjection.ScenarioProjection growth = projection.scenarios().get(1);
+        assertEquals(new PayrollProjection.Year(1, 3, 180000.0, 9000.0, 189000.0), growth.years().get(0));
+        // Year 2: one raise and twice the headcount
+        assertEquals(new PayrollProjection.Year(2, 6, 396000.0, 19800.0, 415800.0), growth.years().get(1));
+        assertEquals(new PayrollProjection.Year(3, 12, 871200.0, 43560.0, 914760.0), growth.years().get(2));
+        assertEquals(1519560.0, growth.total());
+    }
+
+    @Test
+    @DisplayName("Should only project the employees matching the filters")
+    void project_WithFilters_ShouldSelectEmployees() {
+        // Act
+        PayrollProjection byAge = payrollService.project(new PayrollRequest(null, null, 40, null, null, null, null));
+        PayrollProjection byIdAndSalary = payrollService.project(
+                new PayrollRequest(1, List.of(3L, 1L, 99L), null, null, 4500.0, null, null));
+
+        // Assert
+        assertEquals(2, byAge.employees());
+        assertEquals(120000.0, byAge.scenarios().get(0).total());
+        assertEquals("base", byAge.scenarios().get(0).name());
+        assertEquals(1, byIdAndSalary.employees());
+        assertEquals(60000.0, byIdAndSalary.annualSalaries());
+    }
+
+    @Test
+    @DisplayName("Large selections should be summed in parallel with the same result")
+    void project_WithLargeSelection_ShouldSumInParallel() {
+        // Arrange
+        ReflectionTestUtils.setField(payrollService, "forkThreshold", 1000);
+        List<Employee> employees = new ArrayList<>();
+        double expected = 0;
+        for (int i = 1; i <= 100_000; i++) {
+            double salary = 1000 + i % 997;
+            employees.add(new Employee(i, "Employee " + i, 20 + i % 40, salary, null, salary * 12, 0));
+            expected += salary * 12;
+        }
+        when(employeeService.findAllEmployees()).thenReturn(employees);
+
+        // Act
+        PayrollProjection projection = payrollService.project(new PayrollRequest(1, null, null, null, null, null, null));
+
+        // Assert
+        assertEquals(100_000, projection.employees());
+        assertEquals(expected, projection.annualSalaries(), 0.01);
+    }
+
+    @Test
+    @DisplayName("Should stream one NDJSON line per employee with the yearly cost of each scenario")
+    void writeEmployees_ShouldStreamNdjson() throws Exception {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PayrollRequest request = new PayrollRequest(2, List.of(1L, 3L), null, null, null, null, List.of(
+                new PayrollRequest.Scenario("raise", 10, 10, 50)));
+
+        // Act
+        long written = payrollService.writeEmployees(request, () -> output);
+
+        // Assert
+        assertEquals(2, written);
+        assertEquals("{\"id\":1,\"name\":\"John Doe\",\"annualSalary\":60000.0,\"scenarios\":{\"raise\":[66000.0,72600.0]}}\n"
+                        + "{\"id\":3,\"name\":\"Jim Brown\",\"annualSalary\":48000.0,\"scenarios\":{\"raise\":[52800.0,58080.0]}}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid requests before writing anything")
+    void writeEmployees_WithInvalidRequest_ShouldThrowBadRequest() {
+        // Arrange
+        PayrollRequest tooManyYears = new PayrollRequest(51, null, null, null, null, null, null);
+        PayrollRequest duplicate = new PayrollRequest(1, null, null, null, null, null, List.of(
+                new PayrollRequest.Scenario("a", 0, 0, 0), new PayrollRequest.Scenario("a", 1, 0, 0)));
+        PayrollRequest negative = new PayrollRequest(1, null, null, null, null, null, List.of(
+                new PayrollRequest.Scenario("cut", -100, 0, 0)));
+        PayrollRequest nullId = new PayrollRequest(1, Arrays.asList(1L, null), null, null, null, null, null);
+
+        // Act & Assert
+        for (PayrollRequest request : List.of(tooManyYears, duplicate, negative, nullId)) {
+            assertThrows(BadRequestException.class, () -> payrollService.writeEmployees(request, () -> {
+                throw new AssertionError("Output opened");
+            }));
+            assertThrows(BadRequestException.class, () -> payrollService.project(request));
+        }
+        verifyNoInteractions(employeeService);
+    }
+}
@@ -0,0 +1,146 @@
+package com.amaris.employee_management;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.amaris.employee_management.client.EmployeeFeignClient;
+import com.amaris.employee_management.config.SampledFeignLogger;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SampledFeignLoggerTest {
+
+    private static final String BODY = "{\"status\":\"success\",\"data\":[]}";
+
+    private Logger logbackLogger;
+    private ListAppender<ILoggingEvent> appender;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        logbackLogger = (Logger) LoggerFactory.getLogger(EmployeeFeignClient.class);
+        previousLevel = logbackLogger.getLevel();
+        logbackLogger.setLevel(Level.INFO);
+        appender = new ListAppender<>();
+        appender.start();
+        logbackLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logbackLogger.detachAppender(appender);
+        logbackLogger.setLevel(previousLevel);
+    }
+
+    @Test
+    @DisplayName("A fast successful call that is not sampled should not be logged or buffered")
+    void fastCall_NotSampled_ShouldBeSkipped() throws Exception {
+        // Arrange
+        TestLogger logger = new TestLogger(0.0);
+        Response response = response(200, streamingBody());
+
+        // Act
+        Response logged = logger.respond(response, 10);
+
+        // Assert
+        assertSame(response, logged);
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A failed call should always be logged in full at WARN")
+    void failedCall_ShouldBeLoggedInFull() throws Exception {
+        // Arrange
+        TestLogger logger = new TestLogger(0.0);
+
+        // Act
+        Response logged = logger.respond(response(503, streamingBody()), 10);
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.WARN, event.getLevel());
+        assertTrue(event.getFormattedMessage().contains("-> 503 (10ms, error)"));
+        assertTrue(event.getFormattedMessage().contains("< " + BODY));
+        assertEquals(BODY, Util.toString(logged.body().asReader(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("A slow call should always be logged in full at WARN")
+    void slowCall_ShouldBeLoggedInFull() throws Exception {
+        // Arrange
+        TestLogger logger = new TestLogger(0.0);
+
+        // Act
+        logger.respond(response(200, streamingBody()), 1500);
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        assertEquals(Level.WARN, appender.list.get(0).getLevel());
+        assertTrue(appender.list.get(0).getFormattedMessage().contains("(1500ms, slow)"));
+    }
+
+    @Test
+    @DisplayName("A sampled call should be logged at INFO with the configured detail")
+    void sampledCall_ShouldUseConfiguredLevel() throws Exception {
+        // Arrange
+        TestLogger logger = new TestLogger(1.0);
+
+        // Act
+        Response logged = logger.respond(response(200, streamingBody()), 10, feign.Logger.Level.BASIC);
+
+        // Assert
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals(Level.INFO, event.getLevel());
+        assertTrue(event.getFormattedMessage().contains("GET http://localhost/employees -> 200 (10ms, sampled)"));
+        assertFalse(event.getFormattedMessage().contains(BODY));
+        assertEquals(BODY, Util.toString(logged.body().asReader(StandardCharsets.UTF_8)));
+    }
+
+    private static ByteArrayInputStream streamingBody() {
+        return new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Response response(int status, ByteArrayInputStream body) {
+        Map<String, Collection<String>> headers = Map.of("Content-Type", List.of("application/json"));
+        Request request = Request.create(Request.HttpMethod.GET, "http://localhost/employees",
+                headers, null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(status)
+                .request(request)
+                .headers(headers)
+                .body(body, BODY.length())
+                .build();
+    }
+
+    /** Exposes the protected Feign logger callbacks to the tests */
+    private static class TestLogger extends SampledFeignLogger {
+        TestLogger(double sampleRate) {
+            super(EmployeeFeignClient.class, sampleRate, 1000, 2048);
+        }
+
+        Response respond(Response response, long elapsedTime) throws Exception {
+            return respond(response, elapsedTime, feign.Logger.Level.FULL);
+        }
+
+        Response respond(Response response, long elapsedTime, feign.Logger.Level level) throws Exception {
+            return logAndRebufferResponse("EmployeeFeignClient#getAllEmployees()", level, response, elapsedTime);
+        }
+    }
+}
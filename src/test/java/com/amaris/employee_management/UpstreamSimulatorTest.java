@@ -0,0 +1,139 @@
+package com.amaris.employee_management;
+
+import com.amaris.employee_management.client.dto.EmployeeDTO;
+import com.amaris.employee_management.client.dto.ResponseDTO;
+import com.amaris.employee_management.simulator.LatencyDistribution;
+import com.amaris.employee_management.simulator.LoadDriver;
+import com.amaris.employee_management.simulator.LoadDriver.EndpointStats;
+import com.amaris.employee_management.simulator.UpstreamSimulator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamSimulatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private UpstreamSimulator simulator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        simulator = new UpstreamSimulator(0, 50, 4, objectMapper);
+        simulator.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulator.stop();
+    }
+
+    @Test
+    @DisplayName("Should serve the synthetic dataset in the external API format")
+    void shouldServeEmployees() throws Exception {
+        // Act
+        HttpResponse<String> all = get("/employees");
+        HttpResponse<String> one = get("/employee/7");
+        HttpResponse<String> missing = get("/employee/51");
+
+        // Assert
+        assertEquals(200, all.statusCode());
+        ResponseDTO<List<EmployeeDTO>> allBody = objectMapper.readValue(all.body(), new TypeReference<>() {});
+        assertEquals(50, allBody.getData().size());
+
+        ResponseDTO<EmployeeDTO> oneBody = objectMapper.readValue(one.body(), new TypeReference<>() {});
+        assertEquals(7L, oneBody.getData().getId());
+        assertEquals("Employee 7", oneBody.getData().getName());
+
+        assertEquals(200, missing.statusCode());
+        assertNull(objectMapper.readValue(missing.body(), ResponseDTO.class).getData());
+    }
+
+    @Test
+    @DisplayName("Should inject 429 and 5xx responses at the configured rates")
+    void shouldInjectErrors() throws Exception {
+        // Arrange
+        simulator.setTooManyRequestsRate(1.0);
+        simulator.setRetryAfterSeconds(3);
+
+        // Act
+        HttpResponse<String> limited = get("/employees");
+        simulator.setTooManyRequestsRate(0);
+        simulator.setServerErrorRate(1.0);
+        simulator.setServerErrorStatus(502);
+        HttpResponse<String> failed = get("/employees");
+
+        // Assert
+        assertEquals(429, limited.statusCode());
+        assertEquals("3", limited.headers().firstValue("Retry-After").orElse(null));
+        assertEquals(502, failed.statusCode());
+        assertEquals(2, simulator.getRequestCount());
+        assertEquals(1L, simulator.getResponseCounts().get(429));
+        assertEquals(1L, simulator.getResponseCounts().get(502));
+    }
+
+    @Test
+    @DisplayName("Latency distributions should be parsed from their spec")
+    void latencyDistributions_ShouldBeParsed() {
+        // Arrange
+        Random random = new Random(42);
+
+        // Act & Assert
+        assertEquals(0, LatencyDistribution.parse("none").sampleMillis(random));
+        assertEquals(50, LatencyDistribution.parse("fixed:50").sampleMillis(random));
+        for (int i = 0; i < 100; i++) {
+            long uniform = LatencyDistribution.parse("uniform:10-20").sampleMillis(random);
+            assertTrue(uniform >= 10 && uniform <= 20);
+        }
+        long[] samples = new long[10_000];
+        LatencyDistribution logNormal = LatencyDistribution.parse("lognormal:40,400");
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = logNormal.sampleMillis(random);
+        }
+        Arrays.sort(samples);
+        assertEquals(40, samples[5_000], 5);
+        assertEquals(400, samples[9_900], 80);
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("gaussian:1"));
+    }
+
+    @Test
+    @DisplayName("Load driver should report throughput and percentiles per path")
+    void loadDriver_ShouldReportPerPath() throws Exception {
+        // Arrange
+        simulator.setLatency(LatencyDistribution.fixed(5));
+        simulator.setServerErrorRate(0.5);
+        LoadDriver driver = new LoadDriver(simulator.getUrl(), 4, Duration.ZERO, Duration.ofSeconds(1), 0, 50);
+
+        // Act
+        LoadDriver.Report report = driver.run(List.of("/employees", "/employee/{id}"));
+
+        // Assert
+        assertEquals(2, report.endpoints().size());
+        for (EndpointStats stats : report.endpoints()) {
+            assertTrue(stats.requests() > 0);
+            assertTrue(stats.errors() > 0 && stats.errors() < stats.requests());
+            assertTrue(stats.p50Ms() >= 5);
+            assertTrue(stats.p99Ms() >= stats.p50Ms());
+            assertTrue(stats.p999Ms() >= stats.p99Ms());
+        }
+        assertTrue(report.format().contains("/employee/{id}"));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(simulator.getUrl() + path)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}